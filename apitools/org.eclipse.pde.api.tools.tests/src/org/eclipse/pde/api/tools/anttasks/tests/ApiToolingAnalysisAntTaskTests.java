@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,13 +14,26 @@
 package org.eclipse.pde.api.tools.anttasks.tests;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Properties;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
+import org.eclipse.pde.api.tools.internal.IApiXmlConstants;
+import org.eclipse.pde.api.tools.internal.util.Util;
 import org.junit.Test;
+import org.w3c.dom.Element;
 
 public class ApiToolingAnalysisAntTaskTests extends AntRunnerTestCase {
 	@Override
@@ -148,4 +161,42 @@ public class ApiToolingAnalysisAntTaskTests extends AntRunnerTestCase {
 		assertTrue("deltatest folder must exist", folder.exists()); //$NON-NLS-1$
 		assertTrue("report.xml file must be there", folder.getFile("report.xml").exists()); //$NON-NLS-1$ //$NON-NLS-2$
 	}
+
+	/**
+	 * Test that a zip archive of the current installation is analyzed in
+	 * place and its problems are reported
+	 */
+	@Test
+	public void test8() throws Exception {
+		IFolder buildFolder = newTest("test1"); //$NON-NLS-1$
+		String buildXMLPath = buildFolder.getFile("build.xml").getLocation().toOSString(); //$NON-NLS-1$
+		Path archive = buildFolder.getLocation().toPath().resolve("after.zip"); //$NON-NLS-1$
+		zip(buildFolder.getFolder("after").getLocation().toPath(), archive); //$NON-NLS-1$
+		Properties properties = new Properties();
+		properties.put("reference_location", buildFolder.getFile("before").getLocation().toOSString()); //$NON-NLS-1$ //$NON-NLS-2$
+		properties.put("current_location", archive.toString()); //$NON-NLS-1$
+		properties.put("report_location", buildFolder.getLocation().toOSString()); //$NON-NLS-1$
+		runAntScript(buildXMLPath, new String[] { "run" }, buildFolder.getLocation().toOSString(), properties); //$NON-NLS-1$
+		assertFalse("allNonApiBundles must not exist", buildFolder.getFolder("allNonApiBundles").exists()); //$NON-NLS-1$ //$NON-NLS-2$
+		IFolder folder = buildFolder.getFolder("deltatest"); //$NON-NLS-1$
+		assertTrue("deltatest folder must exist", folder.exists()); //$NON-NLS-1$
+		IFile report = folder.getFile("report.xml"); //$NON-NLS-1$
+		assertTrue("report.xml file must be there", report.exists()); //$NON-NLS-1$
+		Element root = Util.parseDocument(Files.readString(report.getLocation().toPath()));
+		assertNotEquals("problems must be reported", 0, root.getElementsByTagName(IApiXmlConstants.ELEMENT_API_PROBLEM).getLength()); //$NON-NLS-1$
+	}
+
+	private static void zip(Path folder, Path archive) throws IOException {
+		List<Path> files;
+		try (Stream<Path> stream = Files.walk(folder)) {
+			files = stream.filter(Files::isRegularFile).toList();
+		}
+		try (OutputStream out = Files.newOutputStream(archive); ZipOutputStream zip = new ZipOutputStream(out)) {
+			for (Path file : files) {
+				zip.putNextEntry(new ZipEntry(folder.relativize(file).toString().replace('\\', '/')));
+				Files.copy(file, zip);
+				zip.closeEntry();
+			}
+		}
+	}
 }
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.builder.BuildState;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.tests.util.ProjectUtils;
+import org.eclipse.pde.internal.core.natures.PluginProject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that a build state log that was damaged is discarded, so that a full
+ * build is done, and that the log is compacted as it grows
+ */
+public class BuildStateLogTests {
+
+	private IProject project;
+
+	@Before
+	public void setUp() throws Exception {
+		project = ProjectUtils.createPluginProject("buildstatelog", //$NON-NLS-1$
+				new String[] { PluginProject.NATURE, ApiPlugin.NATURE_ID }).getProject();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		project.delete(true, true, null);
+	}
+
+	private File getStateFile() {
+		return project.getWorkingLocation(ApiPlugin.PLUGIN_ID).append("state.dat").toFile(); //$NON-NLS-1$
+	}
+
+	/**
+	 * Saves a snapshot and appends a record with changes to it
+	 *
+	 * @return the length of the snapshot
+	 */
+	private long saveSnapshotAndChanges() throws CoreException {
+		BuildState state = new BuildState();
+		state.setBuildPathCRC(1);
+		BuildState.setLastBuiltState(project, state);
+		long snapshot = getStateFile().length();
+		state.setBuildPathCRC(2);
+		state.addApiToolingDependentProject("dependent"); //$NON-NLS-1$
+		BuildState.setLastBuiltState(project, state);
+		assertTrue("the changes should be appended", getStateFile().length() > snapshot); //$NON-NLS-1$
+		return snapshot;
+	}
+
+	@Test
+	public void testReadAppendedChanges() throws CoreException {
+		saveSnapshotAndChanges();
+		BuildState state = BuildState.getLastBuiltState(project);
+		assertNotNull("the state should be read", state); //$NON-NLS-1$
+		assertEquals("the changes should be applied", 2, state.getBuildPathCRC()); //$NON-NLS-1$
+		assertTrue("the changes should be applied", state.getApiToolingDependentProjects().contains("dependent")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testTruncatedMidRecord() throws CoreException, IOException {
+		saveSnapshotAndChanges();
+		File file = getStateFile();
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) { //$NON-NLS-1$
+			raf.setLength(file.length() - 3);
+		}
+		assertNull("a truncated log should require a full build", BuildState.getLastBuiltState(project)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testCorrupted() throws CoreException, IOException {
+		saveSnapshotAndChanges();
+		File file = getStateFile();
+		byte[] bytes = Files.readAllBytes(file.toPath());
+		bytes[bytes.length - 2] ^= 0x5A;
+		Files.write(file.toPath(), bytes);
+		assertNull("a corrupted log should require a full build", BuildState.getLastBuiltState(project)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testRestoredPartway() throws CoreException, IOException {
+		long snapshot = saveSnapshotAndChanges();
+		File file = getStateFile();
+		byte[] bytes = Files.readAllBytes(file.toPath());
+		// the log as it was while the next build was running: the snapshot
+		// followed by the empty build-started record (kind 3, length 0, the
+		// CRC32 of no bytes)
+		byte[] restored = Arrays.copyOf(bytes, (int) snapshot + 9);
+		Arrays.fill(restored, (int) snapshot, restored.length, (byte) 0);
+		restored[(int) snapshot] = 3;
+		Files.write(file.toPath(), restored);
+		assertNull("a log ending in an unfinished build should require a full build", BuildState.getLastBuiltState(project)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testCompaction() throws CoreException {
+		BuildState state = new BuildState();
+		BuildState.setLastBuiltState(project, state);
+		long snapshot = getStateFile().length();
+		for (int i = 0; i < 200; i++) {
+			state.setBuildPathCRC(i);
+			BuildState.setLastBuiltState(project, state);
+		}
+		assertTrue("the log should be compacted", getStateFile().length() <= 3 * snapshot); //$NON-NLS-1$
+		state = BuildState.getLastBuiltState(project);
+		assertNotNull("the compacted state should be read", state); //$NON-NLS-1$
+		assertEquals("the last changes should be kept", 199, state.getBuildPathCRC()); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.core.builder.ReferenceCollection;
+import org.eclipse.jdt.internal.core.builder.StringSet;
+import org.eclipse.pde.api.tools.internal.builder.DependentsIndex;
+import org.junit.Test;
+
+/**
+ * Tests that the dependents found through a {@link DependentsIndex} are the
+ * same as the ones found by testing the reference collection of every
+ * compilation unit
+ */
+public class DependentsIndexTests {
+
+	private static ReferenceCollection references(String[] qualifiedNames, String[] simpleNames) {
+		char[][][] qualified = new char[qualifiedNames.length][][];
+		for (int i = 0; i < qualifiedNames.length; i++) {
+			qualified[i] = CharOperation.splitOn('/', qualifiedNames[i].toCharArray());
+		}
+		char[][] simple = new char[simpleNames.length][];
+		for (int i = 0; i < simpleNames.length; i++) {
+			simple[i] = simpleNames[i].toCharArray();
+		}
+		return new ReferenceCollection(qualified, simple, CharOperation.NO_CHAR_CHAR) {
+		};
+	}
+
+	private static char[][][] qualified(String... names) {
+		StringSet set = new StringSet(names.length);
+		for (String name : names) {
+			set.add(name);
+		}
+		return ReferenceCollection.internQualifiedNames(set);
+	}
+
+	private static char[][] simple(String... names) {
+		StringSet set = new StringSet(names.length);
+		for (String name : names) {
+			set.add(name);
+		}
+		return ReferenceCollection.internSimpleNames(set, true);
+	}
+
+	/**
+	 * Asserts that the index answers the same dependents as a scan of all
+	 * reference collections
+	 */
+	private static void assertFullScan(DependentsIndex index, Map<String, ReferenceCollection> references, char[][][] qualifiedNames, char[][] simpleNames) {
+		Set<String> expected = new HashSet<>();
+		for (Entry<String, ReferenceCollection> entry : references.entrySet()) {
+			if (entry.getValue().includes(qualifiedNames, simpleNames, null)) {
+				expected.add(entry.getKey());
+			}
+		}
+		assertEquals("wrong dependents", expected, index.getDependents(references, qualifiedNames, simpleNames)); //$NON-NLS-1$
+	}
+
+	private static void assertAllQueries(DependentsIndex index, Map<String, ReferenceCollection> references) {
+		assertFullScan(index, references, qualified("a/b"), simple("Y")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertFullScan(index, references, qualified("c"), simple("X", "Z")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertFullScan(index, references, null, simple("X")); //$NON-NLS-1$
+		assertFullScan(index, references, qualified("a/b", "c"), null); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testLookup() {
+		Map<String, ReferenceCollection> references = new LinkedHashMap<>();
+		references.put("src/a/b/A.java", references(new String[] { "a/b" }, new String[] { "X", "Y" })); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		references.put("src/a/b/B.java", references(new String[] { "a/b", "c" }, new String[] { "Y" })); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		references.put("src/c/C.java", references(new String[] { "c" }, new String[] { "Z" })); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		DependentsIndex index = new DependentsIndex();
+		index.reconcile(references);
+		assertAllQueries(index, references);
+		// answered from the index the second time
+		assertAllQueries(index, references);
+	}
+
+	@Test
+	public void testReconcile() {
+		Map<String, ReferenceCollection> references = new LinkedHashMap<>();
+		references.put("src/a/b/A.java", references(new String[] { "a/b" }, new String[] { "X", "Y" })); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		references.put("src/a/b/B.java", references(new String[] { "a/b", "c" }, new String[] { "Y" })); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		references.put("src/c/C.java", references(new String[] { "c" }, new String[] { "Z" })); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		DependentsIndex index = new DependentsIndex();
+		index.reconcile(references);
+		assertAllQueries(index, references);
+
+		// B is recompiled, C is deleted and D is added, A is unchanged
+		Map<String, ReferenceCollection> next = new LinkedHashMap<>(references);
+		next.put("src/a/b/B.java", references(new String[] { "c" }, new String[] { "X" })); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		next.remove("src/c/C.java"); //$NON-NLS-1$
+		next.put("src/d/D.java", references(new String[] { "a/b" }, new String[] { "Y", "Z" })); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		index.reconcile(next);
+		assertAllQueries(index, next);
+
+		// a build without changes
+		index.reconcile(new LinkedHashMap<>(next));
+		assertAllQueries(index, next);
+	}
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.api.tools.internal.APIFileGenerator;
+import org.eclipse.pde.api.tools.internal.ApiDescription;
+import org.eclipse.pde.api.tools.internal.ApiDescriptionXmlCreator;
+import org.eclipse.pde.api.tools.internal.CompilationUnit;
+import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
+import org.eclipse.pde.api.tools.internal.model.DirectoryApiTypeContainer;
+import org.eclipse.pde.api.tools.internal.provisional.scanner.TagScanner;
+import org.eclipse.pde.api.tools.internal.util.Util;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests that the API description generated for a source tree is the same as
+ * the one of a sequential scan of every compilation unit into a single
+ * description
+ */
+public class APIFileGeneratorTests {
+
+	private static final IPath SRC_LOC = TestSuiteHelper.getPluginDirectoryPath().append("test-source"); //$NON-NLS-1$
+	private static final IPath BIN_LOC = TestSuiteHelper.getPluginDirectoryPath().append("test-classes"); //$NON-NLS-1$
+	private static final String PROJECT_NAME = "test.api.description"; //$NON-NLS-1$
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Creates a project with the test sources of the package <code>a.b.c</code>
+	 * exported as API
+	 */
+	private File createProject() throws IOException {
+		File root = folder.newFolder("project"); //$NON-NLS-1$
+		Path manifest = root.toPath().resolve("META-INF/MANIFEST.MF"); //$NON-NLS-1$
+		Files.createDirectories(manifest.getParent());
+		Files.writeString(manifest, "Manifest-Version: 1.0\n" //$NON-NLS-1$
+				+ "Bundle-ManifestVersion: 2\n" //$NON-NLS-1$
+				+ "Bundle-SymbolicName: " + PROJECT_NAME + "\n" //$NON-NLS-1$ //$NON-NLS-2$
+				+ "Bundle-Version: 1.0.0\n" //$NON-NLS-1$
+				+ "Bundle-RequiredExecutionEnvironment: JavaSE-1.8\n" //$NON-NLS-1$
+				+ "Export-Package: a.b.c\n", StandardCharsets.UTF_8); //$NON-NLS-1$
+		Path source = SRC_LOC.append("a/b/c").toFile().toPath(); //$NON-NLS-1$
+		Path target = root.toPath().resolve("a/b/c"); //$NON-NLS-1$
+		Files.createDirectories(target);
+		try (Stream<Path> files = Files.list(source)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				if (Files.isRegularFile(file)) {
+					Files.copy(file, target.resolve(file.getFileName().toString()));
+				}
+			}
+		}
+		return root;
+	}
+
+	/**
+	 * Scans all compilation units of the given project one after the other
+	 * into a single description and writes it to the given folder
+	 */
+	private static Path writeSequentialScan(File root, File targetFolder) throws CoreException, IOException {
+		Map<String, String> options = JavaCore.getOptions();
+		options.put(JavaCore.COMPILER_COMPLIANCE, JavaCore.VERSION_1_8);
+		ApiDescription description = new ApiDescription(PROJECT_NAME);
+		FileFilter filter = path -> (path.isFile() && Util.isJavaFileName(path.getName())) || path.isDirectory();
+		DirectoryApiTypeContainer container = new DirectoryApiTypeContainer(null, BIN_LOC.toOSString());
+		try {
+			for (File file : Util.getAllFiles(root, filter)) {
+				try {
+					TagScanner.newScanner().scan(new CompilationUnit(file.getAbsolutePath(), IApiCoreConstants.UTF_8), description, container, options, null);
+				} catch (CoreException e) {
+					// the generator logs and skips such units as well
+				}
+			}
+		} finally {
+			container.close();
+		}
+		ApiDescriptionXmlCreator xmlVisitor = new ApiDescriptionXmlCreator(PROJECT_NAME, PROJECT_NAME);
+		description.accept(xmlVisitor, null);
+		Path file = targetFolder.toPath().resolve(IApiCoreConstants.API_DESCRIPTION_XML_NAME);
+		Util.writeDocumentToFile(xmlVisitor.getXML(), file);
+		return file;
+	}
+
+	/**
+	 * Tests that the generated .api_description is byte-identical to the one
+	 * of a sequential scan of all units
+	 */
+	@Test
+	public void testSameAsSequentialScan() throws Exception {
+		File root = createProject();
+		File generated = folder.newFolder("generated"); //$NON-NLS-1$
+		APIFileGenerator generator = new APIFileGenerator();
+		generator.projectName = PROJECT_NAME;
+		generator.projectLocation = root.getAbsolutePath();
+		generator.binaryLocations = BIN_LOC.toOSString();
+		generator.targetFolder = generated.getAbsolutePath();
+		generator.allowNonApiProject = true;
+		generator.encoding = IApiCoreConstants.UTF_8;
+		generator.generateAPIFile();
+		Path file = generated.toPath().resolve(IApiCoreConstants.API_DESCRIPTION_XML_NAME);
+		assertTrue("the API description should be generated", Files.isRegularFile(file)); //$NON-NLS-1$
+
+		Path expected = writeSequentialScan(root, folder.newFolder("sequential")); //$NON-NLS-1$
+		assertArrayEquals("the API description should be the same as the one of a sequential scan", //$NON-NLS-1$
+				Files.readAllBytes(expected), Files.readAllBytes(file));
+	}
+}
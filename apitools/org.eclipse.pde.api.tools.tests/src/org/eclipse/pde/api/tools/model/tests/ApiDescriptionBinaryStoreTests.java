@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.pde.api.tools.internal.ApiDescriptionBinaryStore;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.util.Util;
+import org.eclipse.pde.api.tools.tests.AbstractApiTest;
+import org.eclipse.pde.api.tools.tests.util.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ApiDescriptionBinaryStore}
+ */
+public class ApiDescriptionBinaryStoreTests extends AbstractApiTest {
+
+	private static final IPath SRC_LOC = TestSuiteHelper.getPluginDirectoryPath().append("test-source"); //$NON-NLS-1$
+
+	private Path fFile;
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		createProject(TESTING_PLUGIN_PROJECT_NAME, null);
+		File projectSrc = SRC_LOC.toFile();
+		assertTrue("the source dir must exist", projectSrc.exists()); //$NON-NLS-1$
+		IJavaProject project = getTestingJavaProject(TESTING_PLUGIN_PROJECT_NAME);
+		IPackageFragmentRoot srcroot = project.findPackageFragmentRoot(project.getProject().getFullPath().append("src")); //$NON-NLS-1$
+		assertNotNull("the default src root must exist", srcroot); //$NON-NLS-1$
+		FileUtils.importFileFromDirectory(projectSrc, srcroot.getPath());
+		fFile = Files.createTempFile("api_description", ".bin"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		Files.deleteIfExists(fFile);
+		deleteProject(TESTING_PLUGIN_PROJECT_NAME);
+		super.tearDown();
+	}
+
+	/**
+	 * Tests that a description restored from the binary form saves the same
+	 * XML as the original description
+	 */
+	@Test
+	public void testWriteRead() throws Exception {
+		IApiComponent component = getProjectApiComponent(TESTING_PLUGIN_PROJECT_NAME);
+		assertNotNull("the testing project api component must exist", component); //$NON-NLS-1$
+		ProjectApiDescription description = (ProjectApiDescription) component.getApiDescription();
+		// visiting the description populates it from the project
+		description.accept(new ApiDescriptionVisitor() {
+		}, null);
+		ApiDescriptionBinaryStore.write(description, fFile);
+
+		IJavaProject project = getTestingJavaProject(TESTING_PLUGIN_PROJECT_NAME);
+		ProjectApiDescription restored = new ProjectApiDescription(project);
+		assertTrue("the description should be restored", //$NON-NLS-1$
+				ApiDescriptionBinaryStore.read(project, restored, fFile));
+		assertEquals("the restored description should match", Util.serializeDocument(description.getXML()), //$NON-NLS-1$
+				Util.serializeDocument(restored.getXML()));
+	}
+
+	/**
+	 * Tests that a damaged file is not restored, so that callers fall back to
+	 * the XML form
+	 */
+	@Test
+	public void testReadDamaged() throws Exception {
+		IApiComponent component = getProjectApiComponent(TESTING_PLUGIN_PROJECT_NAME);
+		assertNotNull("the testing project api component must exist", component); //$NON-NLS-1$
+		ProjectApiDescription description = (ProjectApiDescription) component.getApiDescription();
+		description.accept(new ApiDescriptionVisitor() {
+		}, null);
+		ApiDescriptionBinaryStore.write(description, fFile);
+		byte[] bytes = Files.readAllBytes(fFile);
+		bytes[bytes.length - 1] ^= 1;
+		Files.write(fFile, bytes);
+
+		IJavaProject project = getTestingJavaProject(TESTING_PLUGIN_PROJECT_NAME);
+		assertFalse("a damaged file should not be restored", //$NON-NLS-1$
+				ApiDescriptionBinaryStore.read(project, new ProjectApiDescription(project), fFile));
+	}
+}
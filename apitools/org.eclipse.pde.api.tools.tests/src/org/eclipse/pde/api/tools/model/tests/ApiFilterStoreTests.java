@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2024 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.util.stream.IntStream;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -211,6 +212,29 @@ public class ApiFilterStoreTests extends AbstractApiTest {
 		assertFalse("src/x/y/z/C4.java should not have a filter", store.isFiltered(problem)); //$NON-NLS-1$
 	}
 
+	/**
+	 * tests that a filter added after the store has been queried is matched
+	 */
+	@Test
+	public void testAddFilterAfterLookup() throws CoreException {
+		IApiComponent component = getProjectApiComponent(TESTING_PLUGIN_PROJECT_NAME);
+		assertNotNull("the testing project api component must exist", component); //$NON-NLS-1$
+		IProject project = getTestingJavaProject(TESTING_PLUGIN_PROJECT_NAME).getProject();
+		IResource resource = project.findMember(IPath.fromOSString("src/x/y/z/C4.java")); //$NON-NLS-1$
+		assertNotNull("the resource src/x/y/z/C4.java must exist", resource); //$NON-NLS-1$
+		IApiProblem problem = ApiProblemFactory.newApiProblem(resource.getProjectRelativePath().toPortableString(),
+				null, null, null, null, -1, -1, -1, IApiProblem.CATEGORY_USAGE, 0, RestrictionModifiers.NO_IMPLEMENT,
+				IApiProblem.NO_FLAGS);
+		IApiFilterStore store = component.getFilterStore();
+		assertFalse("src/x/y/z/C4.java should not have a filter yet", store.isFiltered(problem)); //$NON-NLS-1$
+		store.addFilters(new IApiProblemFilter[] {
+				ApiProblemFactory.newProblemFilter(component.getSymbolicName(), problem, null) });
+		assertTrue("src/x/y/z/C4.java should have a filter", store.isFiltered(problem)); //$NON-NLS-1$
+		store.removeFilters(new IApiProblemFilter[] {
+				ApiProblemFactory.newProblemFilter(component.getSymbolicName(), problem, null) });
+		assertFalse("src/x/y/z/C4.java should not have a filter", store.isFiltered(problem)); //$NON-NLS-1$
+	}
+
 	/**
 	 * tests adding a filter using the method that accepts an api problem
 	 */
@@ -232,6 +256,44 @@ public class ApiFilterStoreTests extends AbstractApiTest {
 		assertFalse("src/x/y/z/C4.java should not have a filter", store.isFiltered(problem)); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests that filters are matched and their usage is recorded when the store
+	 * is queried from several threads
+	 */
+	@Test
+	public void testConcurrentFilterUsage() throws CoreException {
+		IApiComponent component = getProjectApiComponent(TESTING_PLUGIN_PROJECT_NAME);
+		assertNotNull("the testing project api component must exist", component); //$NON-NLS-1$
+		IProject project = getTestingJavaProject(TESTING_PLUGIN_PROJECT_NAME).getProject();
+		IResource resource = project.findMember(IPath.fromOSString("src/x/C1.java")); //$NON-NLS-1$
+		assertNotNull("the resource src/x/C1.java must exist", resource); //$NON-NLS-1$
+		String path = resource.getProjectRelativePath().toPortableString();
+		IApiProblem filtered = ApiProblemFactory.newApiProblem(path, "x.C1", new String[] { "x.C1", "m()" }, null, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				null, -1, -1, -1, IApiProblem.CATEGORY_USAGE, IElementDescriptor.METHOD,
+				RestrictionModifiers.NO_REFERENCE, IApiProblem.NO_FLAGS);
+		IApiProblem unused = ApiProblemFactory.newApiProblem(path, "x.C1", null, null, null, -1, -1, -1, //$NON-NLS-1$
+				IApiProblem.CATEGORY_USAGE, 0, RestrictionModifiers.NO_IMPLEMENT, IApiProblem.NO_FLAGS);
+		ApiFilterStore store = (ApiFilterStore) component.getFilterStore();
+		store.addFiltersFor(new IApiProblem[] { filtered, unused });
+		try {
+			store.recordFilterUsage();
+			// simple name arguments of a problem match qualified filter arguments
+			IApiProblem reported = ApiProblemFactory.newApiProblem(path, "x.C1", new String[] { "C1", "m()" }, null, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					null, -1, -1, -1, IApiProblem.CATEGORY_USAGE, IElementDescriptor.METHOD,
+					RestrictionModifiers.NO_REFERENCE, IApiProblem.NO_FLAGS);
+			assertTrue("all lookups should be filtered", //$NON-NLS-1$
+					IntStream.range(0, 100).parallel().allMatch(i -> store.isFiltered(reported)));
+			IApiProblemFilter[] unusedFilters = store.getUnusedFilters(resource, "x.C1", null); //$NON-NLS-1$
+			assertEquals("only one filter should be unused", 1, unusedFilters.length); //$NON-NLS-1$
+			assertEquals("the unused filter should be the one not reported", unused.getId(), //$NON-NLS-1$
+					unusedFilters[0].getUnderlyingProblem().getId());
+		} finally {
+			store.removeFilters(new IApiProblemFilter[] {
+					ApiProblemFactory.newProblemFilter(component.getSymbolicName(), filtered, null),
+					ApiProblemFactory.newProblemFilter(component.getSymbolicName(), unused, null) });
+		}
+	}
+
 	/**
 	 * Tests that a filter store will not be annotated from a bundle
 	 */
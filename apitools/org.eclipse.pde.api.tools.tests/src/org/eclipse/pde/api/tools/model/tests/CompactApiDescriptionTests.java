@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.pde.api.tools.internal.ApiDescription;
+import org.eclipse.pde.api.tools.internal.CompactApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
+import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.search.ApiDescriptionModifier;
+import org.junit.Test;
+
+/**
+ * Runs the {@link ApiDescriptionTests} against a {@link CompactApiDescription}
+ * of the test manifest
+ */
+public class CompactApiDescriptionTests extends ApiDescriptionTests {
+
+	@Override
+	protected IApiDescription buildManifest() {
+		IApiDescription description = CompactApiDescription.compact((ApiDescription) super.buildManifest());
+		assertTrue("the manifest should be compacted", description instanceof CompactApiDescription); //$NON-NLS-1$
+		return description;
+	}
+
+	/**
+	 * Tests that the restrictions of members are only reported for an exact
+	 * match
+	 */
+	@Test
+	public void testResolveMember() {
+		IApiDescription manifest = buildManifest();
+		IApiAnnotations annotations = manifest.resolveAnnotations(Factory.fieldDescriptor("a.b.c.D", "f2")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotNull("the field should be found", annotations); //$NON-NLS-1$
+		assertEquals("wrong restrictions", RestrictionModifiers.NO_REFERENCE, annotations.getRestrictions()); //$NON-NLS-1$
+		assertEquals("wrong visibility", VisibilityModifiers.API, annotations.getVisibility()); //$NON-NLS-1$
+
+		annotations = manifest.resolveAnnotations(Factory.fieldDescriptor("a.b.c.D", "unknown")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotNull("the enclosing type should be found", annotations); //$NON-NLS-1$
+		assertEquals("wrong restrictions", RestrictionModifiers.NO_RESTRICTIONS, annotations.getRestrictions()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a compact description is copied on the first change and
+	 * keeps the annotations of the other elements
+	 */
+	@Test
+	public void testCopyOnWrite() {
+		IApiDescription manifest = buildManifest();
+		IElementDescriptor type = Factory.typeDescriptor("a.b.c.B"); //$NON-NLS-1$
+		assertTrue("setting restrictions should succeed", //$NON-NLS-1$
+				manifest.setRestrictions(type, RestrictionModifiers.NO_EXTEND).isOK());
+		assertEquals("the restrictions should be changed", RestrictionModifiers.NO_EXTEND, //$NON-NLS-1$
+				manifest.resolveAnnotations(type).getRestrictions());
+		IApiAnnotations annotations = manifest.resolveAnnotations(Factory.fieldDescriptor("a.b.c.D", "f2")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotNull("the field should be found", annotations); //$NON-NLS-1$
+		assertEquals("wrong restrictions", RestrictionModifiers.NO_REFERENCE, annotations.getRestrictions()); //$NON-NLS-1$
+		assertEquals("wrong visibility", VisibilityModifiers.PRIVATE, //$NON-NLS-1$
+				manifest.resolveAnnotations(Factory.packageDescriptor("a.b.c.internal")).getVisibility()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the package patterns of an API use scan are applied to a
+	 * compact description
+	 */
+	@Test
+	public void testModifyPackageVisibility() {
+		IApiDescription manifest = buildManifest();
+		ApiDescriptionModifier modifier = new ApiDescriptionModifier(new String[] { "^a\\.b\\.c$" }, //$NON-NLS-1$
+				new String[] { "^a\\.b\\.c\\.internal$" }); //$NON-NLS-1$
+		modifier.setApiDescription(manifest);
+		manifest.accept(modifier, null);
+		assertEquals("a.b.c should be internal", VisibilityModifiers.PRIVATE, //$NON-NLS-1$
+				manifest.resolveAnnotations(Factory.typeDescriptor("a.b.c.A")).getVisibility()); //$NON-NLS-1$
+		assertEquals("a.b.c.internal should be API", VisibilityModifiers.API, //$NON-NLS-1$
+				manifest.resolveAnnotations(Factory.packageDescriptor("a.b.c.internal")).getVisibility()); //$NON-NLS-1$
+		assertEquals("a.b.c.spi should be unchanged", VisibilityModifiers.SPI, //$NON-NLS-1$
+				manifest.resolveAnnotations(Factory.packageDescriptor("a.b.c.spi")).getVisibility()); //$NON-NLS-1$
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2018 IBM Corporation and others.
+ * Copyright (c) 2012, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,20 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.model.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -26,7 +34,9 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.pde.api.tools.internal.AntFilterStore;
 import org.eclipse.pde.api.tools.internal.FilterStore;
+import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
 import org.eclipse.pde.api.tools.internal.model.BundleComponent;
 import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -213,4 +223,44 @@ public class FilterStoreTests extends AbstractApiTest {
 		assertFalse("src/x/y/z/C4.java should not have a filter", store.isFiltered(problem)); //$NON-NLS-1$
 	}
 
+
+	/**
+	 * Tests that the problems filtered by Ant filter stores of several
+	 * components analyzed in parallel are all recorded
+	 */
+	@Test
+	public void testAntFilterStoreParallelAnalysis() throws Exception {
+		Path root = Files.createTempDirectory("antfilters"); //$NON-NLS-1$
+		int components = 4;
+		int lookups = 500;
+		for (int i = 0; i < components; i++) {
+			Path folder = Files.createDirectories(root.resolve("component" + i)); //$NON-NLS-1$
+			Files.copy(XML_LOC.append(".api_filters").toFile().toPath(), folder.resolve(IApiCoreConstants.API_FILTERS_XML_NAME)); //$NON-NLS-1$
+		}
+		IApiProblem problem = ApiProblemFactory.newApiProblem("src/x/y/z/C4.java", null, null, null, null, -1, //$NON-NLS-1$
+				-1, -1, IApiProblem.CATEGORY_USAGE, IElementDescriptor.TYPE, IApiProblem.ILLEGAL_IMPLEMENT,
+				IApiProblem.NO_FLAGS);
+		AntFilterStore.filteredAPIProblems.clear();
+		ExecutorService executor = Executors.newFixedThreadPool(components);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < components; i++) {
+				AntFilterStore store = new AntFilterStore(root.toString(), "component" + i); //$NON-NLS-1$
+				futures.add(executor.submit(() -> {
+					for (int j = 0; j < lookups; j++) {
+						assertTrue("the usage problem for src/x/y/z/C4.java should be filtered", store.isFiltered(problem)); //$NON-NLS-1$
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+			assertEquals("all filtered problems must be recorded", components * lookups, //$NON-NLS-1$
+					AntFilterStore.filteredAPIProblems.size());
+		} finally {
+			executor.shutdownNow();
+			AntFilterStore.filteredAPIProblems.clear();
+			FileUtils.delete(root.toString());
+		}
+	}
 }
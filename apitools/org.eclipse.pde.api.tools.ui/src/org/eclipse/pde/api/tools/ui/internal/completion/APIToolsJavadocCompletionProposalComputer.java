@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,11 +23,13 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.CompletionContext;
 import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
@@ -71,9 +73,19 @@ import org.eclipse.swt.graphics.Image;
  */
 public class APIToolsJavadocCompletionProposalComputer implements IJavaCompletionProposalComputer {
 
+	/**
+	 * Member declaration the Javadoc comment of the member is attached to when
+	 * parsing it
+	 */
+	private static final String JAVADOC_HOLDER = "\nvoid m() {}"; //$NON-NLS-1$
+
 	private volatile String fErrorMessage = null;
 	private volatile Image fImageHandle = null;
 	private volatile ASTParser fParser = null;
+	/**
+	 * The Javadoc comment the existing tags were last collected from
+	 */
+	private volatile String fLastJavadoc = null;
 	private final Map<String, Boolean> fExistingTags = new ConcurrentHashMap<>();
 
 	/**
@@ -308,7 +320,8 @@ public class APIToolsJavadocCompletionProposalComputer implements IJavaCompletio
 
 	/**
 	 * Collects the existing tags on the {@link IJavaElement} we have been
-	 * activated on
+	 * activated on. Only the Javadoc comment of the member is parsed, and not
+	 * again if it did not change since the last request.
 	 */
 	private void collectExistingTags(IJavaElement element, JavaContentAssistInvocationContext jcontext) throws JavaModelException {
 		if (element instanceof IMember) {
@@ -318,7 +331,21 @@ public class APIToolsJavadocCompletionProposalComputer implements IJavaCompletio
 				if (cunit.isWorkingCopy()) {
 					cunit.reconcile(ICompilationUnit.NO_AST, false, false, null, null);
 				}
-				fParser.setSource(member.getSource().toCharArray());
+				ISourceRange range = member.getJavadocRange();
+				IBuffer buffer = cunit.getBuffer();
+				if (range == null || buffer == null) {
+					fLastJavadoc = null;
+					fExistingTags.clear();
+					return;
+				}
+				String javadoc = buffer.getText(range.getOffset(), range.getLength());
+				if (javadoc.equals(fLastJavadoc)) {
+					return;
+				}
+				fLastJavadoc = javadoc;
+				fExistingTags.clear();
+				// parse the comment in front of a placeholder member rather than the whole member
+				fParser.setSource((javadoc + JAVADOC_HOLDER).toCharArray());
 				fParser.setKind(ASTParser.K_CLASS_BODY_DECLARATIONS);
 				Map<String, String> options = element.getJavaProject().getOptions(true);
 				options.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.ENABLED);
@@ -335,9 +362,9 @@ public class APIToolsJavadocCompletionProposalComputer implements IJavaCompletio
 						// only one element should be there as we are parsing a
 						// specific member
 						BodyDeclaration bodyDeclaration = bodyDeclarations.iterator().next();
-						Javadoc javadoc = bodyDeclaration.getJavadoc();
-						if (javadoc != null) {
-							javadoc.accept(collector);
+						Javadoc doc = bodyDeclaration.getJavadoc();
+						if (doc != null) {
+							doc.accept(collector);
 						}
 					}
 				}
@@ -381,6 +408,7 @@ public class APIToolsJavadocCompletionProposalComputer implements IJavaCompletio
 			fImageHandle = null;
 		}
 		fParser = null;
+		fLastJavadoc = null;
 		if (fExistingTags != null) {
 			fExistingTags.clear();
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2021 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -43,6 +44,7 @@ import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.Annotation;
@@ -253,6 +255,7 @@ public class JavadocConversionRefactoring extends Refactoring {
 				IApiDescription description = component.getApiDescription();
 				AnnotVisitor visitor = new AnnotVisitor(project, component, description, remove, monitor);
 				description.accept(visitor, null);
+				visitor.collectUpdates();
 				collector.putAll(visitor.changes);
 			}
 		}
@@ -260,11 +263,14 @@ public class JavadocConversionRefactoring extends Refactoring {
 	}
 
 	/**
-	 * Visitor for the API description.
+	 * Visitor for the API description. The compilation units of the visited
+	 * types are collected and parsed in one batch by {@link #collectUpdates()}
+	 * so that each unit is parsed once and all units share their bindings.
 	 */
 	class AnnotVisitor extends ApiDescriptionVisitor {
 
 		Map<IFile, Set<TextEdit>> changes = new HashMap<>();
+		Set<ICompilationUnit> units = new LinkedHashSet<>();
 		boolean remove = false;
 		IJavaProject project = null;
 		IApiComponent component = null;
@@ -297,10 +303,11 @@ public class JavadocConversionRefactoring extends Refactoring {
 				try {
 					type = project.findType(((IReferenceTypeDescriptor) element).getQualifiedName(), new NullProgressMonitor());
 					if (type != null) {
-						collectUpdates(type, element, apidescription);
+						ICompilationUnit cunit = type.getCompilationUnit();
+						if (cunit != null && project.equals(cunit.getJavaProject())) {
+							units.add(cunit);
+						}
 					}
-				} catch (OperationCanceledException e) {
-					return false;
 				} catch (CoreException e) {
 					ApiUIPlugin.log(e);
 				}
@@ -310,51 +317,67 @@ public class JavadocConversionRefactoring extends Refactoring {
 		}
 
 		/**
-		 * Parses the AST for the given {@link IType} and collects edits for
-		 * adding annotations and additionally removing Javadoc tags
-		 *
-		 * @param type the type to scan
-		 * @param element the element
-		 * @param description the backing API description
+		 * Parses the collected compilation units with bindings in one batch and
+		 * collects edits for adding annotations and additionally removing
+		 * Javadoc tags
 		 */
-		void collectUpdates(IType type, IElementDescriptor element, IApiDescription description) throws CoreException {
+		void collectUpdates() {
+			if (units.isEmpty()) {
+				return;
+			}
+			SubMonitor localmonitor = this.monitor.split(100).setWorkRemaining(units.size());
 			ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
-			ICompilationUnit cunit = type.getCompilationUnit();
-			if (cunit != null) {
-				if (this.monitor.isCanceled()) {
-					throw new OperationCanceledException();
+			parser.setResolveBindings(true);
+			Map<String, String> options = project.getOptions(true);
+			options.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.ENABLED);
+			parser.setCompilerOptions(options);
+			parser.createASTs(units.toArray(new ICompilationUnit[units.size()]), new String[0], new ASTRequestor() {
+				@Override
+				public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+					if (localmonitor.isCanceled()) {
+						throw new OperationCanceledException();
+					}
+					localmonitor.setTaskName(NLS.bind(WizardMessages.JavadocConversionPage_scan_javadoc_to_convert, new Object[] { source.getElementName() }));
+					try {
+						collectUpdates(source, ast);
+					} catch (CoreException e) {
+						ApiUIPlugin.log(e);
+					}
+					localmonitor.worked(1);
 				}
-				this.monitor.worked(1);
-				this.monitor.setTaskName(NLS.bind(WizardMessages.JavadocConversionPage_scan_javadoc_to_convert, new Object[] { type.getFullyQualifiedName() }));
-				parser.setSource(cunit);
-				parser.setResolveBindings(true);
-				Map<String, String> options = cunit.getJavaProject().getOptions(true);
-				options.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.ENABLED);
-				parser.setCompilerOptions(options);
-				CompilationUnit cast = (CompilationUnit) parser.createAST(new NullProgressMonitor());
-				cast.recordModifications();
-				ASTRewrite rewrite = ASTRewrite.create(cast.getAST());
-				TagVisitor visitor = new TagVisitor(component, description, rewrite, this.remove);
-				cast.accept(visitor);
-				ITextFileBufferManager bm = FileBuffers.getTextFileBufferManager();
-				IPath path = cast.getJavaElement().getPath();
-				try {
-					bm.connect(path, LocationKind.IFILE, null);
-					ITextFileBuffer tfb = bm.getTextFileBuffer(path, LocationKind.IFILE);
-					IDocument document = tfb.getDocument();
-					TextEdit edit = rewrite.rewriteAST(document, null);
-					if (edit.getChildrenSize() > 0 || edit.getLength() != 0) {
-						IFile file = (IFile) cunit.getUnderlyingResource();
-						Set<TextEdit> edits = changes.get(file);
-						if (edits == null) {
-							edits = new HashSet<>(3);
-							changes.put(file, edits);
-						}
-						edits.add(edit);
+			}, null);
+		}
+
+		/**
+		 * Collects edits for adding annotations and additionally removing
+		 * Javadoc tags in the given AST
+		 *
+		 * @param cunit the compilation unit to scan
+		 * @param cast the AST of the compilation unit
+		 */
+		void collectUpdates(ICompilationUnit cunit, CompilationUnit cast) throws CoreException {
+			cast.recordModifications();
+			ASTRewrite rewrite = ASTRewrite.create(cast.getAST());
+			TagVisitor visitor = new TagVisitor(component, apidescription, rewrite, this.remove);
+			cast.accept(visitor);
+			ITextFileBufferManager bm = FileBuffers.getTextFileBufferManager();
+			IPath path = cunit.getPath();
+			try {
+				bm.connect(path, LocationKind.IFILE, null);
+				ITextFileBuffer tfb = bm.getTextFileBuffer(path, LocationKind.IFILE);
+				IDocument document = tfb.getDocument();
+				TextEdit edit = rewrite.rewriteAST(document, null);
+				if (edit.getChildrenSize() > 0 || edit.getLength() != 0) {
+					IFile file = (IFile) cunit.getUnderlyingResource();
+					Set<TextEdit> edits = changes.get(file);
+					if (edits == null) {
+						edits = new HashSet<>(3);
+						changes.put(file, edits);
 					}
-				} finally {
-					bm.disconnect(path, LocationKind.IFILE, null);
+					edits.add(edit);
 				}
+			} finally {
+				bm.disconnect(path, LocationKind.IFILE, null);
 			}
 		}
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Red Hat Inc. and others.
+ * Copyright (c) 2019, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,10 +26,15 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -43,7 +48,11 @@ import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.api.tools.internal.model.ArchiveApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.model.CompositeApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.model.DirectoryApiTypeContainer;
+import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.scanner.TagScanner;
 import org.eclipse.pde.api.tools.internal.util.Util;
@@ -162,20 +171,15 @@ public class APIFileGenerator {
 			throw new IllegalArgumentException(
 					NLS.bind(CoreMessages.api_generation_targetFolderNotADirectory, this.targetFolder));
 		}
-		// create the directory class file container used to resolve
-		// signatures during tag scanning
+		// check the binary locations of the class file containers used to
+		// resolve signatures during tag scanning
 		String[] allBinaryLocations = this.binaryLocations.split(File.pathSeparator);
-		List<IApiTypeContainer> allContainers = new ArrayList<>();
-		IApiTypeContainer container = null;
 		for (String allBinaryLocation : allBinaryLocations) {
-			container = getContainer(allBinaryLocation);
-			if (container == null) {
+			if (getContainer(allBinaryLocation) == null) {
 				throw new IllegalArgumentException(
 						NLS.bind(CoreMessages.api_generation_invalidBinaryLocation, allBinaryLocation));
 			}
-			allContainers.add(container);
 		}
-		IApiTypeContainer classFileContainer = new CompositeApiTypeContainer(null, allContainers);
 		File manifestFile = null;
 		File manifestDir = new File(root, "META-INF"); //$NON-NLS-1$
 		if (manifestDir.exists() && manifestDir.isDirectory()) {
@@ -246,30 +250,18 @@ public class APIFileGenerator {
 			}
 		}
 		ApiDescription apiDescription = new ApiDescription(this.projectName);
-		TagScanner tagScanner = TagScanner.newScanner();
 		if (allFiles != null && allFiles.length != 0) {
 			Map<String, String> options = JavaCore.getOptions();
 			options.put(JavaCore.COMPILER_COMPLIANCE, resolveCompliance(manifestMap));
-			CompilationUnit unit = null;
+			List<CompilationUnit> units = new ArrayList<>(allFiles.length);
 			for (int i = 0, max = allFiles.length; i < max; i++) {
-				unit = new CompilationUnit(allFiles[i].getAbsolutePath(), this.encoding);
+				CompilationUnit unit = new CompilationUnit(allFiles[i].getAbsolutePath(), this.encoding);
 				if (this.debug) {
 					System.out.println("Unit name[" + i + "] : " + unit.getName()); //$NON-NLS-1$ //$NON-NLS-2$
 				}
-				try {
-					tagScanner.scan(unit, apiDescription, classFileContainer, options, null);
-				} catch (CoreException e) {
-					ApiPlugin.log(e);
-				} finally {
-					try {
-						if (classFileContainer != null) {
-							classFileContainer.close();
-						}
-					} catch (CoreException e) {
-						// ignore
-					}
-				}
+				units.add(unit);
 			}
+			scan(units, apiDescription, allBinaryLocations, options);
 		}
 		try {
 			ApiDescriptionXmlCreator xmlVisitor = new ApiDescriptionXmlCreator(this.projectName, this.projectName);
@@ -281,6 +273,92 @@ public class APIFileGenerator {
 		}
 	}
 
+	/**
+	 * Scans the given compilation units for API tags and annotations and adds
+	 * the restrictions found to the given description. The units are parsed
+	 * concurrently, each into a description of its own, and the results are
+	 * merged in the order of the units so the description is the same as if
+	 * the units were scanned one after the other. The scanner does not parse
+	 * the units that mention none of the API tags or annotations.
+	 */
+	private void scan(List<CompilationUnit> units, ApiDescription apiDescription, String[] binaryLocations, Map<String, String> options) {
+		if (units.isEmpty()) {
+			return;
+		}
+		int threads = Math.min(Runtime.getRuntime().availableProcessors(), units.size());
+		TagScanner tagScanner = TagScanner.newScanner();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<ApiDescription>> results = new ArrayList<>(units.size());
+			for (CompilationUnit unit : units) {
+				results.add(executor.submit(() -> scan(tagScanner, unit, binaryLocations, new HashMap<>(options))));
+			}
+			for (Future<ApiDescription> result : results) {
+				merge(result.get(), apiDescription);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			ApiPlugin.log(e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Scans a single compilation unit into a new description. The class file
+	 * container used to resolve method signatures is not thread-safe, so each
+	 * unit gets its own.
+	 */
+	private ApiDescription scan(TagScanner tagScanner, CompilationUnit unit, String[] binaryLocations, Map<String, String> options) {
+		ApiDescription description = new ApiDescription(this.projectName);
+		List<IApiTypeContainer> containers = new ArrayList<>(binaryLocations.length);
+		for (String binaryLocation : binaryLocations) {
+			containers.add(getContainer(binaryLocation));
+		}
+		IApiTypeContainer classFileContainer = new CompositeApiTypeContainer(null, containers);
+		try {
+			tagScanner.scan(unit, description, classFileContainer, options, null);
+		} catch (CoreException e) {
+			ApiPlugin.log(e);
+		} finally {
+			try {
+				classFileContainer.close();
+			} catch (CoreException e) {
+				// ignore
+			}
+		}
+		return description;
+	}
+
+	/**
+	 * Adds the restrictions of the given source description to the target
+	 * description. Restrictions found for the same element in different units
+	 * are combined, as they would be by scanning into a single description.
+	 */
+	private static void merge(ApiDescription source, ApiDescription target) {
+		source.accept(new ApiDescriptionVisitor() {
+			@Override
+			public boolean visitElement(IElementDescriptor element, IApiAnnotations description) {
+				int restrictions = description.getRestrictions();
+				if (restrictions != RestrictionModifiers.NO_RESTRICTIONS) {
+					IApiAnnotations existing = target.resolveAnnotations(element);
+					if (existing != null) {
+						restrictions |= existing.getRestrictions();
+					}
+					target.setRestrictions(element, restrictions);
+				}
+				return true;
+			}
+		}, null);
+	}
+
 	/**
 	 * Returns if the given path ends with one of the collected API path names
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2019 IBM Corporation and others.
+ * Copyright (c) 2012, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -40,7 +41,11 @@ public class AntFilterStore extends FilterStore {
 
 	String fComponentId = null;
 	String fFiltersRoot = null;
-	public static final List<IApiProblem> filteredAPIProblems = new ArrayList<>();
+	/**
+	 * The problems filtered by all Ant filter stores. Stores of different
+	 * components are queried concurrently by the analysis task.
+	 */
+	public static final List<IApiProblem> filteredAPIProblems = Collections.synchronizedList(new ArrayList<>());
 	/**
 	 * Constructor
 	 */
@@ -0,0 +1,330 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+import java.util.zip.CRC32;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.api.tools.internal.ApiDescription.ManifestNode;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription.PackageNode;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription.TypeNode;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IFieldDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.scanner.ScannerMessages;
+
+/**
+ * Saves and restores the API description of a workspace project in a compact
+ * binary form, which is much cheaper to restore than the XML form.
+ * <p>
+ * A file starts with a single header holding a magic number, the format
+ * version, the API description version, the package time stamp and the
+ * length and CRC-32 checksum of the payload. The payload is a table of all
+ * distinct strings followed by the node tree, which refers to strings by their
+ * index in the table. The same nodes are saved as in
+ * {@link ProjectApiDescription#getXML()}.
+ * </p>
+ *
+ * @since 1.3.600
+ */
+public final class ApiDescriptionBinaryStore {
+
+	/**
+	 * Magic number of the file, <code>APID</code>
+	 */
+	private static final int MAGIC = 0x41504944;
+
+	/**
+	 * Version of the binary format, to be incremented whenever the format
+	 * changes
+	 */
+	private static final int FORMAT_VERSION = 1;
+
+	private static final byte PACKAGE = 1;
+	private static final byte TYPE = 2;
+	private static final byte FIELD = 3;
+	private static final byte METHOD = 4;
+
+	private ApiDescriptionBinaryStore() {
+	}
+
+	/**
+	 * Writes the given API description to the given file.
+	 *
+	 * @param description the description to save
+	 * @param file the file to write, parent folders are created as needed
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void write(ProjectApiDescription description, Path file) throws IOException {
+		Map<String, Integer> strings = new LinkedHashMap<>();
+		ByteArrayOutputStream tree = new ByteArrayOutputStream();
+		long timestamp;
+		synchronized (description) {
+			timestamp = description.fPackageTimeStamp;
+			writeChildren(description.fPackageMap, new DataOutputStream(tree), strings);
+		}
+		ByteArrayOutputStream payload = new ByteArrayOutputStream(tree.size() + strings.size() * 32);
+		DataOutputStream payloadOut = new DataOutputStream(payload);
+		payloadOut.writeInt(strings.size());
+		for (String string : strings.keySet()) {
+			payloadOut.writeUTF(string);
+		}
+		tree.writeTo(payloadOut);
+		payloadOut.flush();
+		byte[] bytes = payload.toByteArray();
+		CRC32 checksum = new CRC32();
+		checksum.update(bytes);
+
+		Files.createDirectories(file.getParent());
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			out.writeUTF(IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION);
+			out.writeLong(timestamp);
+			out.writeInt(bytes.length);
+			out.writeLong(checksum.getValue());
+			out.write(bytes);
+		}
+	}
+
+	private static void writeChildren(Map<IElementDescriptor, ManifestNode> children, DataOutputStream out,
+			Map<String, Integer> strings) throws IOException {
+		List<ManifestNode> persisted = new ArrayList<>(children.size());
+		for (ManifestNode node : children.values()) {
+			if (isPersisted(node)) {
+				persisted.add(node);
+			}
+		}
+		out.writeInt(persisted.size());
+		for (ManifestNode node : persisted) {
+			writeNode(node, out, strings);
+		}
+	}
+
+	/**
+	 * Returns whether the node is saved, see the <code>persistXML</code>
+	 * methods of the nodes
+	 */
+	private static boolean isPersisted(ManifestNode node) {
+		if (node instanceof PackageNode || node instanceof TypeNode) {
+			return node.hasApiVisibility(node);
+		}
+		int type = node.element.getElementType();
+		return (type == IElementDescriptor.FIELD || type == IElementDescriptor.METHOD)
+				&& !RestrictionModifiers.isUnrestricted(node.restrictions);
+	}
+
+	private static void writeNode(ManifestNode node, DataOutputStream out, Map<String, Integer> strings)
+			throws IOException {
+		if (node instanceof PackageNode pkg) {
+			out.writeByte(PACKAGE);
+			out.writeInt(pkg.fFragments.length);
+			for (IPackageFragment fragment : pkg.fFragments) {
+				writeString(fragment.getHandleIdentifier(), out, strings);
+			}
+			out.writeInt(pkg.visibility);
+			writeChildren(pkg.children, out, strings);
+		} else if (node instanceof TypeNode type) {
+			out.writeByte(TYPE);
+			writeString(type.fType.getHandleIdentifier(), out, strings);
+			out.writeInt(type.visibility);
+			out.writeInt(type.restrictions);
+			out.writeLong(type.fTimeStamp);
+			writeChildren(type.children, out, strings);
+		} else if (node.element instanceof IMethodDescriptor method) {
+			out.writeByte(METHOD);
+			writeString(method.getName(), out, strings);
+			writeString(method.getSignature(), out, strings);
+			out.writeInt(node.visibility);
+			out.writeInt(node.restrictions);
+		} else {
+			out.writeByte(FIELD);
+			writeString(((IFieldDescriptor) node.element).getName(), out, strings);
+			out.writeInt(node.visibility);
+			out.writeInt(node.restrictions);
+		}
+	}
+
+	private static void writeString(String string, DataOutputStream out, Map<String, Integer> strings)
+			throws IOException {
+		Integer index = strings.get(string);
+		if (index == null) {
+			index = Integer.valueOf(strings.size());
+			strings.put(string, index);
+		}
+		out.writeInt(index.intValue());
+	}
+
+	/**
+	 * Restores the given API description from the given file.
+	 *
+	 * @param project the project of the description
+	 * @param description the empty description to restore
+	 * @param file the file to read
+	 * @return <code>true</code> if the description was restored,
+	 *         <code>false</code> if the file is of an unknown format or
+	 *         version, or is damaged
+	 * @throws CoreException if the file cannot be read or refers to elements
+	 *             that cannot be restored
+	 */
+	public static boolean read(IJavaProject project, ProjectApiDescription description, Path file)
+			throws CoreException {
+		byte[] bytes;
+		String version;
+		long timestamp;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+				return false;
+			}
+			version = in.readUTF();
+			timestamp = in.readLong();
+			int length = in.readInt();
+			long expected = in.readLong();
+			if (length < 0) {
+				return false;
+			}
+			bytes = in.readNBytes(length);
+			CRC32 checksum = new CRC32();
+			checksum.update(bytes);
+			if (bytes.length != length || checksum.getValue() != expected) {
+				return false;
+			}
+		} catch (IOException e) {
+			// damaged header, let the caller fall back to the XML form
+			return false;
+		}
+		description.setEmbeddedVersion(version);
+		if (!IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION.equals(version)) {
+			return false;
+		}
+		try {
+			DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+			String[] strings = new String[in.readInt()];
+			for (int i = 0; i < strings.length; i++) {
+				strings[i] = in.readUTF();
+			}
+			description.fPackageTimeStamp = timestamp;
+			description.fManifestFile = project.getProject().getFile(JarFile.MANIFEST_NAME);
+			readChildren(in, strings, description, null, description.fPackageMap);
+		} catch (IOException e) {
+			abort(MessageFormat.format(ScannerMessages.ApiDescriptionManager_1, project.getElementName()), e);
+		}
+		return true;
+	}
+
+	private static void readChildren(DataInputStream in, String[] strings, ProjectApiDescription description,
+			ManifestNode parent, Map<IElementDescriptor, ManifestNode> children) throws IOException, CoreException {
+		int count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			ManifestNode node = readNode(in, strings, description, parent);
+			children.put(node.element, node);
+		}
+	}
+
+	private static ManifestNode readNode(DataInputStream in, String[] strings, ProjectApiDescription description,
+			ManifestNode parent) throws IOException, CoreException {
+		byte kind = in.readByte();
+		switch (kind) {
+			case PACKAGE -> {
+				IPackageFragment[] fragments = new IPackageFragment[in.readInt()];
+				if (fragments.length == 0) {
+					abort(ScannerMessages.ApiDescriptionManager_2, null);
+				}
+				for (int i = 0; i < fragments.length; i++) {
+					String handle = strings[in.readInt()];
+					if (!(JavaCore.create(handle) instanceof IPackageFragment fragment)) {
+						abort(ScannerMessages.ApiDescriptionManager_2 + handle, null);
+						return null;
+					}
+					fragments[i] = fragment;
+				}
+				int vis = in.readInt();
+				IElementDescriptor element = Factory.packageDescriptor(fragments[fragments.length - 1].getElementName());
+				PackageNode node = description.newPackageNode(fragments, parent, element, vis,
+						RestrictionModifiers.NO_RESTRICTIONS);
+				readChildren(in, strings, description, node, node.children);
+				return node;
+			}
+			case TYPE -> {
+				String handle = strings[in.readInt()];
+				IJavaElement element = JavaCore.create(handle);
+				if (!(element instanceof IType type)) {
+					abort(ScannerMessages.ApiDescriptionManager_3 + handle, null);
+					return null;
+				}
+				int vis = in.readInt();
+				int res = in.readInt();
+				TypeNode node = description.newTypeNode(type, parent,
+						Factory.typeDescriptor(type.getFullyQualifiedName('$')), vis, res);
+				node.fTimeStamp = in.readLong();
+				readChildren(in, strings, description, node, node.children);
+				return node;
+			}
+			case FIELD -> {
+				String name = strings[in.readInt()];
+				int vis = in.readInt();
+				int res = in.readInt();
+				if (parent != null && parent.element instanceof IReferenceTypeDescriptor type) {
+					return description.newNode(parent, type.getField(name), vis, res);
+				}
+			}
+			case METHOD -> {
+				String name = strings[in.readInt()];
+				String signature = strings[in.readInt()];
+				int vis = in.readInt();
+				int res = in.readInt();
+				if (parent != null && parent.element instanceof IReferenceTypeDescriptor type) {
+					return description.newNode(parent, type.getMethod(name, signature), vis, res);
+				}
+			}
+			default -> { /**/ }
+		}
+		abort(ScannerMessages.ApiDescriptionManager_4, null);
+		return null;
+	}
+
+	/**
+	 * Throws an exception with the given message and underlying exception.
+	 *
+	 * @param message error message
+	 * @param exception underlying exception, or <code>null</code>
+	 */
+	private static void abort(String message, Throwable exception) throws CoreException {
+		throw new CoreException(Status.error(message, exception));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -51,7 +51,6 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 import org.eclipse.pde.api.tools.internal.provisional.scanner.ScannerMessages;
 import org.eclipse.pde.api.tools.internal.util.Util;
 import org.eclipse.pde.internal.core.natures.PluginProject;
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -158,6 +157,10 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 			if (file.exists()) {
 				file.delete();
 			}
+			file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME).toFile();
+			if (file.exists()) {
+				file.delete();
+			}
 			file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).toFile();
 			if (file.exists() && file.isDirectory()) {
 				file.delete();
@@ -231,9 +234,11 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 			ProjectApiDescription desc = (ProjectApiDescription) entry.getValue();
 			if (desc.isModified()) {
 				Path dir = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).toPath();
-				Document xml = desc.getXML();
 				try {
-					Util.writeDocumentToFile(xml, dir.resolve(IApiCoreConstants.API_DESCRIPTION_XML_NAME));
+					ApiDescriptionBinaryStore.write(desc, dir.resolve(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME));
+					// the XML form is only read when the binary form is missing
+					// or stale, remove it so it cannot shadow newer data
+					Files.deleteIfExists(dir.resolve(IApiCoreConstants.API_DESCRIPTION_XML_NAME));
 					desc.setModified(false);
 				} catch (IOException e) {
 					abort(MessageFormat.format(ScannerMessages.ApiDescriptionManager_0, project.getElementName()), e);
@@ -244,12 +249,19 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 
 	/**
 	 * Restores the API description from its saved file, if any and returns true
-	 * if successful.
+	 * if successful. The binary form is preferred; the XML form is read if the
+	 * binary form is missing, stale or was saved by a different version.
 	 *
 	 * @return whether the restore succeeded
 	 */
 	private boolean restoreDescription(IJavaProject project, ProjectApiDescription description) throws CoreException {
-		File file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(IApiCoreConstants.API_DESCRIPTION_XML_NAME).toFile();
+		Path dir = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).toPath();
+		Path binary = dir.resolve(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME);
+		File file = dir.resolve(IApiCoreConstants.API_DESCRIPTION_XML_NAME).toFile();
+		if (Files.isRegularFile(binary) && !isNewer(file, binary)
+				&& ApiDescriptionBinaryStore.read(project, description, binary)) {
+			return true;
+		}
 		if (file.exists()) {
 			try {
 				String xml = Files.readString(file.toPath());
@@ -273,6 +285,14 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 		return false;
 	}
 
+	/**
+	 * Returns whether the given XML file was saved after the binary file, for
+	 * instance by a version without binary support
+	 */
+	private static boolean isNewer(File xml, Path binary) {
+		return xml.exists() && xml.lastModified() > binary.toFile().lastModified();
+	}
+
 	private void restoreChildren(ProjectApiDescription apiDesc, Element element, ManifestNode parentNode, Map<IElementDescriptor, ManifestNode> childrenMap) throws CoreException {
 		NodeList children = element.getChildNodes();
 		for (int i = 0; i < children.getLength(); i++) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -27,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.filebuffers.FileBuffers;
 import org.eclipse.core.filebuffers.ITextFileBuffer;
@@ -75,10 +77,43 @@ import org.w3c.dom.Element;
  */
 public class ApiFilterStore extends FilterStore implements IResourceChangeListener {
 
+	/**
+	 * Lookup key of a filter or problem. Message arguments are reduced to their
+	 * simple names, since filters match qualified and simple arguments; the
+	 * candidates found for a key are verified with
+	 * {@link #problemsMatch(IApiProblem, IApiProblem)}.
+	 */
+	private record FilterKey(IPath path, int id, String typeName, List<String> arguments) {
+
+		static FilterKey of(IPath path, IApiProblem problem) {
+			String[] arguments = problem.getMessageArguments();
+			List<String> simpleNames = arguments == null ? List.of()
+					: Arrays.stream(arguments).map(FilterKey::simpleName).toList();
+			return new FilterKey(path, problem.getId(), problem.getTypeName(), simpleNames);
+		}
+
+		private static String simpleName(String argument) {
+			return argument.substring(argument.lastIndexOf('.') + 1);
+		}
+	}
+
+	/**
+	 * A filter in the index together with the resource it is stored for
+	 */
+	private record IndexedFilter(IResource resource, IApiProblemFilter filter) {
+	}
+
 	/**
 	 * Map used to collect unused {@link IApiProblemFilter}s
 	 */
-	private Map<IResource, Set<IApiProblemFilter>> fUnusedFilters = null;
+	private volatile Map<IResource, Set<IApiProblemFilter>> fUnusedFilters = null;
+
+	/**
+	 * Immutable snapshot of all filters indexed for {@link #isFiltered}. It is
+	 * discarded whenever the filters change and rebuilt on the next lookup, so
+	 * that lookups do not need to lock the store.
+	 */
+	private volatile Map<FilterKey, List<IndexedFilter>> fFilterIndex = null;
 
 	/**
 	 * The backing {@link IJavaProject}
@@ -208,6 +243,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			fNeedsSaving |= pfilters.add(filter);
 		}
+		fFilterIndex = null;
 		persistApiFilters();
 	}
 
@@ -241,33 +277,22 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	}
 
 	@Override
-	public synchronized boolean isFiltered(IApiProblem problem) {
-		initializeApiFilters();
+	public boolean isFiltered(IApiProblem problem) {
 		String resourcePath = problem.getResourcePath();
 		if (resourcePath == null) {
 			return false;
 		}
-		IResource resource = fProject.getProject().findMember(IPath.fromOSString(resourcePath));
-		if (resource == null) {
-			if (ApiPlugin.DEBUG_FILTER_STORE) {
-				System.out.println("no resource exists: [" + resourcePath + "]"); //$NON-NLS-1$ //$NON-NLS-2$
-			}
-			return false;
-		}
-		IApiProblemFilter[] filters = this.getFilters(resource);
-		if (filters == null) {
-			if (ApiPlugin.DEBUG_FILTER_STORE) {
-				System.out.println("no filters defined for [" + resourcePath + "] return not filtered"); //$NON-NLS-1$ //$NON-NLS-2$
-			}
-			return false;
-		}
-		for (IApiProblemFilter filter : filters) {
-			if (problemsMatch(filter.getUnderlyingProblem(), problem)) {
-				if (ApiPlugin.DEBUG_FILTER_STORE) {
-					System.out.println("recording filter used: [" + filter.toString() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+		List<IndexedFilter> candidates = getFilterIndex().get(FilterKey.of(IPath.fromOSString(resourcePath), problem));
+		if (candidates != null) {
+			for (IndexedFilter candidate : candidates) {
+				IApiProblemFilter filter = candidate.filter();
+				if (problemsMatch(filter.getUnderlyingProblem(), problem) && candidate.resource().exists()) {
+					if (ApiPlugin.DEBUG_FILTER_STORE) {
+						System.out.println("recording filter used: [" + filter.toString() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					recordFilterUsed(candidate.resource(), filter);
+					return true;
 				}
-				recordFilterUsed(resource, filter);
-				return true;
 			}
 		}
 		if (ApiPlugin.DEBUG_FILTER_STORE) {
@@ -276,6 +301,35 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 		return false;
 	}
 
+	/**
+	 * Returns the current filter index, building it from the filter map if the
+	 * filters changed since it was last built.
+	 */
+	private Map<FilterKey, List<IndexedFilter>> getFilterIndex() {
+		Map<FilterKey, List<IndexedFilter>> index = fFilterIndex;
+		if (index != null) {
+			return index;
+		}
+		synchronized (this) {
+			initializeApiFilters();
+			index = fFilterIndex;
+			if (index == null) {
+				index = new HashMap<>();
+				for (Entry<IResource, Map<String, Set<IApiProblemFilter>>> entry : fFilterMap.entrySet()) {
+					IResource resource = entry.getKey();
+					for (Set<IApiProblemFilter> filters : entry.getValue().values()) {
+						for (IApiProblemFilter filter : filters) {
+							FilterKey key = FilterKey.of(resource.getProjectRelativePath(), filter.getUnderlyingProblem());
+							index.computeIfAbsent(key, k -> new ArrayList<>(1)).add(new IndexedFilter(resource, filter));
+						}
+					}
+				}
+				fFilterIndex = index;
+			}
+			return index;
+		}
+	}
+
 	@Override
 	public void dispose() {
 		// if the store is about to be disposed and has pending changes save
@@ -346,6 +400,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 				success &= false;
 			}
 		}
+		fFilterIndex = null;
 		persistApiFilters();
 		return success;
 	}
@@ -471,6 +526,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			System.out.println("initializing api filter map for project [" + fProject.getElementName() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 		fFilterMap = new LinkedHashMap<>(5);
+		fFilterIndex = null;
 		IFile filterFile = fProject.getProject().getFile(API_FILTERS_XML_PATH);
 		if (!filterFile.exists()) {
 			if (ApiPlugin.DEBUG_FILTER_STORE) {
@@ -522,6 +578,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			fNeedsSaving |= filters.add(filter);
 		}
+		fFilterIndex = null;
 	}
 
 	/**
@@ -554,32 +611,34 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	 */
 	public synchronized void recordFilterUsage() {
 		initializeApiFilters();
-		fUnusedFilters = new LinkedHashMap<>();
+		// filter usage is recorded concurrently by isFiltered
+		Map<IResource, Set<IApiProblemFilter>> unusedFilters = new ConcurrentHashMap<>();
 		Map<String, Set<IApiProblemFilter>> types = null;
 		Set<IApiProblemFilter> values = null;
 		for (Entry<IResource, Map<String, Set<IApiProblemFilter>>> filterEntry : fFilterMap.entrySet()) {
 			IResource resource = filterEntry.getKey();
 			types = filterEntry.getValue();
-			values = new LinkedHashSet<>();
-			fUnusedFilters.put(resource, values);
+			values = ConcurrentHashMap.newKeySet();
 			for (Entry<String, Set<IApiProblemFilter>> entry : types.entrySet()) {
 				values.addAll(entry.getValue());
 			}
+			if (!values.isEmpty()) {
+				unusedFilters.put(resource, values);
+			}
 		}
+		fUnusedFilters = unusedFilters;
 	}
 
 	/**
 	 * records that the following filter has been used
 	 */
 	private void recordFilterUsed(IResource resource, IApiProblemFilter filter) {
-		if (fUnusedFilters != null) {
-			Set<IApiProblemFilter> unused = fUnusedFilters.get(resource);
-			if (unused != null) {
+		Map<IResource, Set<IApiProblemFilter>> unusedFilters = fUnusedFilters;
+		if (unusedFilters != null) {
+			unusedFilters.computeIfPresent(resource, (r, unused) -> {
 				unused.remove(filter);
-				if (unused.isEmpty()) {
-					fUnusedFilters.remove(resource);
-				}
-			}
+				return unused.isEmpty() ? null : unused;
+			});
 		}
 	}
 
@@ -595,12 +654,13 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	 *         <code>null</code>
 	 */
 	public IApiProblemFilter[] getUnusedFilters(IResource resource, String typeName, int[] categories) {
-		if (fUnusedFilters != null) {
+		Map<IResource, Set<IApiProblemFilter>> unusedFilters = fUnusedFilters;
+		if (unusedFilters != null) {
 			Set<IApiProblemFilter> unused = new HashSet<>();
 			Set<IApiProblemFilter> set = null;
 			if (resource != null) {
 				// add any unused filters for the resource
-				set = fUnusedFilters.get(resource);
+				set = unusedFilters.get(resource);
 				if (set != null) {
 					collectFilterFor(set, typeName, unused, categories);
 				}
@@ -610,17 +670,17 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 					// deleted types are only ever passed in with the manifest
 					// associated with them
 					IResource res = null;
-					for (Entry<IResource, Set<IApiProblemFilter>> entry : fUnusedFilters.entrySet()) {
+					for (Entry<IResource, Set<IApiProblemFilter>> entry : unusedFilters.entrySet()) {
 						res = entry.getKey();
 						if (res == null || !res.exists() || !res.getProject().equals(resource.getProject())) {
 							continue;
 						}
-						set = fUnusedFilters.get(res);
+						set = entry.getValue();
 						collectFilterFor(set, typeName, unused, categories);
 					}
 				}
 			} else {
-				for (Entry<IResource, Set<IApiProblemFilter>> entry : fUnusedFilters.entrySet()) {
+				for (Entry<IResource, Set<IApiProblemFilter>> entry : unusedFilters.entrySet()) {
 					set = entry.getValue();
 					if (set != null) {
 						unused.addAll(set);
@@ -706,9 +766,12 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 				if (ApiPlugin.DEBUG_FILTER_STORE) {
 					System.out.println("processed REMOVED delta"); //$NON-NLS-1$
 				}
-				if (fFilterMap != null) {
-					fFilterMap.clear();
-					needsbuild = fProject.getProject().isAccessible();
+				synchronized (this) {
+					if (fFilterMap != null) {
+						fFilterMap.clear();
+						fFilterIndex = null;
+						needsbuild = fProject.getProject().isAccessible();
+					}
 				}
 			} else if (leafdelta.getKind() == IResourceDelta.ADDED || (leafdelta.getFlags() & IResourceDelta.CONTENT) != 0 || (leafdelta.getFlags() & IResourceDelta.REPLACED) != 0) {
 				if (ApiPlugin.DEBUG_FILTER_STORE) {
@@ -744,5 +807,6 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			fFilterMap.clear();
 			fFilterMap = null;
 		}
+		fFilterIndex = null;
 	}
 }
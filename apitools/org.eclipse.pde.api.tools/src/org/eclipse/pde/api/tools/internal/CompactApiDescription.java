@@ -0,0 +1,475 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.pde.api.tools.internal.ApiDescription.ManifestNode;
+import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAccess;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
+import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IPackageDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+
+/**
+ * A compact API description for binary bundles and baseline components,
+ * created from a fully populated {@link ApiDescription}.
+ * <p>
+ * Instead of a tree of nodes with a children map each, the elements are kept
+ * in flat arrays. Nodes are stored breadth first so that the children of each
+ * node are contiguous and sorted by their interned element signature, and are
+ * found by binary search. Element kind, visibility and restrictions are packed
+ * into a single int per node. Element descriptors are only created while the
+ * description is visited.
+ * </p>
+ * <p>
+ * Visits and annotations resolved from this description are the same as the
+ * ones of the description it was created from. The first change of a
+ * visibility, restriction or access level, for example by the package
+ * patterns of an API use scan, copies the description to a mutable
+ * {@link ApiDescription} that serves all later queries and changes.
+ * </p>
+ *
+ * @since 1.3.600
+ */
+public final class CompactApiDescription implements IApiDescription {
+
+	private static final int VISIBILITY_MASK = 0xFFFF;
+	private static final int RESTRICTIONS_SHIFT = 16;
+	private static final int RESTRICTIONS_MASK = 0xFF;
+	private static final int KIND_SHIFT = 24;
+
+	/**
+	 * Compares nodes of the source tree the same way as nodes are searched
+	 */
+	private static final Comparator<ManifestNode> NODE_ORDER = Comparator
+			.<ManifestNode> comparingInt(node -> node.element.getElementType())
+			.thenComparing(node -> segment(node.element));
+
+	/**
+	 * A node found for an element, <code>depth</code> is the index of the node
+	 * in the path of the element
+	 */
+	private record Match(int node, int depth) {
+	}
+
+	/**
+	 * A child node with its element descriptor, used while visiting
+	 */
+	private record Child(IElementDescriptor element, int node) {
+	}
+
+	private final String fOwningComponentId;
+
+	/**
+	 * Element signature of each node, see {@link #segment(IElementDescriptor)}
+	 */
+	private final String[] fSegments;
+
+	/**
+	 * Packed element kind, visibility and restrictions of each node
+	 */
+	private final int[] fModifiers;
+
+	/**
+	 * Parent of each node or <code>-1</code> for packages
+	 */
+	private final int[] fParents;
+
+	/**
+	 * The children of node <code>i</code> are the nodes from
+	 * <code>fChildStart[i]</code> to <code>fChildStart[i + 1]</code>,
+	 * exclusive. Packages are the nodes before <code>fRootCount</code>.
+	 */
+	private final int[] fChildStart;
+
+	private final int fRootCount;
+
+	private final Map<IPackageDescriptor, Map<IElementDescriptor, IApiAccess>> fAccessMap;
+
+	/**
+	 * Mutable copy created on the first change, or <code>null</code>
+	 */
+	private volatile ApiDescription fCopy;
+
+	private CompactApiDescription(String owningComponentId, List<ManifestNode> nodes, int[] parents,
+			int[] childStart, int rootCount,
+			Map<IPackageDescriptor, Map<IElementDescriptor, IApiAccess>> accessMap) {
+		fOwningComponentId = owningComponentId;
+		int size = nodes.size();
+		fSegments = new String[size];
+		fModifiers = new int[size];
+		for (int i = 0; i < size; i++) {
+			ManifestNode node = nodes.get(i);
+			fSegments[i] = segment(node.element).intern();
+			fModifiers[i] = node.element.getElementType() << KIND_SHIFT
+					| (node.restrictions & RESTRICTIONS_MASK) << RESTRICTIONS_SHIFT
+					| (node.visibility & VISIBILITY_MASK);
+		}
+		fParents = parents;
+		fChildStart = childStart;
+		fRootCount = rootCount;
+		fAccessMap = accessMap;
+	}
+
+	/**
+	 * Returns a compact copy of the given description. Later changes to the
+	 * given description are not reflected in the copy. If the description
+	 * holds elements other than packages, types, fields and methods, or
+	 * modifiers that cannot be packed, the given description is returned
+	 * instead.
+	 *
+	 * @param description a populated API description
+	 * @return a compact copy of the description or the description itself
+	 */
+	public static IApiDescription compact(ApiDescription description) {
+		List<ManifestNode> nodes = new ArrayList<>();
+		List<Integer> parents = new ArrayList<>();
+		List<Integer> childStart = new ArrayList<>();
+		for (ManifestNode root : sorted(description.fPackageMap.values())) {
+			nodes.add(root);
+			parents.add(Integer.valueOf(-1));
+		}
+		int rootCount = nodes.size();
+		// breadth first, so that the children of each node are contiguous
+		for (int i = 0; i < nodes.size(); i++) {
+			ManifestNode node = nodes.get(i);
+			if (!isSupported(node)) {
+				return description;
+			}
+			childStart.add(Integer.valueOf(nodes.size()));
+			for (ManifestNode child : sorted(node.children.values())) {
+				nodes.add(child);
+				parents.add(Integer.valueOf(i));
+			}
+		}
+		childStart.add(Integer.valueOf(nodes.size()));
+
+		Map<IPackageDescriptor, Map<IElementDescriptor, IApiAccess>> accessMap = new HashMap<>();
+		if (description.fAccessMap != null) {
+			for (Entry<IPackageDescriptor, HashMap<IElementDescriptor, IApiAccess>> entry : description.fAccessMap.entrySet()) {
+				accessMap.put(entry.getKey(), Map.copyOf(entry.getValue()));
+			}
+		}
+		return new CompactApiDescription(description.fOwningComponentId, nodes,
+				parents.stream().mapToInt(Integer::intValue).toArray(),
+				childStart.stream().mapToInt(Integer::intValue).toArray(), rootCount, Map.copyOf(accessMap));
+	}
+
+	private static List<ManifestNode> sorted(Iterable<ManifestNode> nodes) {
+		List<ManifestNode> list = new ArrayList<>();
+		nodes.forEach(list::add);
+		list.sort(NODE_ORDER);
+		return list;
+	}
+
+	private static boolean isSupported(ManifestNode node) {
+		if ((node.visibility & ~VISIBILITY_MASK) != 0 || (node.restrictions & ~RESTRICTIONS_MASK) != 0) {
+			return false;
+		}
+		return switch (node.element.getElementType()) {
+			case IElementDescriptor.PACKAGE -> node.parent == null;
+			case IElementDescriptor.TYPE -> node.parent != null
+					&& (node.parent.element.getElementType() == IElementDescriptor.PACKAGE
+							|| node.parent.element.getElementType() == IElementDescriptor.TYPE);
+			case IElementDescriptor.FIELD -> node.parent != null
+					&& node.parent.element.getElementType() == IElementDescriptor.TYPE;
+			case IElementDescriptor.METHOD -> node.parent != null
+					&& node.parent.element.getElementType() == IElementDescriptor.TYPE
+					&& ((IMethodDescriptor) node.element).getSignature() != null;
+			default -> false;
+		};
+	}
+
+	/**
+	 * Returns the signature of the given element within its parent: the name
+	 * of a package, the simple name of a type or field, and the name followed
+	 * by the signature of a method.
+	 */
+	private static String segment(IElementDescriptor element) {
+		return switch (element.getElementType()) {
+			case IElementDescriptor.PACKAGE -> ((IPackageDescriptor) element).getName();
+			case IElementDescriptor.METHOD -> {
+				IMethodDescriptor method = (IMethodDescriptor) element;
+				yield method.getName() + method.getSignature();
+			}
+			case IElementDescriptor.TYPE, IElementDescriptor.FIELD -> ((IMemberDescriptor) element).getName();
+			default -> element.toString();
+		};
+	}
+
+	private int kind(int node) {
+		return fModifiers[node] >>> KIND_SHIFT;
+	}
+
+	private int visibility(int node) {
+		return fModifiers[node] & VISIBILITY_MASK;
+	}
+
+	private int restrictions(int node) {
+		return (fModifiers[node] >>> RESTRICTIONS_SHIFT) & RESTRICTIONS_MASK;
+	}
+
+	/**
+	 * Returns the node of the given element or its closest ancestor, or
+	 * <code>null</code> if not even the package of the element is known.
+	 */
+	private Match findNode(IElementDescriptor[] path) {
+		Match match = null;
+		int from = 0;
+		int to = fRootCount;
+		for (int depth = 0; depth < path.length; depth++) {
+			int node = search(from, to, path[depth]);
+			if (node < 0) {
+				break;
+			}
+			match = new Match(node, depth);
+			from = fChildStart[node];
+			to = fChildStart[node + 1];
+		}
+		return match;
+	}
+
+	private int search(int from, int to, IElementDescriptor element) {
+		int kind = element.getElementType();
+		String segment = segment(element);
+		int low = from;
+		int high = to - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int cmp = Integer.compare(kind(mid), kind);
+			if (cmp == 0) {
+				cmp = fSegments[mid].compareTo(segment);
+			}
+			if (cmp < 0) {
+				low = mid + 1;
+			} else if (cmp > 0) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the visibility of the given node, walking up the parents to
+	 * resolve inherited visibility.
+	 */
+	private int resolveVisibility(int node) {
+		int current = node;
+		int vis = visibility(current);
+		while (vis == ApiDescription.VISIBILITY_INHERITED && fParents[current] >= 0) {
+			current = fParents[current];
+			vis = visibility(current);
+		}
+		return vis;
+	}
+
+	/**
+	 * Returns the mutable copy of this description, creating it on first use.
+	 */
+	private ApiDescription getCopy() {
+		ApiDescription copy = fCopy;
+		if (copy == null) {
+			synchronized (this) {
+				copy = fCopy;
+				if (copy == null) {
+					copy = new ApiDescription(fOwningComponentId);
+					IElementDescriptor[] elements = new IElementDescriptor[fSegments.length];
+					// parents are stored before their children
+					for (int node = 0; node < fSegments.length; node++) {
+						int parent = fParents[node];
+						elements[node] = createElement(parent < 0 ? null : elements[parent], node);
+						copy.setVisibility(elements[node], visibility(node));
+						copy.setRestrictions(elements[node], restrictions(node));
+					}
+					for (Entry<IPackageDescriptor, Map<IElementDescriptor, IApiAccess>> entry : fAccessMap.entrySet()) {
+						for (Entry<IElementDescriptor, IApiAccess> access : entry.getValue().entrySet()) {
+							copy.setAccessLevel(access.getKey(), entry.getKey(), access.getValue().getAccessLevel());
+						}
+					}
+					fCopy = copy;
+				}
+			}
+		}
+		return copy;
+	}
+
+	@Override
+	public IApiAnnotations resolveAnnotations(IElementDescriptor element) {
+		ApiDescription copy = fCopy;
+		if (copy != null) {
+			return copy.resolveAnnotations(element);
+		}
+		IElementDescriptor[] path = element.getPath();
+		Match match = findNode(path);
+		if (match == null) {
+			return null;
+		}
+		boolean exact = match.depth() == path.length - 1;
+		ApiAnnotations annotations = new ApiAnnotations(resolveVisibility(match.node()),
+				exact ? restrictions(match.node()) : RestrictionModifiers.NO_RESTRICTIONS);
+		annotations.setExact(exact);
+		return annotations;
+	}
+
+	@Override
+	public IApiAccess resolveAccessLevel(IElementDescriptor element, IPackageDescriptor pelement) {
+		ApiDescription copy = fCopy;
+		if (copy != null) {
+			return copy.resolveAccessLevel(element, pelement);
+		}
+		Map<IElementDescriptor, IApiAccess> map = fAccessMap.get(pelement);
+		if (map != null) {
+			return map.get(element);
+		}
+		return null;
+	}
+
+	@Override
+	public void accept(ApiDescriptionVisitor visitor, IProgressMonitor monitor) {
+		ApiDescription copy = fCopy;
+		if (copy != null) {
+			copy.accept(visitor, monitor);
+			return;
+		}
+		visitChildren(visitor, null, 0, fRootCount, monitor);
+	}
+
+	@Override
+	public boolean accept(ApiDescriptionVisitor visitor, IElementDescriptor element, IProgressMonitor monitor) {
+		ApiDescription copy = fCopy;
+		if (copy != null) {
+			return copy.accept(visitor, element, monitor);
+		}
+		IElementDescriptor[] path = element.getPath();
+		Match match = findNode(path);
+		if (match != null) {
+			visitNode(visitor, path[match.depth()], match.node());
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Visits the given range of nodes in the same order as
+	 * {@link ApiDescription} does.
+	 */
+	private void visitChildren(ApiDescriptionVisitor visitor, IElementDescriptor parent, int from, int to,
+			IProgressMonitor monitor) {
+		List<Child> children = new ArrayList<>(to - from);
+		for (int node = from; node < to; node++) {
+			children.add(new Child(createElement(parent, node), node));
+		}
+		children.sort(Comparator.comparing(Child::element, ApiDescription.fgComparator));
+		SubMonitor loopMonitor = SubMonitor.convert(monitor, children.size());
+		for (Child child : children) {
+			loopMonitor.split(1);
+			visitNode(visitor, child.element(), child.node());
+		}
+	}
+
+	private void visitNode(ApiDescriptionVisitor visitor, IElementDescriptor element, int node) {
+		IApiAnnotations desc = new ApiAnnotations(resolveVisibility(node), restrictions(node));
+		boolean visitChildren = visitor.visitElement(element, desc);
+		int from = fChildStart[node];
+		int to = fChildStart[node + 1];
+		if (visitChildren && from < to) {
+			visitChildren(visitor, element, from, to, null);
+		}
+		visitor.endVisitElement(element, desc);
+	}
+
+	/**
+	 * Creates the descriptor of the given node from the descriptor of its
+	 * parent.
+	 */
+	private IElementDescriptor createElement(IElementDescriptor parent, int node) {
+		String segment = fSegments[node];
+		return switch (kind(node)) {
+			case IElementDescriptor.PACKAGE -> Factory.packageDescriptor(segment);
+			case IElementDescriptor.TYPE -> parent instanceof IReferenceTypeDescriptor type ? type.getType(segment)
+					: ((IPackageDescriptor) parent).getType(segment);
+			case IElementDescriptor.FIELD -> ((IReferenceTypeDescriptor) parent).getField(segment);
+			default -> {
+				int index = segment.indexOf('(');
+				yield ((IReferenceTypeDescriptor) parent).getMethod(segment.substring(0, index),
+						segment.substring(index));
+			}
+		};
+	}
+
+	@Override
+	public IStatus setVisibility(IElementDescriptor element, int visibility) {
+		return getCopy().setVisibility(element, visibility);
+	}
+
+	@Override
+	public IStatus setRestrictions(IElementDescriptor element, int restrictions) {
+		return getCopy().setRestrictions(element, restrictions);
+	}
+
+	@Override
+	public IStatus setAddedProfile(IElementDescriptor element, int addedProfile) {
+		return Status.OK_STATUS;
+	}
+
+	@Override
+	public IStatus setRemovedProfile(IElementDescriptor element, int removedProfile) {
+		return Status.OK_STATUS;
+	}
+
+	@Override
+	public IStatus setSuperclass(IElementDescriptor element, String superclass) {
+		return Status.OK_STATUS;
+	}
+
+	@Override
+	public IStatus setSuperinterfaces(IElementDescriptor element, String superinterfaces) {
+		return Status.OK_STATUS;
+	}
+
+	@Override
+	public IStatus setInterface(IElementDescriptor element, boolean interfaceFlag) {
+		return Status.OK_STATUS;
+	}
+
+	@Override
+	public void setAccessLevel(IElementDescriptor element, IPackageDescriptor pelement, int access) {
+		getCopy().setAccessLevel(element, pelement, access);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("API description for component: ").append(fOwningComponentId); //$NON-NLS-1$
+		return buffer.toString();
+	}
+}
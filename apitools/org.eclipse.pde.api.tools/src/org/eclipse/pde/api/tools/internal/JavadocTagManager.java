@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -204,6 +204,30 @@ public final class JavadocTagManager {
 	 */
 	private IApiJavadocTag[] tags;
 
+	/**
+	 * Returns whether the given source mentions one of the API Javadoc tags or
+	 * annotations. Sources that do not cannot contribute any restrictions.
+	 * This only filters whole sources: a source that mentions a single tag is
+	 * parsed completely, the restrictions of its members are not cached.
+	 *
+	 * @param source Java source
+	 * @return <code>true</code> if the source may contain API tags or
+	 *         annotations, <code>false</code> if it cannot
+	 */
+	public static boolean mayContainTags(String source) {
+		for (String tag : ALL_TAGS) {
+			if (source.contains(tag)) {
+				return true;
+			}
+		}
+		for (String annotation : ALL_ANNOTATIONS) {
+			if (source.contains(annotation)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Initialize the annotation mapping
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2016 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -277,6 +277,7 @@ public class WorkspaceDeltaProcessor implements IElementChangedListener, IResour
 							}
 						}
 						bmanager.disposeWorkspaceBaseline();
+						BuildState.discardSessionState(project);
 						IJavaProject javaProject = (IJavaProject) JavaCore.create(resource);
 						dmanager.clean(javaProject, false, true);
 						dmanager.flushElementCache(javaProject);
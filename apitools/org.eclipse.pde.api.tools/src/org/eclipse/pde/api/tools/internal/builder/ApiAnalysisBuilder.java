@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -35,6 +36,7 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IResourceStatus;
+import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -82,6 +84,7 @@ import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.PDEPreferencesManager;
+import org.eclipse.pde.internal.core.builders.MarkerReconciler;
 import org.osgi.framework.Constants;
 import org.osgi.framework.Version;
 
@@ -177,6 +180,12 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 
 	private final ConcurrentLinkedQueue<Runnable> markersQueue = new ConcurrentLinkedQueue<>();
 
+	/**
+	 * The markers replaced and reported by the build running on the current
+	 * thread, applied at once when the build creates its markers
+	 */
+	private final ThreadLocal<MarkerReconciler> pendingMarkers = new ThreadLocal<>();
+
 	/**
 	 * Bug 549838:  In case auto-building on a API tools settings change  is not desired,
 	 * specify VM property: {@code -Dorg.eclipse.disableAutoBuildOnSettingsChange=true}
@@ -187,7 +196,10 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 * Cleans up markers associated with API Tools on the given resource.
 	 */
 	void cleanupMarkers(IResource resource) {
-		if (isRunningAsJob()) {
+		if (pendingMarkers.get() != null) {
+			// only records the markers to replace
+			cleanupMarkersInternally(resource);
+		} else if (isRunningAsJob()) {
 			new ApiAnalysisMarkersJob(() -> cleanupMarkersInternally(resource)).schedule();
 		} else {
 			cleanupMarkersInternally(resource);
@@ -216,7 +228,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 				if (ApiPlugin.DEBUG_BUILDER) {
 					System.out.println("ApiAnalysisBuilder: cleaning api use problems"); //$NON-NLS-1$
 				}
-				resource.deleteMarkers(IApiMarkerConstants.API_USESCAN_PROBLEM_MARKER, true, IResource.DEPTH_INFINITE);
+				deleteMarkers(resource, IApiMarkerConstants.API_USESCAN_PROBLEM_MARKER, true, IResource.DEPTH_INFINITE);
 
 				IProject project = resource.getProject();
 				IMarker[] markers = project.findMarkers(IApiMarkerConstants.API_USESCAN_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
@@ -226,7 +238,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 					if (adaptor != null && adaptor instanceof ICompilationUnit) {
 						IType typeroot = ((ICompilationUnit) adaptor).findPrimaryType();
 						if (typeroot != null && typeName != null && typeName.startsWith(typeroot.getFullyQualifiedName())) {
-							marker.delete();
+							deleteMarker(marker);
 						}
 					}
 				}
@@ -245,7 +257,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 				if (ApiPlugin.DEBUG_BUILDER) {
 					System.out.println("ApiAnalysisBuilder: cleaning unsupported tag problems"); //$NON-NLS-1$
 				}
-				resource.deleteMarkers(IApiMarkerConstants.UNSUPPORTED_TAG_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+				deleteMarkers(resource, IApiMarkerConstants.UNSUPPORTED_TAG_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
 			}
 		} catch (CoreException e) {
 			ApiPlugin.log(e.getStatus());
@@ -264,7 +276,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 				if (ApiPlugin.DEBUG_BUILDER) {
 					System.out.println("ApiAnalysisBuilder: cleaning unsupported annotation problems"); //$NON-NLS-1$
 				}
-				resource.deleteMarkers(IApiMarkerConstants.UNSUPPORTED_ANNOTATION_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+				deleteMarkers(resource, IApiMarkerConstants.UNSUPPORTED_ANNOTATION_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
 			}
 		} catch (CoreException e) {
 			ApiPlugin.log(e.getStatus());
@@ -279,13 +291,13 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	void cleanupCompatibilityMarkers(IResource resource) {
 		try {
 			if (resource != null && resource.isAccessible()) {
-				resource.deleteMarkers(IApiMarkerConstants.COMPATIBILITY_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
-				resource.deleteMarkers(IApiMarkerConstants.SINCE_TAGS_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+				deleteMarkers(resource, IApiMarkerConstants.COMPATIBILITY_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+				deleteMarkers(resource, IApiMarkerConstants.SINCE_TAGS_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
 				if (resource.getType() == IResource.PROJECT) {
 					// on full builds
-					resource.deleteMarkers(IApiMarkerConstants.VERSION_NUMBERING_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
-					resource.deleteMarkers(IApiMarkerConstants.DEFAULT_API_BASELINE_PROBLEM_MARKER, true, IResource.DEPTH_ZERO);
-					resource.deleteMarkers(IApiMarkerConstants.API_COMPONENT_RESOLUTION_PROBLEM_MARKER, true, IResource.DEPTH_ZERO);
+					deleteMarkers(resource, IApiMarkerConstants.VERSION_NUMBERING_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+					deleteMarkers(resource, IApiMarkerConstants.DEFAULT_API_BASELINE_PROBLEM_MARKER, true, IResource.DEPTH_ZERO);
+					deleteMarkers(resource, IApiMarkerConstants.API_COMPONENT_RESOLUTION_PROBLEM_MARKER, true, IResource.DEPTH_ZERO);
 				}
 			}
 		} catch (CoreException e) {
@@ -299,11 +311,11 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	void cleanupUsageMarkers(IResource resource) {
 		try {
 			if (resource != null && resource.isAccessible()) {
-				resource.deleteMarkers(IApiMarkerConstants.API_USAGE_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+				deleteMarkers(resource, IApiMarkerConstants.API_USAGE_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
 				if (resource.getType() != IResource.PROJECT) {
 					IProject pj = resource.getProject();
 					if (pj != null) {
-						pj.deleteMarkers(IApiMarkerConstants.API_USAGE_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
+						deleteMarkers(pj, IApiMarkerConstants.API_USAGE_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
 					}
 				}
 			}
@@ -318,7 +330,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	void cleanupFatalMarkers(IResource resource) {
 		try {
 			if (resource != null && resource.isAccessible()) {
-				resource.deleteMarkers(IApiMarkerConstants.FATAL_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+				deleteMarkers(resource, IApiMarkerConstants.FATAL_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
 			}
 		} catch (CoreException e) {
 			ApiPlugin.log(e.getStatus());
@@ -331,13 +343,40 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	void cleanUnusedFilterMarkers(IResource resource) {
 		try {
 			if (resource != null && resource.isAccessible()) {
-				resource.deleteMarkers(IApiMarkerConstants.UNUSED_FILTER_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+				deleteMarkers(resource, IApiMarkerConstants.UNUSED_FILTER_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
 			}
 		} catch (CoreException ce) {
 			ApiPlugin.log(ce.getStatus());
 		}
 	}
 
+	/**
+	 * Deletes the markers of the given type from the resource. While a build
+	 * collects its markers the deletion is deferred, so that markers which are
+	 * reported again are kept instead of being recreated.
+	 */
+	void deleteMarkers(IResource resource, String type, boolean includeSubtypes, int depth) throws CoreException {
+		MarkerReconciler reconciler = pendingMarkers.get();
+		if (reconciler != null) {
+			reconciler.replaceMarkers(resource, type, includeSubtypes, depth);
+		} else {
+			resource.deleteMarkers(type, includeSubtypes, depth);
+		}
+	}
+
+	/**
+	 * Deletes the given marker, deferred like
+	 * {@link #deleteMarkers(IResource, String, boolean, int)}.
+	 */
+	void deleteMarker(IMarker marker) throws CoreException {
+		MarkerReconciler reconciler = pendingMarkers.get();
+		if (reconciler != null) {
+			reconciler.replaceMarker(marker);
+		} else {
+			marker.delete();
+		}
+	}
+
 	@Override
 	public ISchedulingRule getRule(int kind, Map<String, String> args) {
 		// TODO probably we don't need even this and can return null if we are running as job
@@ -390,6 +429,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 		SubMonitor localMonitor = SubMonitor.convert(monitor, BuilderMessages.api_analysis_builder, 8);
 
 		IApiBaseline baseline = ApiPlugin.getDefault().getApiBaselineManager().getDefaultApiBaseline();
+		pendingMarkers.set(new MarkerReconciler());
 		try {
 			SubMonitor switchMonitor = localMonitor.split(4);
 			if (fullBuild) {
@@ -447,7 +487,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 							if (state == null) {
 								buildAll(baseline, wbaseline, switchMonitor.split(1));
 							} else {
-								BuildState.setLastBuiltState(this.currentproject, null);
+								BuildState.markBuildStarted(this.currentproject, this.buildstate);
 								IncrementalApiBuilder builder = new IncrementalApiBuilder(this);
 								builder.build(baseline, wbaseline, deltas, state, this.buildstate, switchMonitor.split(1));
 							}
@@ -469,6 +509,12 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			}
 			ApiPlugin.log(e);
 		} finally {
+			MarkerReconciler reconciler = pendingMarkers.get();
+			pendingMarkers.remove();
+			if (reconciler != null) {
+				// no markers were created, apply the pending deletions
+				runMarkersTask(reconciler::apply);
+			}
 			try {
 				localMonitor.split(1);
 				if (this.analyzer != null) {
@@ -970,10 +1016,24 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 */
 	protected void createMarkers() {
 		IApiProblem[] problems = getAnalyzer().getProblems();
+		MarkerReconciler reconciler = pendingMarkers.get();
+		pendingMarkers.remove();
+		if (reconciler == null) {
+			runMarkersTask(() -> createMarkersInternally(problems));
+		} else {
+			runMarkersTask(() -> reconcileMarkers(problems, reconciler));
+		}
+	}
+
+	/**
+	 * Runs the given marker update as part of the markers job or directly,
+	 * depending on whether the analysis runs as job.
+	 */
+	private void runMarkersTask(Runnable task) {
 		if (isRunningAsJob()) {
-			new ApiAnalysisMarkersJob(() -> createMarkersInternally(problems)).schedule();
+			new ApiAnalysisMarkersJob(task).schedule();
 		} else {
-			createMarkersInternally(problems);
+			task.run();
 		}
 	}
 
@@ -1007,6 +1067,54 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 		}
 	}
 
+	/**
+	 * Updates the markers replaced during the build to the given problems in
+	 * a single workspace operation. Markers that are reported again are kept
+	 * untouched, only the resolved ones are deleted and the new ones created.
+	 *
+	 * @param problems the problems found by the build
+	 * @param reconciler the markers replaced during the build
+	 */
+	void reconcileMarkers(IApiProblem[] problems, MarkerReconciler reconciler) {
+		IResource manifest = Util.getManifestFile(this.currentproject);
+		if (manifest != null) {
+			reconciler.replaceMarkers(manifest, IApiMarkerConstants.VERSION_NUMBERING_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
+		}
+		reconciler.replaceMarkers(this.currentproject, IApiMarkerConstants.DEFAULT_API_BASELINE_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
+		reconciler.replaceMarkers(this.currentproject, IApiMarkerConstants.API_COMPONENT_RESOLUTION_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
+		List<IApiProblem> directProblems = new ArrayList<>();
+		for (IApiProblem problem : problems) {
+			int category = problem.getCategory();
+			String type = getProblemTypeFromCategory(category, problem.getKind());
+			if (type == null) {
+				continue;
+			}
+			if (ApiPlugin.DEBUG_BUILDER) {
+				System.out.println("ApiAnalysisBuilder: reporting marker for: " + problem.toString()); //$NON-NLS-1$
+			}
+			if (category == IApiProblem.CATEGORY_API_USE_SCAN_PROBLEM || (problem.getKind() == IApiProblem.API_BASELINE_MISMATCH && category == IApiProblem.CATEGORY_API_BASELINE)) {
+				// these markers merge with existing ones, create them afterwards
+				directProblems.add(problem);
+				continue;
+			}
+			IResource resource = resolveResource(problem);
+			if (resource != null) {
+				reconciler.addMarker(resource, type, createMarkerAttributes(category, problem));
+			}
+		}
+		try {
+			ResourcesPlugin.getWorkspace().run(monitor -> {
+				reconciler.apply();
+				for (IApiProblem problem : directProblems) {
+					int category = problem.getCategory();
+					createMarkerForProblem(category, getProblemTypeFromCategory(category, problem.getKind()), problem);
+				}
+			}, null, IWorkspace.AVOID_UPDATE, null);
+		} catch (CoreException e) {
+			ApiPlugin.log(e);
+		}
+	}
+
 	/**
 	 * Returns the {@link IApiMarkerConstants} problem type given the problem
 	 * category
@@ -1102,41 +1210,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 				marker = resource.createMarker(type);
 			}
 
-			int line = problem.getLineNumber();
-			switch (category)
-				{
-				case IApiProblem.CATEGORY_VERSION:
-				case IApiProblem.CATEGORY_API_BASELINE:
-				case IApiProblem.CATEGORY_API_COMPONENT_RESOLUTION:
-				case IApiProblem.CATEGORY_API_USE_SCAN_PROBLEM: {
-					break;
-				}
-				default: {
-					line++;
-				}
-			}
-			marker.setAttributes(new String[] {
-					IMarker.MESSAGE, IMarker.SEVERITY, IMarker.LINE_NUMBER,
-					IMarker.CHAR_START, IMarker.CHAR_END, IMarker.SOURCE_ID,
-					IApiMarkerConstants.MARKER_ATTR_PROBLEM_ID }, new Object[] {
-					problem.getMessage(),
-					Integer.valueOf(ApiPlugin.getDefault().getSeverityLevel(ApiProblemFactory.getProblemSeverityId(problem), this.currentproject)),
-					Integer.valueOf(line), Integer.valueOf(problem.getCharStart()),
-					Integer.valueOf(problem.getCharEnd()),
-					ApiAnalysisBuilder.SOURCE, Integer.valueOf(problem.getId()) });
-			// add message arguments, if any
-			String[] args = problem.getMessageArguments();
-			if (args.length > 0) {
-				marker.setAttribute(IApiMarkerConstants.MARKER_ATTR_MESSAGE_ARGUMENTS, createArgAttribute(args));
-			}
-			String typeName = problem.getTypeName();
-			if (typeName != null) {
-				marker.setAttribute(IApiMarkerConstants.MARKER_ATTR_PROBLEM_TYPE_NAME, typeName);
-			}
-			// add all other extra arguments, if any
-			if (problem.getExtraMarkerAttributeIds().length > 0) {
-				marker.setAttributes(problem.getExtraMarkerAttributeIds(), problem.getExtraMarkerAttributeValues());
-			}
+			marker.setAttributes(createMarkerAttributes(category, problem));
 			if (ApiPlugin.DEBUG_BUILDER) {
 				System.out.println("ApiAnalysisBuilder: Created the marker: " + marker.getId() + " - " + marker.getAttributes().entrySet()); //$NON-NLS-1$ //$NON-NLS-2$
 			}
@@ -1146,6 +1220,54 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 		}
 	}
 
+	/**
+	 * Returns the marker attributes for the given problem
+	 *
+	 * @param category the category of the problem - see {@link IApiProblem} for
+	 *            categories
+	 * @param problem the problem to create the marker attributes for
+	 * @return the marker attributes
+	 */
+	Map<String, Object> createMarkerAttributes(int category, IApiProblem problem) {
+		int line = problem.getLineNumber();
+		switch (category)
+			{
+			case IApiProblem.CATEGORY_VERSION:
+			case IApiProblem.CATEGORY_API_BASELINE:
+			case IApiProblem.CATEGORY_API_COMPONENT_RESOLUTION:
+			case IApiProblem.CATEGORY_API_USE_SCAN_PROBLEM: {
+				break;
+			}
+			default: {
+				line++;
+			}
+		}
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put(IMarker.MESSAGE, problem.getMessage());
+		attributes.put(IMarker.SEVERITY, Integer.valueOf(ApiPlugin.getDefault().getSeverityLevel(ApiProblemFactory.getProblemSeverityId(problem), this.currentproject)));
+		attributes.put(IMarker.LINE_NUMBER, Integer.valueOf(line));
+		attributes.put(IMarker.CHAR_START, Integer.valueOf(problem.getCharStart()));
+		attributes.put(IMarker.CHAR_END, Integer.valueOf(problem.getCharEnd()));
+		attributes.put(IMarker.SOURCE_ID, ApiAnalysisBuilder.SOURCE);
+		attributes.put(IApiMarkerConstants.MARKER_ATTR_PROBLEM_ID, Integer.valueOf(problem.getId()));
+		// add message arguments, if any
+		String[] args = problem.getMessageArguments();
+		if (args.length > 0) {
+			attributes.put(IApiMarkerConstants.MARKER_ATTR_MESSAGE_ARGUMENTS, createArgAttribute(args));
+		}
+		String typeName = problem.getTypeName();
+		if (typeName != null) {
+			attributes.put(IApiMarkerConstants.MARKER_ATTR_PROBLEM_TYPE_NAME, typeName);
+		}
+		// add all other extra arguments, if any
+		String[] extraIds = problem.getExtraMarkerAttributeIds();
+		Object[] extraValues = problem.getExtraMarkerAttributeValues();
+		for (int i = 0; i < extraIds.length; i++) {
+			attributes.put(extraIds[i], extraValues[i]);
+		}
+		return attributes;
+	}
+
 	/**
 	 * Resolves the resource from the path in the problem, returns
 	 * <code>null</code> in the following cases:
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,19 +15,19 @@ package org.eclipse.pde.api.tools.internal.builder;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -59,7 +59,7 @@ import org.eclipse.pde.core.build.IBuildModel;
 public class BuildState {
 	private static final IDelta[] EMPTY_DELTAS = new IDelta[0];
 	private static final String[] NO_REEXPORTED_COMPONENTS = new String[0];
-	private static final int VERSION = 33;
+	private static final int VERSION = 36;
 
 	private final Map<String, Set<IDelta>> compatibleChanges;
 	private final Map<String, Set<IDelta>> breakingChanges;
@@ -78,11 +78,24 @@ public class BuildState {
 	private String[] reexportedComponents;
 	private Set<String> apiToolingDependentProjects;
 	private long buildpathCRC = -1L;
+	/**
+	 * Names of the types whose changes were modified since the state was last
+	 * saved
+	 *
+	 * @since 1.3.600
+	 */
+	private final Set<String> changedTypes = new HashSet<>();
+	/**
+	 * The log this state was read from or last saved to, or <code>null</code>
+	 *
+	 * @since 1.3.600
+	 */
+	private BuildStateLog log;
 
 	/**
 	 * Constructor
 	 */
-	BuildState() {
+	public BuildState() {
 		this.compatibleChanges = new LinkedHashMap<>();
 		this.breakingChanges = new LinkedHashMap<>();
 		this.manifestChanges = new LinkedHashMap<>();
@@ -92,7 +105,9 @@ public class BuildState {
 	/**
 	 * Reads the build state from an input stream
 	 *
-	 * @return the {@link BuildState} from the given input stream
+	 * @return the {@link BuildState} from the given input stream or
+	 *         <code>null</code> if the state is out of date, incomplete or the
+	 *         last build did not complete
 	 */
 	public static BuildState read(DataInputStream in) throws IOException {
 		String pluginID = in.readUTF();
@@ -107,58 +122,46 @@ public class BuildState {
 			// this is an old build state - a full build is required
 			return null;
 		}
-		if (in.readBoolean()) {
-			// continue to read
-			BuildState state = new BuildState();
-			state.buildpathCRC = in.readLong();
-			int count = in.readInt();
-			// read all compatible deltas
-			for (int i = 0; i < count; i++) {
-				state.addCompatibleChange(readDelta(in));
-			}
-			count = in.readInt();
-			// read all breaking deltas
-			for (int i = 0; i < count; i++) {
-				state.addBreakingChange(readDelta(in));
-			}
-			count = in.readInt();
-			// read all re-exported component names
-			String[] components = new String[count];
-			for (int i = 0; i < count; i++) {
-				components[i] = in.readUTF();
-			}
-			state.reexportedComponents = components;
-			count = in.readInt();
-			for (int i = 0; i < count; i++) {
-				state.addApiToolingDependentProject(in.readUTF());
-			}
-			if (in.available() > 0) {
-				count = in.readInt();
-				if (count > 0) {
-					// read the saved headers
-					HashMap<String, String> map = new HashMap<>(count);
-					for (int i = 0; i < count; i++) {
-						String key = in.readUTF();
-						String value = in.readUTF();
-						map.put(key, value);
+		BuildStateLog log = new BuildStateLog();
+		BuildState state = null;
+		boolean building = false;
+		try {
+			BuildStateLog.Record record = null;
+			while ((record = log.readRecord(in)) != null) {
+				DataInputStream payload = new DataInputStream(new ByteArrayInputStream(record.payload()));
+				switch (record.kind()) {
+					case BuildStateLog.SNAPSHOT -> {
+						state = new BuildState();
+						state.readRecord(payload, log.strings);
 					}
-					state.setManifestState(map);
-				}
-				count = in.readInt();
-				if (count > 0) {
-					// read the saved headers
-					HashMap<String, String> map = new LinkedHashMap<>(count);
-					for (int i = 0; i < count; i++) {
-						String key = in.readUTF();
-						String value = in.readUTF();
-						map.put(key, value);
+					case BuildStateLog.CHANGES -> {
+						if (state == null) {
+							throw new IOException(BuilderMessages.build_wrongFileFormat);
+						}
+						state.readRecord(payload, log.strings);
 					}
-					state.setBuildPropertiesState(map);
+					case BuildStateLog.BUILD_STARTED -> {
+						// cleared again by the changes saved at the end of
+						// the build
+					}
+					default -> throw new IOException(BuilderMessages.build_wrongFileFormat);
 				}
+				building = record.kind() == BuildStateLog.BUILD_STARTED;
+			}
+		} catch (IOException e) {
+			// the log is truncated or damaged - a full build is required
+			if (ApiPlugin.DEBUG_BUILDER) {
+				System.out.println("ApiAnalysisBuilder: Discarding damaged build state: " + e.getMessage()); //$NON-NLS-1$
 			}
-			return state;
+			return null;
 		}
-		return null;
+		if (state == null || building) {
+			// the last build did not complete - a full build is required
+			return null;
+		}
+		state.clearChanges();
+		state.log = log;
+		return state;
 	}
 
 	/**
@@ -168,47 +171,128 @@ public class BuildState {
 		out.writeUTF(ApiPlugin.PLUGIN_ID);
 		out.writeUTF("STATE"); //$NON-NLS-1$
 		out.writeInt(VERSION);
-		out.writeBoolean(true);
-		out.writeLong(state.buildpathCRC);
-		IDelta[] compatibleChangesDeltas = state.getCompatibleChanges();
-		int length = compatibleChangesDeltas.length;
-		out.writeInt(length);
-		for (int i = 0; i < length; i++) {
-			writeDelta(compatibleChangesDeltas[i], out);
-		}
-		IDelta[] breakingChangesDeltas = state.getBreakingChanges();
-		length = breakingChangesDeltas.length;
-		out.writeInt(length);
-		for (int i = 0; i < length; i++) {
-			writeDelta(breakingChangesDeltas[i], out);
+		BuildStateLog log = new BuildStateLog();
+		state.writeRecord(out, log, BuildStateLog.SNAPSHOT);
+		state.log = log;
+	}
+
+	/**
+	 * Reads a snapshot or the changes of a log record into this state
+	 *
+	 * @param in the record payload
+	 * @param strings the strings of the log
+	 */
+	private void readRecord(DataInputStream in, BuildStateLog.StringTable strings) throws IOException {
+		this.buildpathCRC = in.readLong();
+		int count = in.readInt();
+		// read all re-exported component names
+		String[] components = new String[count];
+		for (int i = 0; i < count; i++) {
+			components[i] = strings.read(in);
+		}
+		this.reexportedComponents = components;
+		count = in.readInt();
+		this.apiToolingDependentProjects = null;
+		for (int i = 0; i < count; i++) {
+			addApiToolingDependentProject(strings.read(in));
+		}
+		// read the saved headers
+		setManifestState(readMap(in, strings));
+		setBuildPropertiesState(readMap(in, strings));
+		count = in.readInt();
+		// read the compatible and breaking deltas of the changed types
+		for (int i = 0; i < count; i++) {
+			String typeName = strings.read(in);
+			this.compatibleChanges.remove(typeName);
+			this.breakingChanges.remove(typeName);
+			int length = in.readInt();
+			for (int j = 0; j < length; j++) {
+				addCompatibleChange(readDelta(in, strings));
+			}
+			length = in.readInt();
+			for (int j = 0; j < length; j++) {
+				addBreakingChange(readDelta(in, strings));
+			}
 		}
-		String[] reexportedComponents = state.getReexportedComponents();
-		length = reexportedComponents.length;
-		out.writeInt(length);
-		for (int i = 0; i < length; i++) {
-			out.writeUTF(reexportedComponents[i]);
+	}
+
+	/**
+	 * Writes a snapshot or the changes since the last save of this state as a
+	 * record of the given log
+	 *
+	 * @param out the stream to write the record to
+	 * @param buildLog the log the record belongs to
+	 * @param kind {@link BuildStateLog#SNAPSHOT} or
+	 *            {@link BuildStateLog#CHANGES}
+	 */
+	private void writeRecord(DataOutputStream out, BuildStateLog buildLog, byte kind) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream payload = new DataOutputStream(bytes);
+		BuildStateLog.StringTable strings = buildLog.strings;
+		payload.writeLong(this.buildpathCRC);
+		String[] components = getReexportedComponents();
+		payload.writeInt(components.length);
+		for (String component : components) {
+			strings.write(payload, component);
+		}
+		Set<String> projects = getApiToolingDependentProjects();
+		payload.writeInt(projects.size());
+		for (String project : projects) {
+			strings.write(payload, project);
+		}
+		writeMap(getManifestState(), payload, strings);
+		writeMap(getBuildPropertiesState(), payload, strings);
+		Set<String> typeNames = this.changedTypes;
+		if (kind == BuildStateLog.SNAPSHOT) {
+			typeNames = new LinkedHashSet<>(this.compatibleChanges.keySet());
+			typeNames.addAll(this.breakingChanges.keySet());
+		}
+		payload.writeInt(typeNames.size());
+		for (String typeName : typeNames) {
+			strings.write(payload, typeName);
+			writeDeltas(this.compatibleChanges.get(typeName), payload, strings);
+			writeDeltas(this.breakingChanges.get(typeName), payload, strings);
+		}
+		payload.flush();
+		buildLog.writeRecord(out, kind, bytes);
+	}
+
+	/**
+	 * Forgets the changes made to this state, once they have been saved
+	 */
+	private void clearChanges() {
+		this.changedTypes.clear();
+	}
+
+	private static Map<String, String> readMap(DataInputStream in, BuildStateLog.StringTable strings) throws IOException {
+		int count = in.readInt();
+		if (count == 0) {
+			return null;
 		}
-		Set<String> apiToolingDependentsProjects = state.getApiToolingDependentProjects();
-		length = apiToolingDependentsProjects.size();
-		out.writeInt(length);
-		for (String string : apiToolingDependentsProjects) {
-			out.writeUTF(string);
+		Map<String, String> map = new LinkedHashMap<>(count);
+		for (int i = 0; i < count; i++) {
+			String key = strings.read(in);
+			map.put(key, strings.read(in));
 		}
-		Map<String, String> map = state.getManifestState();
+		return map;
+	}
+
+	private static void writeMap(Map<String, String> map, DataOutputStream out, BuildStateLog.StringTable strings) throws IOException {
 		out.writeInt(map.size());
-		Entry<String, String> entry = null;
-		for (Iterator<Entry<String, String>> i = map.entrySet().iterator(); i.hasNext();) {
-			entry = i.next();
-			out.writeUTF(entry.getKey());
-			out.writeUTF(entry.getValue());
+		for (Entry<String, String> entry : map.entrySet()) {
+			strings.write(out, entry.getKey());
+			strings.write(out, entry.getValue());
 		}
-		map = state.getBuildPropertiesState();
-		out.writeInt(map.size());
-		entry = null;
-		for (Iterator<Entry<String, String>> i = map.entrySet().iterator(); i.hasNext();) {
-			entry = i.next();
-			out.writeUTF(entry.getKey());
-			out.writeUTF(entry.getValue());
+	}
+
+	private static void writeDeltas(Set<IDelta> deltas, DataOutputStream out, BuildStateLog.StringTable strings) throws IOException {
+		if (deltas == null) {
+			out.writeInt(0);
+			return;
+		}
+		out.writeInt(deltas.size());
+		for (IDelta delta : deltas) {
+			writeDelta(delta, out, strings);
 		}
 	}
 
@@ -216,14 +300,15 @@ public class BuildState {
 	 * Read the {@link IDelta} from the build state (input stream)
 	 *
 	 * @param in the input stream to read the {@link IDelta} from
+	 * @param strings the strings of the log
 	 * @return a reconstructed {@link IDelta} from the build state
 	 */
-	private static IDelta readDelta(DataInputStream in) throws IOException {
+	private static IDelta readDelta(DataInputStream in, BuildStateLog.StringTable strings) throws IOException {
 		// decode the delta from the build state
 		boolean hasComponentID = in.readBoolean();
 		String componentID = null;
 		if (hasComponentID) {
-			in.readUTF(); // delta.getComponentID()
+			strings.read(in); // delta.getComponentID()
 		}
 		int elementType = in.readInt(); // delta.getElementType()
 		int kind = in.readInt(); // delta.getKind()
@@ -231,17 +316,15 @@ public class BuildState {
 		int restrictions = in.readInt(); // delta.getRestrictions()
 		int oldModifiers = in.readInt(); // delta.getOldModifier()
 		int newModifiers = in.readInt(); // delta.getNewModifier()
-		String typeName = in.readUTF(); // delta.getTypeName()
-		String key = in.readUTF(); // delta.getKey()
+		String typeName = strings.read(in); // delta.getTypeName()
+		String key = strings.read(in); // delta.getKey()
 		int length = in.readInt(); // arguments.length;
 		String[] datas = null;
 		if (length != 0) {
-			ArrayList<String> arguments = new ArrayList<>();
+			datas = new String[length];
 			for (int i = 0; i < length; i++) {
-				arguments.add(in.readUTF());
+				datas[i] = strings.read(in);
 			}
-			datas = new String[length];
-			arguments.toArray(datas);
 		} else {
 			datas = new String[1];
 			datas[0] = typeName.replace('$', '.');
@@ -257,8 +340,9 @@ public class BuildState {
 	 *
 	 * @param delta the delta to write
 	 * @param out the stream to write to
+	 * @param strings the strings of the log
 	 */
-	private static void writeDelta(IDelta delta, DataOutputStream out) throws IOException {
+	private static void writeDelta(IDelta delta, DataOutputStream out, BuildStateLog.StringTable strings) throws IOException {
 		// encode a delta into the build state
 		// int elementType, int kind, int flags, int restrictions, int
 		// modifiers, String typeName, String key, Object data
@@ -266,7 +350,7 @@ public class BuildState {
 		boolean hasComponentID = apiComponentID != null;
 		out.writeBoolean(hasComponentID);
 		if (hasComponentID) {
-			out.writeUTF(apiComponentID);
+			strings.write(out, apiComponentID);
 		}
 		out.writeInt(delta.getElementType());
 		out.writeInt(delta.getKind());
@@ -274,13 +358,13 @@ public class BuildState {
 		out.writeInt(delta.getCurrentRestrictions());
 		out.writeInt(delta.getOldModifiers());
 		out.writeInt(delta.getNewModifiers());
-		out.writeUTF(delta.getTypeName());
-		out.writeUTF(delta.getKey());
+		strings.write(out, delta.getTypeName());
+		strings.write(out, delta.getKey());
 		String[] arguments = delta.getArguments();
 		int length = arguments.length;
 		out.writeInt(length);
 		for (int i = 0; i < length; i++) {
-			out.writeUTF(arguments[i]);
+			strings.write(out, arguments[i]);
 		}
 	}
 
@@ -292,6 +376,7 @@ public class BuildState {
 	 */
 	public void addCompatibleChange(IDelta delta) {
 		String typeName = delta.getTypeName();
+		this.changedTypes.add(typeName);
 		Set<IDelta> object = this.compatibleChanges.get(typeName);
 		if (object == null) {
 			Set<IDelta> changes = new HashSet<>();
@@ -310,6 +395,7 @@ public class BuildState {
 	 */
 	public void addBreakingChange(IDelta delta) {
 		String typeName = delta.getTypeName();
+		this.changedTypes.add(typeName);
 		Set<IDelta> object = this.breakingChanges.get(typeName);
 		if (object == null) {
 			Set<IDelta> changes = new HashSet<>();
@@ -368,6 +454,7 @@ public class BuildState {
 	 * @param typeName the given type name
 	 */
 	public void cleanup(String typeName) {
+		this.changedTypes.add(typeName);
 		this.breakingChanges.remove(typeName);
 		this.compatibleChanges.remove(typeName);
 		this.reexportedComponents = null;
@@ -544,7 +631,11 @@ public class BuildState {
 		if (file != null && file.exists()) {
 			try {
 				try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
-					return read(in);
+					BuildState state = read(in);
+					if (state != null) {
+						state.log.setLength(file.length());
+					}
+					return state;
 				} finally {
 					if (ApiPlugin.DEBUG_BUILDER) {
 						System.out.println("ApiAnalysisBuilder: Saved state thinks last build failed for " + project.getName()); //$NON-NLS-1$
@@ -576,6 +667,7 @@ public class BuildState {
 			if (state != null) {
 				saveBuiltState(project, state);
 			} else {
+				DependentsIndex.discard(project);
 				try {
 					File file = getSerializationFile(project);
 					if (file != null && file.exists()) {
@@ -588,6 +680,40 @@ public class BuildState {
 		}
 	}
 
+	/**
+	 * Discards the data kept in memory between the builds of the given
+	 * project, once it is closed or deleted
+	 *
+	 * @param project the project being closed or deleted
+	 */
+	public static void discardSessionState(IProject project) {
+		DependentsIndex.discard(project);
+	}
+
+	/**
+	 * Records in the saved state of the given project that an incremental build
+	 * started, so that the state is discarded if the build does not complete.
+	 *
+	 * @param project the project being built
+	 * @param state the state read for the build
+	 */
+	static void markBuildStarted(IProject project, BuildState state) throws CoreException {
+		File file = getSerializationFile(project);
+		BuildStateLog log = state.log;
+		if (file == null || log == null || file.length() != log.getLength()) {
+			setLastBuiltState(project, null);
+			return;
+		}
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)))) {
+			log.writeRecord(out, BuildStateLog.BUILD_STARTED, new ByteArrayOutputStream());
+		} catch (IOException e) {
+			state.log = null;
+			setLastBuiltState(project, null);
+			return;
+		}
+		log.setLength(file.length());
+	}
+
 	/**
 	 * Returns the {@link File} to use for saving and restoring the last built
 	 * state for the given project.
@@ -619,16 +745,27 @@ public class BuildState {
 		if (ApiPlugin.DEBUG_BUILDER) {
 			t = System.currentTimeMillis();
 		}
-		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
-			write(state, out);
+		// append the changes to the log the state was read from, unless the
+		// log is due for compaction or was modified in the meantime
+		BuildStateLog log = state.log;
+		boolean append = log != null && !log.needsCompaction() && file.length() == log.getLength();
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, append)))) {
+			if (append) {
+				state.writeRecord(out, log, BuildStateLog.CHANGES);
+			} else {
+				write(state, out);
+			}
 		} catch (RuntimeException | IOException e) {
 			try {
 				file.delete();
 			} catch (SecurityException se) {
 				// could not delete file: cannot do much more
 			}
+			state.log = null;
 			throw new CoreException(Status.error(NLS.bind(BuilderMessages.build_cannotSaveState, project.getName()), e));
 		}
+		state.log.setLength(file.length());
+		state.clearChanges();
 		if (ApiPlugin.DEBUG_BUILDER) {
 			t = System.currentTimeMillis() - t;
 			System.out.println(NLS.bind(BuilderMessages.build_saveStateComplete, String.valueOf(t)));
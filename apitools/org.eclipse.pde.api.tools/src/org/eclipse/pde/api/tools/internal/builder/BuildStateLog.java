@@ -0,0 +1,215 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.builder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * The append-only log a {@link BuildState} is saved to.
+ * <p>
+ * After the file header the log is a sequence of records, each made of a kind
+ * byte, the payload length, the CRC32 of the payload and the payload. The
+ * first record is a snapshot of the whole state; every save after that
+ * appends a record holding only what changed since the previous save. A
+ * record is also appended when an incremental build starts, so that a build
+ * that did not complete is noticed the next time the state is read. Strings
+ * are written once per log and referred to by their index afterwards.
+ * </p>
+ */
+final class BuildStateLog {
+
+	/**
+	 * Record holding the complete state
+	 */
+	static final byte SNAPSHOT = 1;
+	/**
+	 * Record holding the changes since the previous record
+	 */
+	static final byte CHANGES = 2;
+	/**
+	 * Record marking the start of an incremental build
+	 */
+	static final byte BUILD_STARTED = 3;
+
+	/**
+	 * The maximum number of records appended after a snapshot before the log
+	 * is compacted
+	 */
+	private static final int MAX_RECORDS = 64;
+
+	/**
+	 * The size in bytes of the records appended after a snapshot above which
+	 * the log is compacted, however large the snapshot is
+	 */
+	private static final long MAX_APPENDED_LENGTH = 4L * 1024 * 1024;
+
+	private static final int NULL_STRING = -1;
+	private static final int NEW_STRING = -2;
+
+	/**
+	 * The strings written to a log, in the order they were first written
+	 */
+	static final class StringTable {
+		private final List<String> fStrings = new ArrayList<>();
+		private final Map<String, Integer> fIds = new HashMap<>();
+
+		/**
+		 * Reads a string written with {@link #write(DataOutputStream, String)}
+		 */
+		String read(DataInputStream in) throws IOException {
+			int id = in.readInt();
+			switch (id) {
+				case NULL_STRING:
+					return null;
+				case NEW_STRING:
+					String value = in.readUTF();
+					fIds.put(value, Integer.valueOf(fStrings.size()));
+					fStrings.add(value);
+					return value;
+				default:
+					if (id < 0 || id >= fStrings.size()) {
+						throw new IOException(BuilderMessages.build_wrongFileFormat);
+					}
+					return fStrings.get(id);
+			}
+		}
+
+		/**
+		 * Writes the given string, or only its index if it was written to the
+		 * log before
+		 */
+		void write(DataOutputStream out, String value) throws IOException {
+			if (value == null) {
+				out.writeInt(NULL_STRING);
+				return;
+			}
+			Integer id = fIds.get(value);
+			if (id != null) {
+				out.writeInt(id.intValue());
+				return;
+			}
+			out.writeInt(NEW_STRING);
+			out.writeUTF(value);
+			fIds.put(value, Integer.valueOf(fStrings.size()));
+			fStrings.add(value);
+		}
+	}
+
+	/**
+	 * A record read from a log
+	 */
+	record Record(byte kind, byte[] payload) {
+	}
+
+	final StringTable strings;
+	private long fLength;
+	private int fRecords;
+	private long fSnapshotLength;
+	private long fAppendedLength;
+
+	/**
+	 * Constructor
+	 */
+	BuildStateLog() {
+		this.strings = new StringTable();
+		this.fLength = -1;
+	}
+
+	/**
+	 * Reads the next record from the given stream.
+	 *
+	 * @return the next record or <code>null</code> at the end of the log
+	 * @throws IOException if the record is truncated or damaged
+	 */
+	Record readRecord(DataInputStream in) throws IOException {
+		int kind = in.read();
+		if (kind < 0) {
+			return null;
+		}
+		int length = in.readInt();
+		long crc = in.readInt() & 0xFFFFFFFFL;
+		if (length < 0) {
+			throw new IOException(BuilderMessages.build_wrongFileFormat);
+		}
+		byte[] payload = new byte[length];
+		in.readFully(payload);
+		if (checksum(payload) != crc) {
+			throw new IOException(BuilderMessages.build_wrongFileFormat);
+		}
+		recorded((byte) kind, length);
+		return new Record((byte) kind, payload);
+	}
+
+	/**
+	 * Writes a record with the given kind and payload to the given stream
+	 */
+	void writeRecord(DataOutputStream out, byte kind, ByteArrayOutputStream payload) throws IOException {
+		out.writeByte(kind);
+		out.writeInt(payload.size());
+		byte[] bytes = payload.toByteArray();
+		out.writeInt((int) checksum(bytes));
+		out.write(bytes);
+		recorded(kind, bytes.length);
+	}
+
+	/**
+	 * Returns whether the log has grown enough since its snapshot that it
+	 * should be written again from scratch: once too many records were
+	 * appended, or the appended records outgrow the snapshot or the size
+	 * threshold
+	 */
+	boolean needsCompaction() {
+		return fRecords >= MAX_RECORDS || fAppendedLength > Math.min(fSnapshotLength, MAX_APPENDED_LENGTH);
+	}
+
+	/**
+	 * Returns the length of the file the log was last read from or written
+	 * to, or -1 if unknown
+	 */
+	long getLength() {
+		return fLength;
+	}
+
+	/**
+	 * Sets the length of the file the log was last read from or written to
+	 */
+	void setLength(long length) {
+		fLength = length;
+	}
+
+	private void recorded(byte kind, int length) {
+		if (kind == SNAPSHOT) {
+			fRecords = 0;
+			fSnapshotLength = length;
+			fAppendedLength = 0;
+		} else {
+			fRecords++;
+			fAppendedLength += length + 9;
+		}
+	}
+
+	private static long checksum(byte[] bytes) {
+		CRC32 crc = new CRC32();
+		crc.update(bytes);
+		return crc.getValue();
+	}
+}
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.builder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.core.builder.ReferenceCollection;
+import org.eclipse.jdt.internal.core.builder.StringSet;
+
+/**
+ * A reverse index from referenced names to the type locators (compilation
+ * units) of a project that reference them, as recorded in the JDT build state.
+ * <p>
+ * Names are indexed on demand: the first lookup of a simple or qualified name
+ * scans the JDT references once, later lookups are answered from the index.
+ * The index keeps the JDT reference collections it was last reconciled with.
+ * JDT replaces the collection of a compilation unit each time it is compiled,
+ * so comparing the instances tells exactly which units have to be tested
+ * again. The index lives for the session and is discarded when the build
+ * state of its project is cleared or the project is closed or deleted.
+ * </p>
+ */
+public final class DependentsIndex {
+
+	/**
+	 * The indexes of the projects built in this session, keyed by project name
+	 */
+	private static final Map<String, DependentsIndex> fgIndexes = new ConcurrentHashMap<>();
+
+	/**
+	 * The JDT reference collections this index was last reconciled with, or
+	 * <code>null</code> if it was never reconciled
+	 */
+	private Map<String, ReferenceCollection> fReferences;
+	private final Map<String, Set<String>> fSimpleNames = new HashMap<>();
+	private final Map<String, Set<String>> fQualifiedNames = new HashMap<>();
+
+	/**
+	 * Returns the index of the given project, creating an empty one if the
+	 * project was not built in this session
+	 *
+	 * @param project the project being built
+	 * @return the dependents index of the project
+	 */
+	static DependentsIndex getIndex(IProject project) {
+		return fgIndexes.computeIfAbsent(project.getName(), name -> new DependentsIndex());
+	}
+
+	/**
+	 * Discards the index of the given project
+	 *
+	 * @param project the project whose build state is cleared, closed or
+	 *            deleted
+	 */
+	static void discard(IProject project) {
+		fgIndexes.remove(project.getName());
+	}
+
+	/**
+	 * Brings the index up to date with the given JDT references. Only the
+	 * compilation units whose reference collection was added or replaced since
+	 * the last reconcile are tested again.
+	 *
+	 * @param references the references of the current JDT build state
+	 */
+	public void reconcile(Map<String, ReferenceCollection> references) {
+		Map<String, ReferenceCollection> previous = fReferences;
+		fReferences = new HashMap<>(references);
+		if (previous == null || fSimpleNames.isEmpty() && fQualifiedNames.isEmpty()) {
+			return;
+		}
+		for (String locator : previous.keySet()) {
+			if (!references.containsKey(locator)) {
+				removeLocator(locator);
+			}
+		}
+		Map<String, ReferenceCollection> dirty = new LinkedHashMap<>();
+		for (Entry<String, ReferenceCollection> entry : references.entrySet()) {
+			if (previous.get(entry.getKey()) != entry.getValue()) {
+				dirty.put(entry.getKey(), entry.getValue());
+			}
+		}
+		if (!dirty.isEmpty()) {
+			for (String locator : dirty.keySet()) {
+				removeLocator(locator);
+			}
+			reindex(fSimpleNames, dirty, DependentsIndex::internSimpleName, (refs, name) -> refs.includes(null, new char[][] { name }, null));
+			reindex(fQualifiedNames, dirty, DependentsIndex::internQualifiedName, (refs, name) -> refs.includes(new char[][][] { name }, null, null));
+		}
+	}
+
+	/**
+	 * Returns the type locators whose references include one of the given
+	 * simple names and one of the given qualified names, matching
+	 * {@link ReferenceCollection#includes(char[][][], char[][], char[][])}. A
+	 * <code>null</code> array matches any reference.
+	 *
+	 * @param references the references of the current JDT build state, the
+	 *            index must have been reconciled with them
+	 * @param qualifiedNames the interned qualified names or <code>null</code>
+	 * @param simpleNames the interned simple names or <code>null</code>
+	 * @return the matching type locators or <code>null</code> if every type
+	 *         locator matches
+	 */
+	public Set<String> getDependents(Map<String, ReferenceCollection> references, char[][][] qualifiedNames, char[][] simpleNames) {
+		if (qualifiedNames == null && simpleNames == null) {
+			return null;
+		}
+		Set<String> simple = null;
+		if (simpleNames != null) {
+			simple = new HashSet<>();
+			for (char[] name : simpleNames) {
+				char[][] query = new char[][] { name };
+				simple.addAll(lookup(fSimpleNames, new String(name), references, refs -> refs.includes(null, query, null)));
+			}
+		}
+		Set<String> qualified = null;
+		if (qualifiedNames != null) {
+			qualified = new HashSet<>();
+			for (char[][] name : qualifiedNames) {
+				char[][][] query = new char[][][] { name };
+				qualified.addAll(lookup(fQualifiedNames, qualifiedKey(name), references, refs -> refs.includes(query, null, null)));
+			}
+		}
+		if (simple == null) {
+			return qualified;
+		}
+		if (qualified != null) {
+			simple.retainAll(qualified);
+		}
+		return simple;
+	}
+
+	private static Set<String> lookup(Map<String, Set<String>> names, String key, Map<String, ReferenceCollection> references, Predicate<ReferenceCollection> test) {
+		return names.computeIfAbsent(key, k -> {
+			Set<String> dependents = new HashSet<>();
+			for (Entry<String, ReferenceCollection> entry : references.entrySet()) {
+				if (test.test(entry.getValue())) {
+					dependents.add(entry.getKey());
+				}
+			}
+			return dependents;
+		});
+	}
+
+	private void removeLocator(String locator) {
+		for (Set<String> dependents : fSimpleNames.values()) {
+			dependents.remove(locator);
+		}
+		for (Set<String> dependents : fQualifiedNames.values()) {
+			dependents.remove(locator);
+		}
+	}
+
+	private static <T> void reindex(Map<String, Set<String>> names, Map<String, ReferenceCollection> dirty, Function<String, T> intern, BiPredicate<ReferenceCollection, T> test) {
+		List<String> unknown = new ArrayList<>();
+		for (Entry<String, Set<String>> entry : names.entrySet()) {
+			T name = intern.apply(entry.getKey());
+			if (name == null) {
+				unknown.add(entry.getKey());
+				continue;
+			}
+			for (Entry<String, ReferenceCollection> candidate : dirty.entrySet()) {
+				if (test.test(candidate.getValue(), name)) {
+					entry.getValue().add(candidate.getKey());
+				}
+			}
+		}
+		// names that can no longer be interned are looked up again on demand
+		for (String name : unknown) {
+			names.remove(name);
+		}
+	}
+
+	private static char[] internSimpleName(String name) {
+		StringSet set = new StringSet(1);
+		set.add(name);
+		char[][] interned = ReferenceCollection.internSimpleNames(set, true);
+		return interned.length == 1 ? interned[0] : null;
+	}
+
+	private static char[][] internQualifiedName(String name) {
+		StringSet set = new StringSet(1);
+		set.add(name);
+		char[][][] interned = ReferenceCollection.internQualifiedNames(set);
+		return interned.length == 1 ? interned[0] : null;
+	}
+
+	private static String qualifiedKey(char[][] name) {
+		return new String(CharOperation.concatWith(name, '/'));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,6 @@ package org.eclipse.pde.api.tools.internal.builder;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map.Entry;
 import java.util.Set;
 
 import org.eclipse.core.resources.IFile;
@@ -185,6 +184,7 @@ public class IncrementalApiBuilder {
 	ApiAnalysisBuilder builder = null;
 	BuildContext context = null;
 	IApiBaseline workspaceBaseline = null;
+	DependentsIndex dependentsIndex = null;
 
 	/**
 	 * Constructor
@@ -234,6 +234,7 @@ public class IncrementalApiBuilder {
 			for (IResourceDelta delta : deltas) {
 				delta.accept(visitor);
 			}
+			this.dependentsIndex = null;
 			buildContext(project, state, visitor.changes, depprojects);
 			build(project, baseline, wbaseline, state, buildstate, localmonitor.split(1));
 		} catch (OperationCanceledException oce) {
@@ -479,11 +480,14 @@ public class IncrementalApiBuilder {
 		if (internedSimpleNames.length < typenames.elementSize) {
 			internedSimpleNames = null;
 		}
-		Set<Entry<String, ReferenceCollection>> entrySet = state.getReferences().entrySet();
-		for (Entry<String, ReferenceCollection> entry : entrySet) {
-			String typeLocator = entry.getKey();
-			ReferenceCollection refs = entry.getValue();
-			if (refs.includes(internedQualifiedNames, internedSimpleNames, null)) {
+		if (this.dependentsIndex == null) {
+			// only compare with the JDT state in builds that look up dependents
+			this.dependentsIndex = DependentsIndex.getIndex(project);
+			this.dependentsIndex.reconcile(state.getReferences());
+		}
+		Set<String> dependents = this.dependentsIndex.getDependents(state.getReferences(), internedQualifiedNames, internedSimpleNames);
+		for (String typeLocator : state.getReferences().keySet()) {
+			if (dependents == null || dependents.contains(typeLocator)) {
 				IFile file = project.getFile(typeLocator);
 				if (file == null) {
 					continue;
@@ -542,7 +546,7 @@ public class IncrementalApiBuilder {
 				for (IMarker marker : markers) {
 					tname = Util.getTypeNameFromMarker(marker);
 					if (this.context.containsStructuralChange(tname)) {
-						marker.delete();
+						this.builder.deleteMarker(marker);
 					}
 				}
 				subMonitor.split(1);
@@ -553,7 +557,7 @@ public class IncrementalApiBuilder {
 				for (IMarker marker : markers) {
 					tname = Util.getTypeNameFromMarker(marker);
 					if (this.context.containsStructuralChange(tname)) {
-						marker.delete();
+						this.builder.deleteMarker(marker);
 					}
 				}
 				subMonitor.split(1);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2024 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,9 @@
 package org.eclipse.pde.api.tools.internal.model;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -26,6 +28,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.URIUtil;
 import org.eclipse.jdt.launching.environments.ExecutionEnvironmentDescription;
@@ -305,6 +308,47 @@ public class ApiModelFactory {
 		}
 	}
 
+	/**
+	 * Collects API components for the bundles contained in the plug-ins folder
+	 * of the given zip archive and adds them to the baseline. The bundles are
+	 * read in place from the archive, nothing is extracted to disk. The
+	 * archive stays open until all returned components have been disposed.
+	 *
+	 * @param baseline The baseline to add the components to
+	 * @param archiveLocation location of a zip archive of an installation
+	 * @param monitor progress monitor or <code>null</code>, the caller is
+	 *            responsible for calling {@link IProgressMonitor#done()}
+	 * @return List of API components that were added to the baseline, possibly
+	 *         empty, never <code>null</code>
+	 * @throws CoreException If problems occur reading the archive or modifying
+	 *             the baseline
+	 */
+	public static IApiComponent[] addComponentsFromArchive(IApiBaseline baseline, String archiveLocation,
+			IProgressMonitor monitor) throws CoreException {
+		try (ArchiveBaselineLocation archive = ArchiveBaselineLocation.open(archiveLocation)) {
+			List<Path> bundles = archive.getBundlePaths();
+			SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.configuring_baseline, bundles.size());
+			List<IApiComponent> components = new ArrayList<>();
+			for (Path bundle : bundles) {
+				subMonitor.split(1);
+				ArchiveBundleComponent component = new ArchiveBundleComponent(baseline, archive, bundle, getBundleID());
+				if (component.isValidBundle()) {
+					component.attach();
+					subMonitor.subTask(NLS.bind(Messages.adding_component__0, component.getSymbolicName()));
+					components.add(component);
+				}
+			}
+			if (components.isEmpty()) {
+				return NO_COMPONENTS;
+			}
+			IApiComponent[] result = components.toArray(new IApiComponent[components.size()]);
+			baseline.addApiComponents(result);
+			return result;
+		} catch (IOException e) {
+			throw new CoreException(Status.error(NLS.bind(Messages.ApiModelFactory_failed_to_read_archive, archiveLocation), e));
+		}
+	}
+
 	public static IApiBaseline newApiBaselineFromTarget(String name, ITargetDefinition definition, IProgressMonitor monitor) throws CoreException {
 		IApiBaseline baseline = new ApiBaseline(name);
 
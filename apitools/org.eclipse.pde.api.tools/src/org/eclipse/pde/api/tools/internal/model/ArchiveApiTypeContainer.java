@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -107,6 +107,12 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	String fLocation;
 
+	/**
+	 * Root of the archive contents if the archive does not reside in the local
+	 * file system, or <code>null</code> to open {@link #fLocation}.
+	 */
+	private final Path fRoot;
+
 	/**
 	 * Cache of package names to a map of class names to class files paths in that
 	 * package, or <code>null</code> if not yet initialized.
@@ -128,6 +134,22 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	public ArchiveApiTypeContainer(IApiElement parent, String path) {
 		super(parent, IApiElement.API_TYPE_CONTAINER, path);
 		this.fLocation = path;
+		this.fRoot = null;
+	}
+
+	/**
+	 * Constructs an {@link IApiTypeContainer} container for archive contents
+	 * that are already accessible through a file system, such as a jar nested
+	 * in another archive or a folder inside an archive.
+	 *
+	 * @param parent the parent {@link IApiElement} or <code>null</code> if none
+	 * @param name   unique name of the container used for display and equality
+	 * @param root   root path of the contents
+	 */
+	public ArchiveApiTypeContainer(IApiElement parent, String name, Path root) {
+		super(parent, IApiElement.API_TYPE_CONTAINER, name);
+		this.fLocation = name;
+		this.fRoot = root;
 	}
 
 	/**
@@ -137,6 +159,9 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	@SuppressWarnings("restriction")
 	private Path getLocation() throws IOException {
+		if (fRoot != null) {
+			return fRoot;
+		}
 		Path path = Path.of(fLocation);
 		if (fLocation.endsWith(org.eclipse.jdt.internal.compiler.util.JRTUtil.JRT_FS_JAR)) {
 			Path jreRoot = path.getParent().getParent();
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * A read-only view of an installation packaged as a zip archive, such as an
+ * Eclipse SDK download. Bundles are read in place through a zip file system
+ * instead of extracting the archive to disk.
+ * <p>
+ * The archive file system is reference counted: it stays open as long as the
+ * location itself or any {@link ArchiveBundleComponent} created from it has
+ * not been closed or disposed.
+ * </p>
+ *
+ * @since 1.3.600
+ */
+public final class ArchiveBaselineLocation implements Closeable {
+
+	/**
+	 * Folders inside the archive that are searched for bundles, in order
+	 */
+	private static final String[] PLUGIN_FOLDERS = { "eclipse/plugins", "plugins" }; //$NON-NLS-1$ //$NON-NLS-2$
+
+	private final String fArchiveLocation;
+
+	private final FileSystem fFileSystem;
+
+	private int fReferences = 1;
+
+	private ArchiveBaselineLocation(String archiveLocation, FileSystem fileSystem) {
+		fArchiveLocation = archiveLocation;
+		fFileSystem = fileSystem;
+	}
+
+	/**
+	 * Opens the zip archive at the given location.
+	 *
+	 * @param archiveLocation absolute path of the archive in the local file
+	 *            system
+	 * @return the opened location, to be closed by the caller
+	 * @throws IOException if the archive cannot be opened
+	 */
+	public static ArchiveBaselineLocation open(String archiveLocation) throws IOException {
+		FileSystem fileSystem = FileSystems.newFileSystem(Path.of(archiveLocation), (ClassLoader) null);
+		return new ArchiveBaselineLocation(archiveLocation, fileSystem);
+	}
+
+	/**
+	 * Returns the paths of all bundle candidates (jars and folders) in the
+	 * plug-ins folder of the archive.
+	 *
+	 * @return bundle candidate paths, possibly empty
+	 * @throws IOException if the archive cannot be read
+	 */
+	public List<Path> getBundlePaths() throws IOException {
+		for (String folder : PLUGIN_FOLDERS) {
+			Path plugins = fFileSystem.getPath(folder);
+			if (Files.isDirectory(plugins)) {
+				try (Stream<Path> children = Files.list(plugins)) {
+					return children.sorted().toList();
+				}
+			}
+		}
+		return List.of();
+	}
+
+	/**
+	 * Returns a human readable location of the given path inside the archive.
+	 *
+	 * @param path a path inside the archive
+	 * @return the location of the form <code>archive!/path</code>
+	 */
+	public String getLocation(Path path) {
+		return fArchiveLocation + '!' + path.toAbsolutePath().toString();
+	}
+
+	synchronized void retain() {
+		if (fReferences <= 0) {
+			throw new IllegalStateException("Archive already closed: " + fArchiveLocation); //$NON-NLS-1$
+		}
+		fReferences++;
+	}
+
+	synchronized void release() throws IOException {
+		if (fReferences > 0 && --fReferences == 0) {
+			fFileSystem.close();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		release();
+	}
+}
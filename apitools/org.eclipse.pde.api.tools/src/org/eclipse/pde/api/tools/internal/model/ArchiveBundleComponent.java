@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.osgi.util.ManifestElement;
+import org.eclipse.pde.api.tools.internal.FilterStore;
+import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.IApiFilterStore;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
+import org.eclipse.pde.api.tools.internal.util.Util;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.Constants;
+
+/**
+ * A bundle that is read in place from an {@link ArchiveBaselineLocation}.
+ * Jar'd bundles are opened as nested zip file systems on first access to
+ * their types; manifest and other metadata files are streamed without
+ * opening the nested archive.
+ *
+ * @since 1.3.600
+ */
+public class ArchiveBundleComponent extends BundleComponent {
+
+	private final ArchiveBaselineLocation fArchive;
+
+	/**
+	 * Path of the bundle jar or folder inside the archive
+	 */
+	private final Path fBundlePath;
+
+	/**
+	 * File systems of nested archives opened by this component, closed on
+	 * disposal
+	 */
+	private final List<FileSystem> fOpenFileSystems = new ArrayList<>(1);
+
+	private FileSystem fJarFileSystem;
+
+	private boolean fAttached;
+
+	/**
+	 * Constructs a new API component for the bundle at the given path inside
+	 * the archive.
+	 *
+	 * @param baseline owning API baseline
+	 * @param archive the archive containing the bundle
+	 * @param bundlePath bundle jar or folder inside the archive
+	 * @param bundleid the id of the bundle
+	 * @exception CoreException if unable to create a component
+	 */
+	public ArchiveBundleComponent(IApiBaseline baseline, ArchiveBaselineLocation archive, Path bundlePath,
+			long bundleid) throws CoreException {
+		super(baseline, archive.getLocation(bundlePath), bundleid);
+		fArchive = archive;
+		fBundlePath = bundlePath;
+	}
+
+	/**
+	 * Keeps the archive open until this component is disposed. Called once
+	 * the component has been accepted into a baseline.
+	 */
+	synchronized void attach() {
+		if (!fAttached) {
+			fArchive.retain();
+			fAttached = true;
+		}
+	}
+
+	/**
+	 * Returns the root of the bundle contents, opening the nested jar if
+	 * required.
+	 */
+	private synchronized Path getBundleRoot() throws IOException {
+		if (Files.isDirectory(fBundlePath)) {
+			return fBundlePath;
+		}
+		if (fJarFileSystem == null) {
+			fJarFileSystem = openNested(fBundlePath);
+		}
+		return fJarFileSystem.getPath("/"); //$NON-NLS-1$
+	}
+
+	private FileSystem openNested(Path archive) throws IOException {
+		FileSystem fileSystem = FileSystems.newFileSystem(archive, (ClassLoader) null);
+		fOpenFileSystems.add(fileSystem);
+		return fileSystem;
+	}
+
+	/**
+	 * Reads a bundle relative entry without opening the nested jar file
+	 * system if it is not open yet.
+	 *
+	 * @return the entry contents or <code>null</code> if it does not exist
+	 */
+	private byte[] readEntry(String name) throws IOException {
+		Path root;
+		synchronized (this) {
+			root = Files.isDirectory(fBundlePath) ? fBundlePath
+					: fJarFileSystem != null ? fJarFileSystem.getPath("/") : null; //$NON-NLS-1$
+		}
+		if (root != null) {
+			Path entry = root.resolve(name);
+			return Files.isRegularFile(entry) ? Files.readAllBytes(entry) : null;
+		}
+		try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(fBundlePath))) {
+			ZipEntry entry;
+			while ((entry = zip.getNextEntry()) != null) {
+				if (name.equals(entry.getName())) {
+					return zip.readAllBytes();
+				}
+			}
+		}
+		return null;
+	}
+
+	@Override
+	protected Map<String, String> readManifest() throws CoreException {
+		try {
+			byte[] contents = readEntry(JarFile.MANIFEST_NAME);
+			if (contents == null) {
+				return null;
+			}
+			try (InputStream stream = new ByteArrayInputStream(contents)) {
+				Map<String, String> manifest = ManifestElement.parseBundleManifest(stream, new HashMap<>(10));
+				if (manifest != null && manifest.containsKey(Constants.BUNDLE_SYMBOLICNAME)) {
+					return manifest;
+				}
+			}
+		} catch (IOException | BundleException e) {
+			abort("Unable to read manifest of bundle at " + getLocation(), e); //$NON-NLS-1$
+		}
+		return null;
+	}
+
+	@Override
+	protected String readApiDescription() throws IOException {
+		byte[] contents = readEntry(IApiCoreConstants.API_DESCRIPTION_XML_NAME);
+		return contents == null ? null : new String(contents, StandardCharsets.UTF_8);
+	}
+
+	@Override
+	protected String readBundleFile(String fileName) {
+		try {
+			byte[] contents = readEntry(fileName);
+			return contents == null ? null : new String(contents, StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	@Override
+	protected IApiFilterStore createApiFilterStore() throws CoreException {
+		return new FilterStore(this) {
+			@Override
+			protected synchronized void initializeApiFilters() {
+				if (fFilterMap == null) {
+					fFilterMap = new HashMap<>(5);
+					// folder bundles keep their filters in the settings folder
+					String name = Files.isDirectory(fBundlePath)
+							? ".settings/" + IApiCoreConstants.API_FILTERS_XML_NAME //$NON-NLS-1$
+							: IApiCoreConstants.API_FILTERS_XML_NAME;
+					try {
+						byte[] contents = readEntry(name);
+						if (contents != null) {
+							readFilterFile(new ByteArrayInputStream(contents));
+						}
+					} catch (IOException e) {
+						ApiPlugin.log(e);
+					}
+				}
+			}
+		};
+	}
+
+	@Override
+	protected IApiTypeContainer createApiTypeContainer(String path) throws CoreException {
+		try {
+			Path root = getBundleRoot();
+			if (".".equals(path)) { //$NON-NLS-1$
+				return new ArchiveApiTypeContainer(this, getLocation(), root);
+			}
+			Path entry = root.resolve(path);
+			if (Files.isDirectory(entry)) {
+				return new ArchiveApiTypeContainer(this, getLocation() + '/' + path, entry);
+			}
+			if (Files.isRegularFile(entry) && Util.isArchive(path)) {
+				FileSystem nested;
+				synchronized (this) {
+					nested = openNested(entry);
+				}
+				return new ArchiveApiTypeContainer(this, getLocation() + '/' + path, nested.getPath("/")); //$NON-NLS-1$
+			}
+		} catch (IOException e) {
+			abort("Problem creating api type container for path " + path + " in bundle at " + getLocation(), e); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return null;
+	}
+
+	@Override
+	public void dispose() {
+		if (isDisposed()) {
+			return;
+		}
+		try {
+			super.dispose();
+		} finally {
+			synchronized (this) {
+				for (FileSystem fileSystem : fOpenFileSystems) {
+					try {
+						fileSystem.close();
+					} catch (IOException e) {
+						ApiPlugin.log(e);
+					}
+				}
+				fOpenFileSystems.clear();
+				fJarFileSystem = null;
+				if (fAttached) {
+					fAttached = false;
+					try {
+						fArchive.release();
+					} catch (IOException e) {
+						ApiPlugin.log(e);
+					}
+				}
+			}
+		}
+	}
+}
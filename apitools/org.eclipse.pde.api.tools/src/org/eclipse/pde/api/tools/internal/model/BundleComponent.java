@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -54,6 +54,7 @@ import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
 import org.eclipse.pde.api.tools.internal.ApiDescription;
 import org.eclipse.pde.api.tools.internal.ApiDescriptionProcessor;
 import org.eclipse.pde.api.tools.internal.BundleVersionRange;
+import org.eclipse.pde.api.tools.internal.CompactApiDescription;
 import org.eclipse.pde.api.tools.internal.CompositeApiDescription;
 import org.eclipse.pde.api.tools.internal.FilterStore;
 import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
@@ -212,7 +213,7 @@ public class BundleComponent extends Component {
 		if (fManifest != null) {
 			return fManifest;
 		}
-		Map<String, String> manifest = loadManifest(new File(fLocation), isWorkspaceBinary());
+		Map<String, String> manifest = readManifest();
 		synchronized (this) {
 			if (fManifest == null) {
 				fManifest = manifest;
@@ -221,6 +222,17 @@ public class BundleComponent extends Component {
 		}
 	}
 
+	/**
+	 * Reads this bundle's manifest from its location. Subclasses that do not
+	 * reside in the local file system override this method.
+	 *
+	 * @return manifest dictionary or <code>null</code> if this is not a bundle
+	 * @throws CoreException if the manifest cannot be read
+	 */
+	protected Map<String, String> readManifest() throws CoreException {
+		return loadManifest(new File(fLocation), isWorkspaceBinary());
+	}
+
 	private static Map<String, String> loadManifest(File bundleLocation, boolean isWorkspaceBinary)
 			throws CoreException {
 		try {
@@ -428,11 +440,11 @@ public class BundleComponent extends Component {
 	 * @throws CoreException if unable to initialize
 	 */
 	protected IApiDescription createLocalApiDescription() throws CoreException {
-		IApiDescription apiDesc = new ApiDescription(getSymbolicName());
+		ApiDescription apiDesc = new ApiDescription(getSymbolicName());
 		// first mark all packages as internal
 		initializeApiDescription(apiDesc, getBundleDescription(), getLocalPackageNames());
 		try {
-			String xml = loadApiDescription(new File(fLocation));
+			String xml = readApiDescription();
 			setHasApiDescription(xml != null);
 			if (xml != null) {
 				ApiDescriptionProcessor.annotateApiSettings(null, apiDesc, xml);
@@ -440,7 +452,19 @@ public class BundleComponent extends Component {
 		} catch (IOException e) {
 			abort("Unable to load .api_description file ", e); //$NON-NLS-1$
 		}
-		return apiDesc;
+		// the description of a binary bundle does not change anymore
+		return CompactApiDescription.compact(apiDesc);
+	}
+
+	/**
+	 * Reads the <code>.api_description</code> file of this bundle. Subclasses
+	 * that do not reside in the local file system override this method.
+	 *
+	 * @return the file contents or <code>null</code> if there is none
+	 * @throws IOException if the file cannot be read
+	 */
+	protected String readApiDescription() throws IOException {
+		return loadApiDescription(new File(fLocation));
 	}
 
 	/**
@@ -961,10 +985,21 @@ public class BundleComponent extends Component {
 		if (manifest == null) {
 			baselineDisposed(getBaseline());
 		}
-		return isSourceComponent(manifest, new File(getLocation()));
+		return isSourceComponent(manifest);
+	}
+
+	/**
+	 * Reads the contents of the given file in this bundle. Subclasses that do
+	 * not reside in the local file system override this method.
+	 *
+	 * @param fileName bundle relative name of the file
+	 * @return the file contents or <code>null</code> if it does not exist
+	 */
+	protected String readBundleFile(String fileName) {
+		return readFileContents(fileName, new File(getLocation()));
 	}
 
-	private static boolean isSourceComponent(Map<String, String> manifest, File location) {
+	private boolean isSourceComponent(Map<String, String> manifest) {
 		ManifestElement[] sourceBundle = null;
 		try {
 			sourceBundle = ManifestElement.parseHeader(IApiCoreConstants.ECLIPSE_SOURCE_BUNDLE, manifest.get(IApiCoreConstants.ECLIPSE_SOURCE_BUNDLE));
@@ -976,13 +1011,13 @@ public class BundleComponent extends Component {
 			return true;
 		}
 		// check for the old format
-		String pluginXMLContents = readFileContents(IApiCoreConstants.PLUGIN_XML_NAME, location);
+		String pluginXMLContents = readBundleFile(IApiCoreConstants.PLUGIN_XML_NAME);
 		if (pluginXMLContents != null && containsSourceExtensionPoint(pluginXMLContents)) {
 			return true;
 		}
 		// check if it contains a fragment.xml with the appropriate extension
 		// point
-		pluginXMLContents = readFileContents(IApiCoreConstants.FRAGMENT_XML_NAME, location);
+		pluginXMLContents = readBundleFile(IApiCoreConstants.FRAGMENT_XML_NAME);
 		// if false, parse XML contents to find extension points
 		return pluginXMLContents != null && containsSourceExtensionPoint(pluginXMLContents);
 	}
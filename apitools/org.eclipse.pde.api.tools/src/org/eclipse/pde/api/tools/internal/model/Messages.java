@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import org.eclipse.osgi.util.NLS;
 public class Messages extends NLS {
 	private static final String BUNDLE_NAME = "org.eclipse.pde.api.tools.internal.model.Messages"; //$NON-NLS-1$
 	public static String adding_component__0;
+	public static String ApiModelFactory_failed_to_read_archive;
 	public static String ApiType_1;
 	public static String ApiType_2;
 	public static String ApiType_3;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2013 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import org.eclipse.jdt.launching.LibraryLocation;
 import org.eclipse.jdt.launching.environments.ExecutionEnvironmentDescription;
 import org.eclipse.osgi.service.resolver.ResolverError;
 import org.eclipse.pde.api.tools.internal.ApiDescription;
+import org.eclipse.pde.api.tools.internal.CompactApiDescription;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
 import org.eclipse.pde.api.tools.internal.provisional.IApiFilterStore;
@@ -90,7 +91,7 @@ public class SystemLibraryApiComponent extends Component {
 
 	@Override
 	protected IApiDescription createApiDescription() throws CoreException {
-		IApiDescription api = new ApiDescription(getSymbolicName());
+		ApiDescription api = new ApiDescription(getSymbolicName());
 		for (String fSystemPackage : fSystemPackages) {
 			IPackageDescriptor pkg = Factory.packageDescriptor(fSystemPackage);
 			api.setVisibility(pkg, VisibilityModifiers.API);
@@ -103,7 +104,7 @@ public class SystemLibraryApiComponent extends Component {
 				api.setVisibility(pkg, VisibilityModifiers.API);
 			}
 		}
-		return api;
+		return CompactApiDescription.compact(api);
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -640,7 +640,8 @@ public class TagScanner {
 
 	/**
 	 * Scans the specified source {@linkplain CompilationUnit} for contributed
-	 * API javadoc tags. Tags on methods will have unresolved signatures.
+	 * API javadoc tags. Tags on methods will have unresolved signatures. Sources
+	 * that do not mention any API tag or annotation are not parsed.
 	 *
 	 * @param source the source file to scan for tags
 	 * @param description the API description to annotate with any new tag rules
@@ -659,9 +660,9 @@ public class TagScanner {
 	 */
 	public void scan(CompilationUnit source, IApiDescription description, IApiTypeContainer container, Map<String, String> options, IProgressMonitor monitor) throws CoreException {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
-		ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+		char[] contents;
 		try (InputStream inputStream = source.getInputStream()) {
-			parser.setSource(Util.getInputStreamAsCharArray(inputStream, source.getEncoding()));
+			contents = Util.getInputStreamAsCharArray(inputStream, source.getEncoding());
 		} catch (FileNotFoundException e) {
 			throw new CoreException(Status.error(MessageFormat.format("Compilation unit source not found: {0}", source.getName()), e)); //$NON-NLS-1$
 		} catch (IOException e) {
@@ -671,6 +672,12 @@ public class TagScanner {
 			throw new CoreException(Status.error(MessageFormat.format("Error reading compilation unit: {0}", source.getName()), e)); //$NON-NLS-1$
 		}
 		localmonitor.split(1);
+		if (!JavadocTagManager.mayContainTags(new String(contents))) {
+			// nothing to contribute, don't parse
+			return;
+		}
+		ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+		parser.setSource(contents);
 		Map<String, String> loptions = options;
 		if (loptions == null) {
 			loptions = JavaCore.getOptions();
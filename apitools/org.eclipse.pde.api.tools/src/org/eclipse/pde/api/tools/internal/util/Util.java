@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -119,6 +119,7 @@ import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.api.tools.internal.FilterStore;
 import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
 import org.eclipse.pde.api.tools.internal.builder.BuildState;
+import org.eclipse.pde.api.tools.internal.model.ArchiveBundleComponent;
 import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
@@ -1475,6 +1476,10 @@ public final class Util {
 	 * @return true if the given {@link IApiComponent} is valid, false otherwise
 	 */
 	public static boolean isApiToolsComponent(IApiComponent apiComponent) {
+		if (apiComponent instanceof ArchiveBundleComponent) {
+			// read in place from an archive, there is no file to look at
+			return apiComponent.hasApiDescription();
+		}
 		File file = new File(apiComponent.getLocation());
 		if (file.exists()) {
 			if (file.isDirectory()) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2024 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,6 +29,10 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.tools.ant.BuildException;
 import org.eclipse.core.runtime.CoreException;
@@ -167,6 +171,12 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 	 */
 	private boolean processUnresolvedBundles = true;
 
+	/**
+	 * Number of components analyzed concurrently. <code>1</code> by default,
+	 * which analyzes all components sequentially on the calling thread.
+	 */
+	private int threadCount = 1;
+
 	private Summary[] createAllSummaries(Map<String, IApiProblem[]> allProblems) {
 		Set<Map.Entry<String, IApiProblem[]>> entrySet = allProblems.entrySet();
 		int size = entrySet.size();
@@ -362,6 +372,7 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 			IApiComponent[] apiComponents = currentBaseline.getApiComponents();
 			int length = apiComponents.length;
 			Set<String> visitedApiComponentNames = new HashSet<>();
+			List<IApiComponent> componentsToAnalyze = new ArrayList<>(length);
 			for (int i = 0; i < length; i++) {
 				IApiComponent apiComponent = apiComponents[i];
 				String name = apiComponent.getSymbolicName();
@@ -398,23 +409,18 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 				}
 
 				allApiBundles.add(name);
-				BaseApiAnalyzer analyzer = new BaseApiAnalyzer();
-				try {
-					analyzer.setContinueOnResolverError(true);
-					analyzer.analyzeComponent(null, getFilterStore(name), this.properties, referenceBaseline, apiComponent, new BuildContext(), new NullProgressMonitor());
-					IApiProblem[] problems = analyzer.getProblems();
-					// remove duplicates
-					problems = removeDuplicates(problems);
-					if (problems.length != 0) {
-						allProblems.put(name, problems);
-					} else if (this.debug) {
-						System.out.println(name + " has no problems"); //$NON-NLS-1$
-					}
-				} catch (RuntimeException e) {
-					ApiPlugin.log(e);
-					throw e;
-				} finally {
-					analyzer.dispose();
+				componentsToAnalyze.add(apiComponent);
+			}
+			List<IApiProblem[]> results = analyzeComponents(componentsToAnalyze, referenceBaseline);
+			// merge in component order so that the outcome does not depend on
+			// the order in which the analysis completed
+			for (int i = 0; i < componentsToAnalyze.size(); i++) {
+				String name = componentsToAnalyze.get(i).getSymbolicName();
+				IApiProblem[] problems = results.get(i);
+				if (problems.length != 0) {
+					allProblems.put(name, problems);
+				} else if (this.debug) {
+					System.out.println(name + " has no problems"); //$NON-NLS-1$
 				}
 			}
 			if (debug) {
@@ -492,6 +498,67 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 		}
 	}
 
+	/**
+	 * Analyzes the given components against the reference baseline. When more
+	 * than one thread is configured the components are analyzed concurrently,
+	 * each with its own analyzer.
+	 *
+	 * @param components the components to analyze
+	 * @param referenceBaseline the baseline to compare against
+	 * @return the problems of each component, in the order of the given
+	 *         components
+	 */
+	private List<IApiProblem[]> analyzeComponents(List<IApiComponent> components, IApiBaseline referenceBaseline) {
+		List<IApiProblem[]> results = new ArrayList<>(components.size());
+		int threads = Math.min(this.threadCount, components.size());
+		if (threads <= 1) {
+			for (IApiComponent component : components) {
+				results.add(analyzeComponent(component, referenceBaseline));
+			}
+			return results;
+		}
+		if (this.debug) {
+			System.out.println("Analyzing " + components.size() + " components using " + threads + " threads"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<IApiProblem[]>> futures = new ArrayList<>(components.size());
+			for (IApiComponent component : components) {
+				futures.add(executor.submit(() -> analyzeComponent(component, referenceBaseline)));
+			}
+			for (Future<IApiProblem[]> future : futures) {
+				results.add(future.get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BuildException(e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new BuildException(cause);
+		} finally {
+			executor.shutdownNow();
+		}
+		return results;
+	}
+
+	private IApiProblem[] analyzeComponent(IApiComponent apiComponent, IApiBaseline referenceBaseline) {
+		BaseApiAnalyzer analyzer = new BaseApiAnalyzer();
+		try {
+			analyzer.setContinueOnResolverError(true);
+			analyzer.analyzeComponent(null, getFilterStore(apiComponent.getSymbolicName()), this.properties, referenceBaseline, apiComponent, new BuildContext(), new NullProgressMonitor());
+			// remove duplicates
+			return removeDuplicates(analyzer.getProblems());
+		} catch (RuntimeException e) {
+			ApiPlugin.log(e);
+			throw e;
+		} finally {
+			analyzer.dispose();
+		}
+	}
+
 	/**
 	 * Returns <code>true</code> if the given component should be filtered from
 	 * results of this task. This may be because the name is a match or partial
@@ -875,4 +942,29 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 		this.processUnresolvedBundles = processUnresolvedBundles;
 	}
 
+	/**
+	 * Set the number of components that are analyzed concurrently.
+	 * <p>
+	 * Each thread uses its own analyzer. The generated reports are identical
+	 * to the ones of a sequential analysis.
+	 * </p>
+	 * <p>
+	 * The possible values are a positive number or <code>auto</code> to use the
+	 * number of available processors. Default is <code>1</code>.
+	 * </p>
+	 *
+	 * @param threadCount the given number of threads
+	 */
+	public void setThreadCount(String threadCount) {
+		if ("auto".equals(threadCount)) { //$NON-NLS-1$
+			this.threadCount = Runtime.getRuntime().availableProcessors();
+			return;
+		}
+		try {
+			this.threadCount = Math.max(1, Integer.parseInt(threadCount.trim()));
+		} catch (NumberFormatException e) {
+			throw new BuildException(NLS.bind(Messages.APIToolsAnalysisTask_invalidThreadCount, threadCount));
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -59,12 +59,14 @@ public abstract class CommonUtilsTask extends Task {
 	/**
 	 * Creates a baseline with the given name and EE file location in the given
 	 * directory. The installLocation will be searched for bundles to add as API
-	 * components. If an error occurs creating the baseline, the exception stack
-	 * trace will be printed and an empty baseline will be returned.
+	 * components. If the installLocation is a zip archive, its bundles are read
+	 * in place from the archive. If an error occurs creating the baseline, the
+	 * exception stack trace will be printed and an empty baseline will be
+	 * returned.
 	 *
 	 * @param baselineName Name to use for the new baseline
-	 * @param installLocation Location of an installation or directory of
-	 *            bundles to add as API components
+	 * @param installLocation Location of an installation, directory of bundles
+	 *            or zip archive of an installation to add as API components
 	 * @param eeFileLocation execution environment location or <code>null</code>
 	 *            to have the EE determined from API components
 	 * @return a new {@link IApiBaseline} or <code>null</code> if an error
@@ -81,7 +83,12 @@ public abstract class CommonUtilsTask extends Task {
 				baseline = ApiModelFactory.newApiBaseline(baselineName, Util.getEEDescriptionFile(), null);
 			}
 
-			IApiComponent[] components = ApiModelFactory.addComponents(baseline, installLocation, null);
+			IApiComponent[] components;
+			if (Util.isZipJarFile(installLocation)) {
+				components = ApiModelFactory.addComponentsFromArchive(baseline, installLocation, null);
+			} else {
+				components = ApiModelFactory.addComponents(baseline, installLocation, null);
+			}
 			if (components.length == 0) {
 				throw new BuildException(NLS.bind(Messages.directoryIsEmpty, installLocation));
 			}
@@ -93,19 +100,21 @@ public abstract class CommonUtilsTask extends Task {
 	}
 
 	/**
-	 * Deletes an {@link IApiBaseline} from the given folder
+	 * Deletes an {@link IApiBaseline} from the given folder if it was extracted
+	 * by {@link #extractSDK(String, String)}
 	 */
 	protected void deleteBaseline(String referenceLocation, File folder) {
-		if (Util.isArchive(referenceLocation)) {
+		if (Util.isTGZFile(referenceLocation)) {
 			Util.delete(folder.getParentFile());
 		}
 	}
 
 	/**
 	 * Extract extracts the SDK from the given location to the given directory
-	 * name
+	 * name. Zip archives are not extracted, their bundles are read in place by
+	 * {@link #createBaseline(String, String, String)}.
 	 *
-	 * @return the {@link File} handle to the extracted SDK
+	 * @return the {@link File} handle to the extracted SDK or the zip archive
 	 */
 	protected File extractSDK(String installDirName, String location) {
 		File file = new File(location);
@@ -113,7 +122,8 @@ public abstract class CommonUtilsTask extends Task {
 		if (!locationFile.exists()) {
 			throw new BuildException(NLS.bind(Messages.fileDoesnotExist, location));
 		}
-		if (Util.isArchive(location)) {
+		if (Util.isTGZFile(location)) {
+			// tar.gz archives cannot be accessed randomly, extract them
 			File tempDir = new File(System.getProperty("java.io.tmpdir")); //$NON-NLS-1$
 			File installDir = new File(tempDir, installDirName);
 			if (installDir.exists()) {
@@ -126,11 +136,7 @@ public abstract class CommonUtilsTask extends Task {
 				throw new BuildException(NLS.bind(Messages.couldNotCreate, installDir.getAbsolutePath()));
 			}
 			try {
-				if (Util.isZipJarFile(location)) {
-					Util.unzip(location, installDir.getAbsolutePath());
-				} else if (Util.isTGZFile(location)) {
-					Util.guntar(location, installDir.getAbsolutePath());
-				}
+				Util.guntar(location, installDir.getAbsolutePath());
 			} catch (IOException e) {
 				throw new BuildException(NLS.bind(Messages.couldNotUnzip, location, installDir.getAbsolutePath()));
 			} catch (TarException e) {
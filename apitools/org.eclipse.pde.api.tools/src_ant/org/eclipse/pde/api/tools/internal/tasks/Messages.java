@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2013 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -112,6 +112,7 @@ public class Messages extends NLS {
 	public static String APIFreezeReportConversionTask_resolverErrorWarningMultiple;
 
 	public static String APIFreezeReportConversionTask_resolverErrorWarningSingle;
+	public static String APIToolsAnalysisTask_invalidThreadCount;
 
 	public static String RemovedElement;
 	public static String ChangedElement;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2012 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,15 @@ package org.eclipse.pde.internal.core;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.IContributor;
 import org.eclipse.core.runtime.IExtension;
@@ -48,6 +55,26 @@ public class PDEExtensionRegistry {
 	private IPluginModelBase[] fModels = null;
 	private final ArrayList<IRegistryChangeListener> fListeners = new ArrayList<>();
 
+	/**
+	 * An extension contributed by a model, as indexed by extension point id
+	 */
+	private record Contribution(IPluginModelBase model, IExtension extension) {
+	}
+
+	/**
+	 * A model resolved for a registry contributor
+	 */
+	private record Contributor(String name, IPluginModelBase model) {
+	}
+
+	// indexes built on demand and updated from model changes, guarded by fIndexLock
+	private final Object fIndexLock = new Object();
+	private Map<String, List<Contribution>> fExtensionsByPoint = null;
+	private final Map<String, List<Contribution>> fContributionsByPlugin = new HashMap<>();
+	private final Set<String> fStalePlugins = new HashSet<>();
+	private final Map<String, Contributor> fContributors = new HashMap<>();
+	private long fIndexStamp = 0;
+
 	private static final String EXTENSION_DIR = ".extensions"; //$NON-NLS-1$
 
 	public PDEExtensionRegistry() {
@@ -112,12 +139,39 @@ public class PDEExtensionRegistry {
 		}
 		CoreUtility.deleteContent(new File(PDECore.getDefault().getStateLocation().toFile(), EXTENSION_DIR));
 		fRegistry = null;
+		clearIndexes();
 	}
 
 	// dispose of registry without writing contents.
 	public void dispose() {
 		fStrategy.dispose();
 		fRegistry = null;
+		clearIndexes();
+	}
+
+	/**
+	 * Marks the indexed contributions of the plug-ins with the given ids as out
+	 * of date, once their models have been added to or removed from the
+	 * registry. The contributions are read again on the next query.
+	 *
+	 * @param pluginIds the symbolic names of the changed plug-ins
+	 */
+	void pluginsChanged(Collection<String> pluginIds) {
+		synchronized (fIndexLock) {
+			fIndexStamp++;
+			fStalePlugins.addAll(pluginIds);
+			fContributors.values().removeIf(contributor -> pluginIds.contains(contributor.name()));
+		}
+	}
+
+	private void clearIndexes() {
+		synchronized (fIndexLock) {
+			fIndexStamp++;
+			fExtensionsByPoint = null;
+			fContributionsByPlugin.clear();
+			fStalePlugins.clear();
+			fContributors.clear();
+		}
 	}
 
 	// Methods to access data in Extension Registry
@@ -238,21 +292,96 @@ public class PDEExtensionRegistry {
 				}
 			}
 		} else {
-			IPluginModelBase[] bases = activeOnly ? PluginRegistry.getActiveModels() : PluginRegistry.getAllModels();
-			for (IPluginModelBase base : bases) {
-				IContributor contributor = fStrategy.createContributor(base);
-				if (contributor == null) {
-					continue;
+			// extensions of a point that is not in the registry
+			for (Contribution contribution : getContributions(extensionPointId)) {
+				if (isVisible(contribution.model(), activeOnly)) {
+					list.add(contribution.extension());
+				}
+			}
+		}
+		return list.toArray(new IExtension[list.size()]);
+	}
+
+	/**
+	 * Returns the extensions contributed to the given extension point by any
+	 * workspace or external model.
+	 */
+	private List<Contribution> getContributions(String extensionPointId) {
+		synchronized (fIndexLock) {
+			if (fExtensionsByPoint == null) {
+				fExtensionsByPoint = new HashMap<>();
+				fContributionsByPlugin.clear();
+				fStalePlugins.clear();
+				IPluginModelBase[] workspaceModels = PluginRegistry.getWorkspaceModels();
+				IPluginModelBase[] externalModels = PluginRegistry.getExternalModels();
+				for (IPluginModelBase model : workspaceModels) {
+					indexContributions(model);
 				}
-				IExtension[] extensions = getRegistry().getExtensions(contributor);
-				for (IExtension extension : extensions) {
-					if (extension.getExtensionPointUniqueIdentifier().equals(extensionPointId)) {
-						list.add(extension);
+				for (IPluginModelBase model : externalModels) {
+					indexContributions(model);
+				}
+			} else if (!fStalePlugins.isEmpty()) {
+				for (String id : fStalePlugins) {
+					List<Contribution> contributions = fContributionsByPlugin.remove(id);
+					if (contributions != null) {
+						for (Contribution contribution : contributions) {
+							List<Contribution> point = fExtensionsByPoint.get(contribution.extension().getExtensionPointUniqueIdentifier());
+							if (point != null) {
+								point.remove(contribution);
+							}
+						}
+					}
+					ModelEntry entry = PluginRegistry.findEntry(id);
+					if (entry != null) {
+						for (IPluginModelBase model : entry.getWorkspaceModels()) {
+							indexContributions(model);
+						}
+						for (IPluginModelBase model : entry.getExternalModels()) {
+							indexContributions(model);
+						}
 					}
 				}
+				fStalePlugins.clear();
 			}
+			List<Contribution> contributions = fExtensionsByPoint.get(extensionPointId);
+			return contributions == null ? Collections.emptyList() : new ArrayList<>(contributions);
 		}
-		return list.toArray(new IExtension[list.size()]);
+	}
+
+	private void indexContributions(IPluginModelBase model) {
+		IContributor contributor = fStrategy.createContributor(model);
+		if (contributor == null) {
+			return;
+		}
+		IExtension[] extensions = getRegistry().getExtensions(contributor);
+		if (extensions.length == 0) {
+			return;
+		}
+		List<Contribution> contributions = fContributionsByPlugin.computeIfAbsent(model.getPluginBase().getId(), id -> new ArrayList<>());
+		for (IExtension extension : extensions) {
+			Contribution contribution = new Contribution(model, extension);
+			contributions.add(contribution);
+			fExtensionsByPoint.computeIfAbsent(extension.getExtensionPointUniqueIdentifier(), id -> new ArrayList<>()).add(contribution);
+		}
+	}
+
+	/**
+	 * Returns whether the given model is one of
+	 * {@link PluginRegistry#getActiveModels()} or
+	 * {@link PluginRegistry#getAllModels()}.
+	 */
+	private static boolean isVisible(IPluginModelBase model, boolean activeOnly) {
+		ModelEntry entry = PluginRegistry.findEntry(model.getPluginBase().getId());
+		if (entry == null) {
+			return false;
+		}
+		IPluginModelBase[] models;
+		if (activeOnly) {
+			models = entry.getActiveModels();
+		} else {
+			models = entry.hasWorkspaceModels() ? entry.getWorkspaceModels() : entry.getExternalModels();
+		}
+		return Arrays.asList(models).contains(model);
 	}
 
 	// make sure we return the right IPluginModelBase when we have multiple versions of a plug-in Id
@@ -260,11 +389,28 @@ public class PDEExtensionRegistry {
 		if (!(icontributor instanceof RegistryContributor contributor)) {
 			return null;
 		}
+		long stamp;
+		synchronized (fIndexLock) {
+			Contributor known = fContributors.get(contributor.getActualId());
+			if (known != null) {
+				return known.model();
+			}
+			stamp = fIndexStamp;
+		}
 		long bundleId = Long.parseLong(contributor.getActualId());
 		Resource desc = PDECore.getDefault().getModelManager().getState().getState()
 				.getBundle(Long.parseLong(contributor.getActualId()));
 		if (desc != null) {
-			return PluginRegistry.findModel(desc);
+			IPluginModelBase model = PluginRegistry.findModel(desc);
+			if (model != null) {
+				synchronized (fIndexLock) {
+					// don't cache a model resolved before the last change
+					if (stamp == fIndexStamp) {
+						fContributors.put(contributor.getActualId(), new Contributor(contributor.getActualName(), model));
+					}
+				}
+			}
+			return model;
 		}
 		// desc might be null if the workspace contains a plug-in with the same Bundle-SymbolicName
 		ModelEntry entry = PluginRegistry.findEntry(contributor.getActualName());
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,8 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -107,6 +109,19 @@ public class PDERegistryStrategy extends RegistryStrategy {
 			for (ModelEntry entry : entries) {
 				addBundles(fRegistry, entry.getActiveModels());
 			}
+			Set<String> ids = new HashSet<>();
+			addIds(ids, delta.getAddedEntries());
+			addIds(ids, delta.getRemovedEntries());
+			addIds(ids, delta.getChangedEntries());
+			fPDERegistry.pluginsChanged(ids);
+		}
+
+		private void addIds(Set<String> ids, ModelEntry[] entries) {
+			for (ModelEntry entry : entries) {
+				if (entry.getId() != null) {
+					ids.add(entry.getId());
+				}
+			}
 		}
 
 	}
@@ -132,6 +147,20 @@ public class PDERegistryStrategy extends RegistryStrategy {
 					addBundles(fRegistry, externalModels);
 				}
 			}
+			Set<String> ids = new HashSet<>();
+			addIds(ids, event.getAddedModels());
+			addIds(ids, event.getRemovedModels());
+			addIds(ids, event.getChangedModels());
+			fPDERegistry.pluginsChanged(ids);
+		}
+
+		private void addIds(Set<String> ids, IPluginModelBase[] models) {
+			for (IPluginModelBase model : models) {
+				String id = model.getPluginBase().getId();
+				if (id != null) {
+					ids.add(id);
+				}
+			}
 		}
 
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2023, 2024 Christoph Läubrich and others.
+ *  Copyright (c) 2023, 2026 Christoph Läubrich and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -94,6 +94,7 @@ public class BndBuilder extends IncrementalProjectBuilder {
 
 	@Override
 	protected void clean(IProgressMonitor monitor) throws CoreException {
+		JarDigest.forget(getProject());
 		IFile file = getProject().getFile(BndProject.INSTRUCTIONS_FILE);
 		if (file.exists()) {
 			file.deleteMarkers(PDEMarkerFactory.MARKER_ID, true, IResource.DEPTH_ZERO);
@@ -174,10 +175,16 @@ public class BndBuilder extends IncrementalProjectBuilder {
 					File outputFile = subBuilder.getOutputFile(null);
 					if (outputFile != null) {
 						Jar subJar = subBuilder.build();
-						subJar.write(outputFile);
-						for (IFile file : project.getWorkspace().getRoot()
-								.findFilesForLocationURI(outputFile.toURI())) {
-							file.refreshLocal(IResource.DEPTH_ZERO, monitor);
+						// only write the jar if its content changed since the
+						// last build to not trigger any downstream builds
+						JarDigest digest = JarDigest.of(subJar);
+						if (!JarDigest.isWritten(project, outputFile, digest)) {
+							subJar.write(outputFile);
+							JarDigest.written(project, outputFile, digest);
+							for (IFile file : project.getWorkspace().getRoot()
+									.findFilesForLocationURI(outputFile.toURI())) {
+								file.refreshLocal(IResource.DEPTH_ZERO, monitor);
+							}
 						}
 						File propertiesFile = subBuilder.getPropertiesFile();
 						if (propertiesFile != null) {
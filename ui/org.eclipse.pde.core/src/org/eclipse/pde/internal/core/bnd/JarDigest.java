@@ -0,0 +1,176 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Christoph Läubrich and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.bnd;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.pde.internal.core.PDECore;
+
+import aQute.bnd.osgi.Constants;
+import aQute.bnd.osgi.Jar;
+import aQute.bnd.osgi.Resource;
+
+/**
+ * The digest of the entries of a jar built by the {@link BndBuilder}. The
+ * digests of the jars written by previous builds are stored in the working
+ * location of the project that built them, so that a jar whose content did
+ * not change is not written again, and are removed when the project is
+ * cleaned or deleted. The {@value Constants#BND_LASTMODIFIED} header is left
+ * out of the manifest digest as it changes on every build.
+ */
+public final class JarDigest {
+
+	private static final String DIRECTORY = "jarDigests"; //$NON-NLS-1$
+	private static final String PATH = "path"; //$NON-NLS-1$
+	private static final String DIGEST = "digest"; //$NON-NLS-1$
+	private static final String LAST_MODIFIED = "lastModified"; //$NON-NLS-1$
+	private static final String LENGTH = "length"; //$NON-NLS-1$
+
+	private final String digest;
+
+	private JarDigest(String digest) {
+		this.digest = digest;
+	}
+
+	/**
+	 * Computes the digest of the manifest and resources of the given jar
+	 */
+	public static JarDigest of(Jar jar) throws Exception {
+		Map<String, String> digests = new TreeMap<>();
+		Manifest manifest = jar.getManifest();
+		if (manifest != null) {
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			Jar.writeManifest(withoutLastModified(manifest), stream);
+			digests.put(JarFile.MANIFEST_NAME, digest(stream.toByteArray()));
+		}
+		for (Map.Entry<String, Resource> entry : jar.getResources().entrySet()) {
+			if (JarFile.MANIFEST_NAME.equals(entry.getKey())) {
+				continue;
+			}
+			digests.put(entry.getKey(), digest(entry.getValue()));
+		}
+		StringBuilder entries = new StringBuilder();
+		digests.forEach((name, value) -> entries.append(name).append('=').append(value).append('\n'));
+		return new JarDigest(digest(entries.toString().getBytes(StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * Returns whether the given file still holds the jar the given project
+	 * last wrote to it with the same content as described by the given digest
+	 */
+	public static boolean isWritten(IProject project, File file, JarDigest digest) {
+		Path stored = getDigestFile(project, file);
+		if (!Files.isRegularFile(stored)) {
+			return false;
+		}
+		Properties properties = new Properties();
+		try (InputStream stream = Files.newInputStream(stored)) {
+			properties.load(stream);
+		} catch (IOException e) {
+			return false;
+		}
+		return file.getAbsolutePath().equals(properties.getProperty(PATH))
+				&& digest.digest.equals(properties.getProperty(DIGEST))
+				&& String.valueOf(file.lastModified()).equals(properties.getProperty(LAST_MODIFIED))
+				&& String.valueOf(file.length()).equals(properties.getProperty(LENGTH));
+	}
+
+	/**
+	 * Remembers that the given project just wrote a jar with the given digest
+	 * to the given file
+	 */
+	public static void written(IProject project, File file, JarDigest digest) {
+		Properties properties = new Properties();
+		properties.setProperty(PATH, file.getAbsolutePath());
+		properties.setProperty(DIGEST, digest.digest);
+		properties.setProperty(LAST_MODIFIED, String.valueOf(file.lastModified()));
+		properties.setProperty(LENGTH, String.valueOf(file.length()));
+		Path stored = getDigestFile(project, file);
+		try {
+			Files.createDirectories(stored.getParent());
+			try (OutputStream stream = Files.newOutputStream(stored)) {
+				properties.store(stream, null);
+			}
+		} catch (IOException e) {
+			// the jar is written again on the next build
+			PDECore.log(e);
+		}
+	}
+
+	/**
+	 * Forgets the digests of all jars written by the given project, so that
+	 * they are written again on the next build
+	 */
+	public static void forget(IProject project) {
+		File[] files = getDigestDirectory(project).toFile().listFiles();
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+	}
+
+	/**
+	 * Returns a copy of the given manifest without the
+	 * {@value Constants#BND_LASTMODIFIED} header
+	 */
+	static Manifest withoutLastModified(Manifest manifest) {
+		Manifest copy = new Manifest(manifest);
+		copy.getMainAttributes().remove(new Attributes.Name(Constants.BND_LASTMODIFIED));
+		return copy;
+	}
+
+	private static Path getDigestDirectory(IProject project) {
+		return project.getWorkingLocation(PDECore.PLUGIN_ID).append(DIRECTORY).toFile().toPath();
+	}
+
+	private static Path getDigestFile(IProject project, File file) {
+		try {
+			return getDigestDirectory(project)
+					.resolve(digest(file.getAbsolutePath().getBytes(StandardCharsets.UTF_8)) + ".properties"); //$NON-NLS-1$
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String digest(Resource resource) throws Exception {
+		MessageDigest md = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		try (InputStream stream = resource.openInputStream();
+				OutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), md)) {
+			stream.transferTo(out);
+		}
+		return HexFormat.of().formatHex(md.digest());
+	}
+
+	private static String digest(byte[] bytes) throws Exception {
+		return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes)); //$NON-NLS-1$
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Christoph Läubrich and others.
+ * Copyright (c) 2023, 2026 Christoph Läubrich and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.pde.internal.core.bnd;
 
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -99,6 +100,9 @@ public class ProjectJar extends Jar {
 		if (!file.getFullPath().equals(manifestFile.getFullPath())) {
 			// bundle root is currently not where we store it...
 			if (manifestFile.exists()) {
+				if (hasContents(manifestFile, JarFile.MANIFEST_NAME, resource)) {
+					return;
+				}
 				try (InputStream stream = resource.openInputStream()) {
 					manifestFile.setContents(stream, true, false, null);
 				} catch (RuntimeException e) {
@@ -137,7 +141,7 @@ public class ProjectJar extends Jar {
 		IFile file = outputFolder.getFile(IPath.fromOSString(path));
 		try {
 			if (file.exists()) {
-				if (overwrite) {
+				if (overwrite && !hasContents(file, path, resource)) {
 					try (InputStream stream = resource.openInputStream()) {
 						file.setContents(stream, true, false, null);
 					}
@@ -158,6 +162,24 @@ public class ProjectJar extends Jar {
 		return super.putResource(path, new FileResource(file), overwrite);
 	}
 
+	/**
+	 * Returns whether the given file already holds the content of the given
+	 * resource, in which case it is not written again so that no resource
+	 * change is reported for it. Manifests are compared without their
+	 * <code>Bnd-LastModified</code> header.
+	 */
+	private static boolean hasContents(IFile file, String path, Resource resource) {
+		try (InputStream current = file.getContents(true); InputStream stream = resource.openInputStream()) {
+			if (JarFile.MANIFEST_NAME.equals(path)) {
+				return JarDigest.withoutLastModified(new Manifest(current))
+						.equals(JarDigest.withoutLastModified(new Manifest(stream)));
+			}
+			return Arrays.equals(current.readAllBytes(), stream.readAllBytes());
+		} catch (Exception e) {
+			return false;
+		}
+	}
+
 	private void mkdirs(IResource resource) throws CoreException {
 		if (resource == null) {
 			return;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.pde.internal.core.builders;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
@@ -29,6 +30,7 @@ import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.util.NLS;
@@ -79,6 +81,12 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 	private final IPluginModelBase fModel;
 	private IBuild fBuildModel;
 
+	/**
+	 * Whether the resource locations referenced so far exist, to check each
+	 * location only once per build
+	 */
+	private final Map<String, Boolean> fResources = new HashMap<>();
+
 	public ExtensionsErrorReporter(IFile file) {
 		super(file);
 		fModel = PluginRegistry.findModel(file.getProject());
@@ -526,6 +534,10 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 	}
 
 	private boolean resourceExists(String location) {
+		return fResources.computeIfAbsent(location, l -> Boolean.valueOf(findResource(l))).booleanValue();
+	}
+
+	private boolean findResource(String location) {
 		String bundleJar = null;
 		IPath path = IPath.fromOSString(location);
 		if ("platform:".equals(path.getDevice()) && path.segmentCount() > 2) { //$NON-NLS-1$
@@ -611,9 +623,11 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 
 		// assume we're on the classpath already
 		boolean onClasspath = true;
+		IType type = null;
 		int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_CLASS);
 		if (severity != CompilerFlags.IGNORE && javaProject.isOpen()) {
-			onClasspath = PDEJavaHelper.isOnClasspath(value, javaProject);
+			type = TypeLookupCache.getDefault().findType(value, javaProject);
+			onClasspath = type != null;
 			if (!onClasspath) {
 				VirtualMarker marker = report(NLS.bind(PDECoreMessages.Builders_Manifest_class, (new String[] {value, attr.getName()})), getLine(element, attr.getName()), severity, PDEMarkerFactory.P_UNKNOWN_CLASS, element, attr.getName() + F_ATT_VALUE_PREFIX + attr.getValue(), PDEMarkerFactory.CAT_FATAL);
 				addMarkerAttribute(marker, PDEMarkerFactory.compilerKey, CompilerFlags.P_UNKNOWN_CLASS);
@@ -630,7 +644,10 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 				return;
 			}
 			// only check if we're discouraged if there is something on the classpath
-			if (onClasspath && PDEJavaHelper.isDiscouraged(value, javaProject, desc)) {
+			if (type == null && onClasspath) {
+				type = TypeLookupCache.getDefault().findType(value, javaProject);
+			}
+			if (onClasspath && PDEJavaHelper.isDiscouraged(value, type, javaProject, desc)) {
 				VirtualMarker marker = report(NLS.bind(PDECoreMessages.Builders_Manifest_discouragedClass, (new String[] {value, attr.getName()})), getLine(element, attr.getName()), severity, PDEMarkerFactory.M_DISCOURAGED_CLASS, element, attr.getName() + F_ATT_VALUE_PREFIX + attr.getValue(), PDEMarkerFactory.CAT_OTHER);
 				addMarkerAttribute(marker, PDEMarkerFactory.compilerKey, CompilerFlags.P_DISCOURAGED_CLASS);
 			}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2018 Julian Honnen
+ *  Copyright (c) 2018, 2026 Julian Honnen and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -16,13 +16,10 @@ package org.eclipse.pde.internal.core.builders;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
-import org.eclipse.core.runtime.CoreException;
-import org.eclipse.pde.internal.core.PDECore;
 
 public class IncrementalErrorReporter {
 
@@ -63,66 +60,15 @@ public class IncrementalErrorReporter {
 	}
 
 	public void applyMarkers() {
-		IMarker[] existingMarkers;
-		try {
-			// This seem to be for compatibility with some legacy code,
-			// PDE builders don't create markers with this type anymore
-			fResource.deleteMarkers(IMarker.PROBLEM, false, IResource.DEPTH_ZERO);
-			existingMarkers = fResource.findMarkers(fMarkerID, false, IResource.DEPTH_ZERO);
-		} catch (CoreException e) {
-			PDECore.logException(e);
-			// If we can't read existing, let delete them before we create new
-			existingMarkers = new IMarker[0];
-			try {
-				fResource.deleteMarkers(fMarkerID, false, IResource.DEPTH_ZERO);
-			} catch (CoreException e1) {
-				PDECore.logException(e1);
-			}
-		}
-
-		// iterate over existing markers to check which are resolved now
-		for (IMarker marker : existingMarkers) {
-			boolean resolved = true;
-			Map<String, Object> existingAttributes = null;
-
-			// Iterate over new markers to filter out all we already know
-			for (Iterator<VirtualMarker> it = fReportedMarkers.iterator(); it.hasNext();) {
-				VirtualMarker reportedMarker = it.next();
-				if (existingAttributes == null) {
-					try {
-						existingAttributes = marker.getAttributes();
-					} catch (Exception e) {
-						PDECore.logException(e);
-						// assume the marker is not accessible, can be deleted
-						break;
-					}
-				}
-				// Same marker is found, no need to create again
-				if (reportedMarker.getAttributes().equals(existingAttributes)) {
-					resolved = false;
-					it.remove();
-					break;
-				}
-			}
-
-			// The marker was not reported again, the old one can be deleted
-			if (resolved) {
-				try {
-					marker.delete();
-				} catch (CoreException e) {
-					PDECore.logException(e);
-				}
-			}
-		}
-
-		// Create only new markers
+		MarkerReconciler reconciler = new MarkerReconciler();
+		// This seem to be for compatibility with some legacy code,
+		// PDE builders don't create markers with this type anymore
+		reconciler.replaceMarkers(fResource, IMarker.PROBLEM, false, IResource.DEPTH_ZERO);
+		reconciler.replaceMarkers(fResource, fMarkerID, false, IResource.DEPTH_ZERO);
 		for (VirtualMarker reportedMarker : fReportedMarkers) {
-			try {
-				fResource.createMarker(fMarkerID, reportedMarker.getAttributes());
-			} catch (CoreException e) {
-				PDECore.logException(e);
-			}
+			reconciler.addMarker(fResource, fMarkerID, reportedMarker.getAttributes());
 		}
+		reconciler.apply();
 	}
 
 	public int getErrorCount() {
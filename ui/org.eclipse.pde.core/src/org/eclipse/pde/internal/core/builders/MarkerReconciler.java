@@ -0,0 +1,204 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.builders;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * Updates problem markers to a newly reported set while touching only the
+ * markers that actually changed.
+ * <p>
+ * Callers declare which existing markers are about to be replaced, either by
+ * scope or individually, and report the markers that should exist afterwards.
+ * {@link #apply()} then keeps every existing marker that is reported again
+ * with the same resource, type and attributes, deletes the remaining existing
+ * ones and creates only the missing ones. Markers are matched through a hash
+ * index, and all changes are made in a single workspace operation so that
+ * listeners receive one resource delta.
+ * </p>
+ */
+public class MarkerReconciler {
+
+	private record Scope(IResource resource, String type, boolean includeSubtypes, int depth) {
+	}
+
+	private record MarkerKey(IResource resource, String type, Map<String, Object> attributes) {
+	}
+
+	private record ReportedMarker(IResource resource, String type, Map<String, ? extends Object> attributes) {
+	}
+
+	private final List<Scope> fScopes = new ArrayList<>();
+	private final Set<IMarker> fReplacedMarkers = new LinkedHashSet<>();
+	private final List<ReportedMarker> fReportedMarkers = new ArrayList<>();
+
+	/**
+	 * Declares that all markers of the given type found on the resource are
+	 * replaced by the reported markers.
+	 *
+	 * @param resource
+	 *            the resource to search for existing markers
+	 * @param type
+	 *            the marker type
+	 * @param includeSubtypes
+	 *            whether markers of subtypes are replaced as well
+	 * @param depth
+	 *            the search depth, see {@link IResource#findMarkers}
+	 */
+	public void replaceMarkers(IResource resource, String type, boolean includeSubtypes, int depth) {
+		fScopes.add(new Scope(resource, type, includeSubtypes, depth));
+	}
+
+	/**
+	 * Declares that the given existing marker is replaced by the reported
+	 * markers.
+	 *
+	 * @param marker
+	 *            the existing marker
+	 */
+	public void replaceMarker(IMarker marker) {
+		fReplacedMarkers.add(marker);
+	}
+
+	/**
+	 * Reports a marker that should exist once the reconciliation is applied.
+	 * The attributes are read when the reconciliation is applied.
+	 *
+	 * @param resource
+	 *            the resource to create the marker on
+	 * @param type
+	 *            the marker type
+	 * @param attributes
+	 *            the marker attributes
+	 */
+	public void addMarker(IResource resource, String type, Map<String, ? extends Object> attributes) {
+		fReportedMarkers.add(new ReportedMarker(resource, type, attributes));
+	}
+
+	/**
+	 * Applies all changes in one workspace operation. Errors are logged and do
+	 * not stop the reconciliation of the remaining markers.
+	 */
+	public void apply() {
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		try {
+			workspace.run(this::reconcile, null, IWorkspace.AVOID_UPDATE, null);
+		} catch (CoreException e) {
+			PDECore.logException(e);
+		}
+	}
+
+	private void reconcile(IProgressMonitor monitor) {
+		Map<MarkerKey, Deque<IMarker>> existingMarkers = new HashMap<>();
+		for (IMarker marker : collectReplacedMarkers()) {
+			try {
+				MarkerKey key = new MarkerKey(marker.getResource(), marker.getType(),
+						normalize(marker.getAttributes()));
+				existingMarkers.computeIfAbsent(key, k -> new ArrayDeque<>(1)).add(marker);
+			} catch (CoreException e) {
+				// the marker does not exist anymore, nothing to delete
+			}
+		}
+
+		List<ReportedMarker> newMarkers = new ArrayList<>();
+		for (ReportedMarker reported : fReportedMarkers) {
+			MarkerKey key = new MarkerKey(reported.resource(), reported.type(), normalize(reported.attributes()));
+			Deque<IMarker> candidates = existingMarkers.get(key);
+			// Same marker is found, no need to create again
+			if (candidates == null || candidates.poll() == null) {
+				newMarkers.add(reported);
+			}
+		}
+
+		// The markers that were not reported again can be deleted
+		for (Deque<IMarker> resolved : existingMarkers.values()) {
+			for (IMarker marker : resolved) {
+				try {
+					marker.delete();
+				} catch (CoreException e) {
+					PDECore.logException(e);
+				}
+			}
+		}
+
+		// Create only new markers
+		for (ReportedMarker reported : newMarkers) {
+			try {
+				reported.resource().createMarker(reported.type(), reported.attributes());
+			} catch (CoreException e) {
+				PDECore.logException(e);
+			}
+		}
+	}
+
+	private Set<IMarker> collectReplacedMarkers() {
+		Set<IMarker> markers = new LinkedHashSet<>();
+		for (Scope scope : fScopes) {
+			if (!scope.resource().isAccessible()) {
+				continue;
+			}
+			try {
+				for (IMarker marker : scope.resource().findMarkers(scope.type(), scope.includeSubtypes(),
+						scope.depth())) {
+					markers.add(marker);
+				}
+			} catch (CoreException e) {
+				PDECore.logException(e);
+				// If we can't read existing, let delete them before we create new
+				try {
+					scope.resource().deleteMarkers(scope.type(), scope.includeSubtypes(), scope.depth());
+				} catch (CoreException e1) {
+					PDECore.logException(e1);
+				}
+			}
+		}
+		for (IMarker marker : fReplacedMarkers) {
+			if (marker.exists()) {
+				markers.add(marker);
+			}
+		}
+		return markers;
+	}
+
+	/**
+	 * Returns a copy of the given attributes without <code>null</code> values,
+	 * which are never stored on a marker.
+	 */
+	private static Map<String, Object> normalize(Map<String, ? extends Object> attributes) {
+		Map<String, Object> normalized = new HashMap<>();
+		if (attributes != null) {
+			attributes.forEach((key, value) -> {
+				if (value != null) {
+					normalized.put(key, value);
+				}
+			});
+		}
+		return normalized;
+	}
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.builders;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Remembers the types looked up while validating extensions, including the
+ * names that could not be found, so that a file referring to the same class
+ * many times only asks the Java model once per project. The cache is dropped
+ * whenever a Java element delta may add, remove or hide a type.
+ */
+public final class TypeLookupCache implements IElementChangedListener {
+
+	private static TypeLookupCache fgDefault;
+
+	private final Map<IJavaProject, Map<String, Optional<IType>>> fTypes = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the shared cache, listening to Java element changes from its
+	 * first use until {@link #shutdown()}
+	 */
+	static synchronized TypeLookupCache getDefault() {
+		if (fgDefault == null) {
+			fgDefault = new TypeLookupCache();
+			JavaCore.addElementChangedListener(fgDefault, ElementChangedEvent.POST_CHANGE);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Stops listening to Java element changes and discards the shared cache
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			JavaCore.removeElementChangedListener(fgDefault);
+			fgDefault = null;
+		}
+	}
+
+	/**
+	 * Returns the existing type with the given fully qualified name visible
+	 * from the given project, or <code>null</code> if there is none.
+	 *
+	 * @param fullyQualifiedName the type name, nested types may be separated
+	 *            by <code>$</code>
+	 * @param project the project to search from
+	 */
+	IType findType(String fullyQualifiedName, IJavaProject project) {
+		Map<String, Optional<IType>> types = fTypes.computeIfAbsent(project, p -> new ConcurrentHashMap<>());
+		return types.computeIfAbsent(fullyQualifiedName, name -> lookup(name, project)).orElse(null);
+	}
+
+	private static Optional<IType> lookup(String fullyQualifiedName, IJavaProject project) {
+		try {
+			IType type = project.findType(fullyQualifiedName.replace('$', '.'));
+			if (type != null && type.exists()) {
+				return Optional.of(type);
+			}
+		} catch (JavaModelException e) {
+		}
+		return Optional.empty();
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		if (!fTypes.isEmpty() && affectsTypes(event.getDelta())) {
+			fTypes.clear();
+		}
+	}
+
+	/**
+	 * Returns whether the given delta may change which types a project can see.
+	 * Only changes to non-Java resources and to the members of existing types
+	 * leave the cache valid.
+	 */
+	private static boolean affectsTypes(IJavaElementDelta delta) {
+		int kind = delta.getKind();
+		int type = delta.getElement().getElementType();
+		if (type > IJavaElement.TYPE) {
+			return false;
+		}
+		if (kind != IJavaElementDelta.CHANGED) {
+			return true;
+		}
+		int flags = delta.getFlags();
+		if (type != IJavaElement.TYPE && (flags & ~(IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_FINE_GRAINED | IJavaElementDelta.F_PRIMARY_WORKING_COPY | IJavaElementDelta.F_PRIMARY_RESOURCE | IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_AST_AFFECTED | IJavaElementDelta.F_ANNOTATIONS)) != 0) {
+			// classpath, archive, open/close and move changes
+			return true;
+		}
+		if ((flags & IJavaElementDelta.F_CONTENT) != 0 && (flags & IJavaElementDelta.F_FINE_GRAINED) == 0 && (type == IJavaElement.COMPILATION_UNIT || type == IJavaElement.CLASS_FILE)) {
+			// a compilation unit or class file changed without telling what
+			return true;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (affectsTypes(child)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
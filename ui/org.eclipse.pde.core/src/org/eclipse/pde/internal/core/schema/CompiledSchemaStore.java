@@ -0,0 +1,502 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.schema;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDECoreMessages;
+import org.eclipse.pde.internal.core.ischema.IDocumentSection;
+import org.eclipse.pde.internal.core.ischema.ISchemaAttribute;
+import org.eclipse.pde.internal.core.ischema.ISchemaCompositor;
+import org.eclipse.pde.internal.core.ischema.ISchemaElement;
+import org.eclipse.pde.internal.core.ischema.ISchemaEnumeration;
+import org.eclipse.pde.internal.core.ischema.ISchemaInclude;
+import org.eclipse.pde.internal.core.ischema.ISchemaObject;
+import org.eclipse.pde.internal.core.ischema.ISchemaRestriction;
+import org.eclipse.pde.internal.core.ischema.ISchemaSimpleType;
+import org.eclipse.pde.internal.core.ischema.ISchemaType;
+
+/**
+ * Persists the content of loaded extension point schemas in a compact binary
+ * form, so that a schema that did not change since it was last loaded is read
+ * back without parsing its XML. Each schema is stored in its own file in the
+ * PDE state location together with the time stamp and size of its source. The
+ * includes of a schema are stored by location and are loaded through the same
+ * store when they are first needed. Once per session the files whose source
+ * changed or no longer exists are removed.
+ */
+public final class CompiledSchemaStore {
+
+	private static final int VERSION = 1;
+
+	private static final String DIRECTORY = ".schemas"; //$NON-NLS-1$
+
+	private static final byte NO_TYPE = 0;
+	private static final byte SIMPLE_TYPE = 1;
+	private static final byte COMPLEX_TYPE = 2;
+
+	private static final byte COMPOSITOR = 1;
+	private static final byte REFERENCE = 2;
+
+	private static final AtomicBoolean fgPruned = new AtomicBoolean();
+
+	private CompiledSchemaStore() {
+	}
+
+	/**
+	 * Loads the given read-only schema, from its compiled form if it is up to
+	 * date and from its source otherwise. A schema loaded from its source is
+	 * compiled for the next time.
+	 *
+	 * @param schema the schema to load
+	 * @return whether the schema was read from its compiled form
+	 */
+	public static boolean load(Schema schema) {
+		URL url = schema.getURL();
+		File source = getSourceFile(url);
+		File compiled = getCompiledFile(url, schema.isAbbreviated());
+		if (source == null || compiled == null) {
+			schema.load();
+			return false;
+		}
+		if (fgPruned.compareAndSet(false, true)) {
+			File directory = compiled.getParentFile();
+			Job job = Job.create(PDECoreMessages.CompiledSchemaStore_pruning, monitor -> prune(directory));
+			job.setSystem(true);
+			job.schedule();
+		}
+		String key = getKey(url, schema.isAbbreviated());
+		long stamp = source.lastModified();
+		long length = source.length();
+		if (compiled.isFile()) {
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(compiled.toPath())))) {
+				if (in.readInt() == VERSION && key.equals(in.readUTF()) && in.readLong() == stamp && in.readLong() == length) {
+					read(schema, in);
+					return true;
+				}
+			} catch (IOException | RuntimeException e) {
+				// fall back to the source, which replaces the damaged file
+			}
+		}
+		schema.load();
+		if (schema.isLoaded() && source.lastModified() == stamp) {
+			write(schema, compiled, key, stamp, length);
+		}
+		return false;
+	}
+
+	/**
+	 * Deletes the compiled schemas of the given directory that were written by
+	 * another version or whose source changed or no longer exists, and the
+	 * temporary files left by an interrupted write
+	 */
+	private static void prune(File directory) {
+		File[] files = directory.listFiles();
+		if (files == null) {
+			return;
+		}
+		for (File file : files) {
+			if (file.getName().endsWith(".bin") && isUpToDate(file)) { //$NON-NLS-1$
+				continue;
+			}
+			try {
+				Files.deleteIfExists(file.toPath());
+			} catch (IOException e) {
+				// deleted again next session
+			}
+		}
+	}
+
+	private static boolean isUpToDate(File compiled) {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(compiled.toPath())))) {
+			if (in.readInt() != VERSION) {
+				return false;
+			}
+			String key = in.readUTF();
+			File source = getSourceFile(new URL(key.substring(2)));
+			return source != null && in.readLong() == source.lastModified() && in.readLong() == source.length();
+		} catch (IOException | RuntimeException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the file the given schema was loaded from, or <code>null</code>
+	 * if it cannot be checked for changes
+	 */
+	private static File getSourceFile(URL url) {
+		if (url == null) {
+			return null;
+		}
+		File file = null;
+		if ("file".equals(url.getProtocol())) { //$NON-NLS-1$
+			file = new File(url.getFile());
+		} else if ("jar".equals(url.getProtocol())) { //$NON-NLS-1$
+			String path = url.getPath();
+			int separator = path.indexOf("!/"); //$NON-NLS-1$
+			if (separator != -1) {
+				try {
+					URL jar = new URL(path.substring(0, separator));
+					if ("file".equals(jar.getProtocol())) { //$NON-NLS-1$
+						file = new File(jar.getPath());
+					}
+				} catch (MalformedURLException e) {
+				}
+			}
+		}
+		return file != null && file.isFile() ? file : null;
+	}
+
+	private static File getCompiledFile(URL url, boolean abbreviated) {
+		PDECore core = PDECore.getDefault();
+		if (core == null) {
+			return null;
+		}
+		File directory;
+		try {
+			directory = core.getStateLocation().append(DIRECTORY).toFile();
+		} catch (IllegalStateException e) {
+			// no state location, e.g. when running outside of a workspace
+			return null;
+		}
+		String key = getKey(url, abbreviated);
+		return new File(directory, Integer.toHexString(key.hashCode()) + ".bin"); //$NON-NLS-1$
+	}
+
+	private static String getKey(URL url, boolean abbreviated) {
+		return (abbreviated ? "a:" : "f:") + url.toExternalForm(); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static void write(Schema schema, File file, String key, long stamp, long length) {
+		Path target = file.toPath();
+		Path temp = null;
+		try {
+			Files.createDirectories(target.getParent());
+			temp = Files.createTempFile(target.getParent(), file.getName(), ".tmp"); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				out.writeInt(VERSION);
+				out.writeUTF(key);
+				out.writeLong(stamp);
+				out.writeLong(length);
+				write(schema, out);
+			}
+			try {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+			temp = null;
+		} catch (IOException e) {
+			// the schema is simply parsed again next time
+		} finally {
+			if (temp != null) {
+				try {
+					Files.deleteIfExists(temp);
+				} catch (IOException e) {
+				}
+			}
+		}
+	}
+
+	private static void write(Schema schema, DataOutputStream out) throws IOException {
+		writeString(out, schema.getName());
+		writeString(out, schema.getPluginId());
+		writeString(out, schema.getPointId());
+		writeString(out, schema.getDescription());
+		out.writeBoolean(schema.isValid());
+		ISchemaInclude[] includes = schema.getIncludes();
+		out.writeInt(includes.length);
+		for (ISchemaInclude include : includes) {
+			writeString(out, include.getLocation());
+		}
+		ISchemaElement[] elements = schema.getElements();
+		out.writeInt(elements.length);
+		for (ISchemaElement element : elements) {
+			writeElement(out, (SchemaElement) element);
+		}
+		IDocumentSection[] sections = schema.getDocumentSections();
+		out.writeInt(sections.length);
+		for (IDocumentSection section : sections) {
+			writeString(out, section.getSectionId());
+			writeString(out, section.getName());
+			writeString(out, ((DocumentSection) section).getLocalDescription());
+		}
+	}
+
+	private static void read(Schema schema, DataInputStream in) throws IOException {
+		String name = readString(in);
+		String pluginId = readString(in);
+		String pointId = readString(in);
+		String description = readString(in);
+		boolean valid = in.readBoolean();
+		int count = in.readInt();
+		List<String> includes = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			includes.add(readString(in));
+		}
+		Vector<SchemaElementReference> references = new Vector<>();
+		count = in.readInt();
+		List<ISchemaElement> elements = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			elements.add(readElement(in, schema, references));
+		}
+		count = in.readInt();
+		List<DocumentSection> sections = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			DocumentSection section = new DocumentSection(schema, readString(in), readString(in));
+			section.setDescription(readString(in));
+			sections.add(section);
+		}
+		schema.setCompiledContent(name, pluginId, pointId, description, valid, includes, elements, sections, references);
+	}
+
+	private static void writeElement(DataOutputStream out, SchemaElement element) throws IOException {
+		boolean root = element instanceof SchemaRootElement;
+		out.writeBoolean(root);
+		writeString(out, element.getName());
+		out.writeInt(element.getMinOccurs());
+		out.writeInt(element.getMaxOccurs());
+		writeString(out, element.getLocalDescription());
+		writeString(out, element.getDeclaredLabelProperty());
+		writeString(out, element.getDeclaredIconProperty());
+		out.writeBoolean(element.hasTranslatableContent());
+		out.writeBoolean(element.isDeprecated());
+		if (root) {
+			writeString(out, ((SchemaRootElement) element).getDeprecatedSuggestion());
+			out.writeBoolean(((SchemaRootElement) element).isInternal());
+		}
+		ISchemaType type = element.getType();
+		if (type instanceof SchemaComplexType complexType) {
+			out.writeByte(COMPLEX_TYPE);
+			writeString(out, complexType.getName());
+			out.writeBoolean(complexType.isMixed());
+			ISchemaAttribute[] attributes = complexType.getAttributes();
+			out.writeInt(attributes.length);
+			for (ISchemaAttribute attribute : attributes) {
+				writeAttribute(out, (SchemaAttribute) attribute);
+			}
+			ISchemaCompositor compositor = complexType.getCompositor();
+			out.writeBoolean(compositor != null);
+			if (compositor != null) {
+				writeCompositor(out, compositor);
+			}
+		} else if (type instanceof ISchemaSimpleType simpleType) {
+			out.writeByte(SIMPLE_TYPE);
+			writeSimpleType(out, simpleType);
+		} else if (type == null) {
+			out.writeByte(NO_TYPE);
+		} else {
+			throw new IOException(type.getClass().getName());
+		}
+	}
+
+	private static SchemaElement readElement(DataInputStream in, Schema schema, Vector<SchemaElementReference> references) throws IOException {
+		boolean root = in.readBoolean();
+		String name = readString(in);
+		SchemaElement element = root ? new SchemaRootElement(schema, name) : new SchemaElement(schema, name);
+		element.setMinOccurs(in.readInt());
+		element.setMaxOccurs(in.readInt());
+		element.setDescription(readString(in));
+		element.setLabelProperty(readString(in));
+		element.setIconProperty(readString(in));
+		element.setTranslatableProperty(in.readBoolean());
+		element.setDeprecatedProperty(in.readBoolean());
+		if (root) {
+			((SchemaRootElement) element).setDeprecatedSuggestion(readString(in));
+			((SchemaRootElement) element).setInternal(in.readBoolean());
+		}
+		switch (in.readByte()) {
+			case COMPLEX_TYPE -> {
+				SchemaComplexType complexType = new SchemaComplexType(schema, readString(in));
+				complexType.setMixed(in.readBoolean());
+				int count = in.readInt();
+				for (int i = 0; i < count; i++) {
+					complexType.addAttribute(readAttribute(in, schema, element));
+				}
+				if (in.readBoolean()) {
+					complexType.setCompositor(readCompositor(in, element, references));
+				}
+				element.setType(complexType);
+			}
+			case SIMPLE_TYPE -> element.setType(readSimpleType(in, schema));
+			case NO_TYPE -> {
+				// no type declared
+			}
+			default -> throw new IOException();
+		}
+		return element;
+	}
+
+	private static void writeAttribute(DataOutputStream out, SchemaAttribute attribute) throws IOException {
+		writeString(out, attribute.getName());
+		out.writeInt(attribute.getUse());
+		Object value = attribute.getValue();
+		writeString(out, value == null ? null : value.toString());
+		writeString(out, attribute.getLocalDescription());
+		out.writeInt(attribute.getKind());
+		writeString(out, attribute.getBasedOn());
+		out.writeBoolean(attribute.isDeclaredTranslatable());
+		out.writeBoolean(attribute.isDeprecated());
+		ISchemaSimpleType type = attribute.getType();
+		out.writeBoolean(type != null);
+		if (type != null) {
+			writeSimpleType(out, type);
+		}
+	}
+
+	private static SchemaAttribute readAttribute(DataInputStream in, Schema schema, SchemaElement element) throws IOException {
+		SchemaAttribute attribute = new SchemaAttribute(element, readString(in));
+		attribute.setUse(in.readInt());
+		String value = readString(in);
+		if (value != null) {
+			attribute.setValue(value);
+		}
+		attribute.setDescription(readString(in));
+		attribute.setKind(in.readInt());
+		attribute.setBasedOn(readString(in));
+		attribute.setTranslatableProperty(in.readBoolean());
+		attribute.setDeprecatedProperty(in.readBoolean());
+		if (in.readBoolean()) {
+			attribute.setType(readSimpleType(in, schema));
+		}
+		return attribute;
+	}
+
+	private static void writeSimpleType(DataOutputStream out, ISchemaSimpleType type) throws IOException {
+		writeString(out, type.getName());
+		ISchemaRestriction restriction = type.getRestriction();
+		if (restriction == null) {
+			out.writeInt(-1);
+			return;
+		}
+		if (!(restriction instanceof ChoiceRestriction)) {
+			throw new IOException(restriction.getClass().getName());
+		}
+		Object[] choices = restriction.getChildren();
+		out.writeInt(choices.length);
+		for (Object choice : choices) {
+			writeString(out, ((ISchemaEnumeration) choice).getName());
+		}
+	}
+
+	private static SchemaSimpleType readSimpleType(DataInputStream in, Schema schema) throws IOException {
+		SchemaSimpleType type = new SchemaSimpleType(schema, readString(in));
+		int count = in.readInt();
+		if (count >= 0) {
+			Vector<ISchemaEnumeration> items = new Vector<>(count);
+			for (int i = 0; i < count; i++) {
+				items.add(new SchemaEnumeration(schema, readString(in)));
+			}
+			ChoiceRestriction restriction = new ChoiceRestriction(schema);
+			restriction.setChildren(items);
+			type.setRestriction(restriction);
+		}
+		return type;
+	}
+
+	private static void writeCompositor(DataOutputStream out, ISchemaCompositor compositor) throws IOException {
+		out.writeInt(compositor.getKind());
+		out.writeInt(compositor.getMinOccurs());
+		out.writeInt(compositor.getMaxOccurs());
+		ISchemaObject[] children = compositor.getChildren();
+		out.writeInt(children.length);
+		for (ISchemaObject child : children) {
+			if (child instanceof ISchemaCompositor childCompositor) {
+				out.writeByte(COMPOSITOR);
+				writeCompositor(out, childCompositor);
+			} else if (child instanceof SchemaElementReference reference) {
+				out.writeByte(REFERENCE);
+				writeString(out, reference.getReferenceName());
+				out.writeInt(reference.getMinOccurs());
+				out.writeInt(reference.getMaxOccurs());
+				Vector<String> comments = reference.getComments();
+				out.writeInt(comments == null ? -1 : comments.size());
+				if (comments != null) {
+					for (String comment : comments) {
+						writeString(out, comment);
+					}
+				}
+			} else {
+				throw new IOException(child.getClass().getName());
+			}
+		}
+	}
+
+	private static SchemaCompositor readCompositor(DataInputStream in, ISchemaObject parent, Vector<SchemaElementReference> references) throws IOException {
+		SchemaCompositor compositor = new SchemaCompositor(parent, in.readInt());
+		compositor.setMinOccurs(in.readInt());
+		compositor.setMaxOccurs(in.readInt());
+		int count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			switch (in.readByte()) {
+				case COMPOSITOR -> compositor.addChild(readCompositor(in, compositor, references));
+				case REFERENCE -> {
+					SchemaElementReference reference = new SchemaElementReference(compositor, readString(in));
+					reference.setMinOccurs(in.readInt());
+					reference.setMaxOccurs(in.readInt());
+					int comments = in.readInt();
+					if (comments >= 0) {
+						Vector<String> list = new Vector<>(comments);
+						for (int j = 0; j < comments; j++) {
+							list.add(readString(in));
+						}
+						reference.setComments(list);
+					}
+					references.add(reference);
+					compositor.addChild(reference);
+				}
+				default -> throw new IOException();
+			}
+		}
+		return compositor;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2016 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import java.net.URL;
 import java.net.URLConnection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Vector;
 
@@ -1067,6 +1068,37 @@ public class Schema extends PlatformObject implements ISchema {
 		fReferences = null;
 	}
 
+	/**
+	 * Sets the content of this schema read from its compiled form, linking the
+	 * given element references like {@link #traverseDocumentTree(Node)} does.
+	 *
+	 * @see CompiledSchemaStore
+	 */
+	void setCompiledContent(String name, String pluginId, String pointId, String description, boolean valid, List<String> includes, List<ISchemaElement> elements, List<DocumentSection> sections, Vector<SchemaElementReference> references) {
+		reset();
+		fName = name;
+		fPluginID = pluginId;
+		fPointID = pointId;
+		fDescription = description;
+		fValid = valid;
+		for (String location : includes) {
+			if (fIncludes == null) {
+				fIncludes = new Vector<>();
+			}
+			fIncludes.add(new SchemaInclude(this, location, fAbbreviated, schemaProvider));
+		}
+		fElements.addAll(elements);
+		fDocSections.addAll(sections);
+		fLoaded = true;
+		if (!references.isEmpty()) {
+			resolveReferences(references);
+		}
+	}
+
+	boolean isAbbreviated() {
+		return fAbbreviated;
+	}
+
 	private void addOmittedDocumentSections() {
 		for (String element : DocumentSection.DOC_SECTIONS) {
 			DocumentSection section = new DocumentSection(this, element, null);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -250,6 +250,14 @@ public class SchemaAttribute extends SchemaObject implements ISchemaAttribute {
 		return false;
 	}
 
+	/**
+	 * Returns whether this attribute was declared translatable, regardless of
+	 * its kind and type
+	 */
+	boolean isDeclaredTranslatable() {
+		return fTranslatable;
+	}
+
 	@Override
 	public boolean isDeprecated() {
 		return fDeprecated;
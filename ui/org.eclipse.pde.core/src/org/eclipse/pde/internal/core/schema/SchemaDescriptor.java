@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2013 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -78,15 +78,17 @@ public class SchemaDescriptor implements ISchemaDescriptor {
 	}
 
 	@Override
-	public ISchema getSchema(boolean abbreviated) {
+	public synchronized ISchema getSchema(boolean abbreviated) {
 		if (fSchema == null && fSchemaURL != null) {
 			if (fEditable) {
 				fSchema = new EditableSchema(this, fSchemaURL, abbreviated);
+				fSchema.setSchemaProvider(schemaProvider);
+				fSchema.load();
 			} else {
 				fSchema = new Schema(this, fSchemaURL, abbreviated);
+				fSchema.setSchemaProvider(schemaProvider);
+				CompiledSchemaStore.load(fSchema);
 			}
-			fSchema.setSchemaProvider(schemaProvider);
-			fSchema.load();
 		}
 		return fSchema;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2014 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -201,6 +201,20 @@ public class SchemaElement extends RepeatableSchemaObject implements ISchemaElem
 		return null;
 	}
 
+	/**
+	 * Returns the icon attribute declared for this element, or <code>null</code>
+	 */
+	String getDeclaredIconProperty() {
+		return iconName;
+	}
+
+	/**
+	 * Returns the label attribute declared for this element, or <code>null</code>
+	 */
+	String getDeclaredLabelProperty() {
+		return labelProperty;
+	}
+
 	private boolean isValidLabelProperty(ISchemaAttribute a) {
 		return a.getKind() == IMetaAttribute.STRING && a.getType().getName().equals(ISchemaAttribute.TYPES[ISchemaAttribute.STR_IND]) && a.isTranslatable();
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2016 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -281,6 +281,14 @@ public class SchemaElementReference extends PlatformObject implements ISchemaEle
 		return result;
 	}
 
+	Vector<String> getComments() {
+		return comments;
+	}
+
+	void setComments(Vector<String> comments) {
+		this.comments = comments;
+	}
+
 	void writeComments(PrintWriter writer) {
 		writeComments(writer, comments);
 	}
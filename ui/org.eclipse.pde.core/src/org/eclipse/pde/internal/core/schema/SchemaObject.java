@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2008 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -73,6 +73,14 @@ public abstract class SchemaObject extends PlatformObject implements ISchemaObje
 		return platformDescription;
 	}
 
+	/**
+	 * Returns the description set on this object, without falling back to
+	 * descriptions looked up elsewhere
+	 */
+	String getLocalDescription() {
+		return fDescription;
+	}
+
 	public void setDescription(String newDescription) {
 		String oldValue = fDescription;
 		fDescription = newDescription;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2024 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -64,9 +64,26 @@ public class PDEJavaHelper {
 	}*/
 
 	public static boolean isDiscouraged(String fullyQualifiedName, IJavaProject project, BundleDescription desc) {
+		IType type = null;
+		try {
+			type = project.findType(fullyQualifiedName.replace('$', '.'));
+		} catch (JavaModelException e) {
+		}
+		return isDiscouraged(fullyQualifiedName, type, project, desc);
+	}
+
+	/**
+	 * Returns whether the given type is only visible to the given bundle
+	 * through a discouraged package.
+	 *
+	 * @param fullyQualifiedName the name of the type
+	 * @param type the type already looked up by that name or <code>null</code>
+	 * @param project the project of the bundle
+	 * @param desc the bundle
+	 */
+	public static boolean isDiscouraged(String fullyQualifiedName, IType type, IJavaProject project, BundleDescription desc) {
 		// allow classes within the project itself
 		try {
-			IType type = project.findType(fullyQualifiedName.replace('$', '.'));
 			if (type != null && type.exists()) {
 				HashMap<String, IPackageFragment> map = PDEJavaHelper.getPackageFragmentsHash(project,
 						Collections.emptyList(), false);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2018 Red Hat Inc. and others
+ * Copyright (c) 2017, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,20 @@
  *******************************************************************************/
 package org.eclipse.pde.genericeditor.extension.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.metadata.VersionedId;
 import org.eclipse.jface.text.ITextViewer;
 import org.eclipse.jface.text.contentassist.ICompletionProposal;
+import org.eclipse.pde.internal.genericeditor.target.extension.autocomplete.processors.AttributeValueCompletionProcessor;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.ITargetConstants;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitCatalog;
 import org.junit.Test;
 
 public class AttributeValueCompletionTests extends AbstractTargetEditorTest {
@@ -34,4 +44,16 @@ public class AttributeValueCompletionTests extends AbstractTargetEditorTest {
 		assertTrue(completionProposals.length == 1
 				&& completionProposals[0].getDisplayString().equals(expectedValueString));
 	}
+
+	@Test
+	public void testUnitIdPrefixAndSubstringSuggestions() {
+		UnitCatalog units = UnitCatalog.of(Stream.of("core.tools", "org.apache.ant", "org.eclipse.core.runtime",
+				"org.eclipse.ui", "org.eclipse.jdt.core").map(id -> new VersionedId(id, Version.create("1.0.0"))));
+		AttributeValueCompletionProcessor processor = new AttributeValueCompletionProcessor("core",
+				ITargetConstants.UNIT_ID_ATTR, 4, null);
+		List<String> proposals = Arrays.stream(processor.getUnitIdProposals(units))
+				.map(ICompletionProposal::getDisplayString).toList();
+		// the prefix hit first, then the substring hits in order
+		assertEquals(List.of("core.tools", "org.eclipse.core.runtime", "org.eclipse.jdt.core"), proposals);
+	}
 }
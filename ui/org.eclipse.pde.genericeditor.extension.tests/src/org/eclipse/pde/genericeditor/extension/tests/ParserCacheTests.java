@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.genericeditor.extension.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.xml.ParseResult;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.xml.Parser;
+import org.junit.Test;
+
+public class ParserCacheTests {
+
+	private static final String TARGET = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+			+ "<target name=\"test\">\n<locations>\n</locations>\n</target>";
+
+	@Test
+	public void testUnchangedDocumentIsParsedOnce() {
+		IDocument document = new Document(TARGET);
+		ParseResult first = Parser.getDefault().parse(document);
+		ParseResult second = Parser.getDefault().parse(document);
+		assertSame(first, second);
+		assertNotNull(first.getRootNode());
+		assertNull(first.getValidation().join());
+	}
+
+	@Test
+	public void testModifiedDocumentIsReparsed() {
+		IDocument document = new Document(TARGET);
+		ParseResult first = Parser.getDefault().parse(document);
+		document.set(TARGET.replace("</target>", ""));
+		ParseResult second = Parser.getDefault().parse(document);
+		assertNotSame(first, second);
+		assertNotNull(second.getValidation().join());
+	}
+
+	@Test
+	public void testAsyncParseSharesResult() {
+		IDocument document = new Document(TARGET);
+		ParseResult async = Parser.getDefault().parseAsync(document).join();
+		assertSame(async, Parser.getDefault().parse(document));
+		assertEquals("target", async.getRootNode().getNodeTag());
+	}
+}
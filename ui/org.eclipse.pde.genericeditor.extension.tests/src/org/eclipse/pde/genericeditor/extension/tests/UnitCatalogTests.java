@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.genericeditor.extension.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.equinox.p2.metadata.IVersionedId;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.metadata.VersionedId;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitCatalog;
+import org.junit.Test;
+
+public class UnitCatalogTests {
+
+	private static IVersionedId unit(String id, String version) {
+		return new VersionedId(id, Version.create(version));
+	}
+
+	private static final UnitCatalog CATALOG = UnitCatalog.of(Stream.of(unit("org.eclipse.core", "1.0.0"),
+			unit("org.eclipse.ui", "3.0.0"), unit("org.eclipse.core", "2.0.0"), unit("org.apache.ant", "1.10.0"),
+			unit("org.eclipse.core.runtime", "3.2.0")));
+
+	@Test
+	public void testPrefixSearch() {
+		assertEquals(List.of("org.eclipse.core", "org.eclipse.core.runtime"),
+				CATALOG.getIdsByPrefix("org.eclipse.core"));
+		assertEquals(List.of("org.apache.ant"), CATALOG.getIdsByPrefix("org.a"));
+		assertEquals(List.of(), CATALOG.getIdsByPrefix("com."));
+		assertEquals(4, CATALOG.getIdsByPrefix("").size());
+	}
+
+	@Test
+	public void testVersionsDescending() {
+		assertEquals(List.of(unit("org.eclipse.core", "2.0.0"), unit("org.eclipse.core", "1.0.0")),
+				CATALOG.getVersions("org.eclipse.core"));
+		assertEquals(List.of(), CATALOG.getVersions("org.unknown"));
+	}
+
+	@Test
+	public void testMerge() {
+		UnitCatalog other = UnitCatalog.of(Stream.of(unit("org.eclipse.core", "2.0.0"), unit("org.junit", "4.13.2")));
+		UnitCatalog merged = UnitCatalog.merge(List.of(CATALOG, other));
+		assertEquals(5, merged.size());
+		assertEquals(2, merged.getVersions("org.eclipse.core").size());
+	}
+
+	@Test
+	public void testPersistedCatalogRoundTrip() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			CATALOG.write(out);
+		}
+		UnitCatalog read;
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			read = UnitCatalog.read(in);
+		}
+		assertEquals(CATALOG.asMap(), read.asMap());
+		assertEquals(CATALOG.getIdsByPrefix("org.eclipse."), read.getIdsByPrefix("org.eclipse."));
+		assertEquals(CATALOG.getVersions("org.eclipse.core"), read.getVersions("org.eclipse.core"));
+	}
+}
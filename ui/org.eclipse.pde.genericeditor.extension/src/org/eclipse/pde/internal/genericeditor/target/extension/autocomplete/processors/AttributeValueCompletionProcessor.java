@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2024 Red Hat Inc. and others
+ * Copyright (c) 2018, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,9 @@
 package org.eclipse.pde.internal.genericeditor.target.extension.autocomplete.processors;
 
 import java.net.URI;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.eclipse.equinox.p2.metadata.IVersionedId;
@@ -29,8 +30,8 @@ import org.eclipse.pde.internal.genericeditor.target.extension.model.ITargetCons
 import org.eclipse.pde.internal.genericeditor.target.extension.model.LocationNode;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.Node;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.RepositoryCache;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitCatalog;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitNode;
-import org.eclipse.pde.internal.genericeditor.target.extension.model.xml.Parser;
 
 /**
  * Class that computes autocompletions for attribute values. Example:
@@ -46,17 +47,17 @@ public class AttributeValueCompletionProcessor extends DelegateProcessor {
 	private final String searchTerm;
 	private final String acKey;
 	private final int offset;
+	private final Node rootNode;
 
-	public AttributeValueCompletionProcessor(String searchTerm, String acKey, int offset) {
+	public AttributeValueCompletionProcessor(String searchTerm, String acKey, int offset, Node rootNode) {
 		this.searchTerm = searchTerm;
 		this.acKey = acKey;
 		this.offset = offset;
+		this.rootNode = rootNode;
 	}
 
 	@Override
 	public ICompletionProposal[] getCompletionProposals() {
-		Parser parser = Parser.getDefault();
-		Node rootNode = parser.getRootNode();
 		if (rootNode == null)
 			return new ICompletionProposal[] {};
 		List<Node> locationsNode = rootNode.getChildNodesByTag(ITargetConstants.LOCATIONS_TAG);
@@ -87,8 +88,7 @@ public class AttributeValueCompletionProcessor extends DelegateProcessor {
 				if (repoLocations.isEmpty()) {
 					return getErrorCompletion();
 				}
-				Map<String, List<IVersionedId>> units = RepositoryCache.fetchP2UnitsFromRepos(repoLocations);
-				return toProposals(units.keySet().stream());
+				return getUnitIdProposals(RepositoryCache.fetchUnitCatalog(repoLocations));
 			}
 		}
 
@@ -101,9 +101,8 @@ public class AttributeValueCompletionProcessor extends DelegateProcessor {
 				if (repoLocations.isEmpty()) {
 					return getErrorCompletion();
 				}
-				Map<String, List<IVersionedId>> units = RepositoryCache.fetchP2UnitsFromRepos(repoLocations);
-				List<IVersionedId> versions = units.get(node.getId());
-				if (versions != null) {
+				List<IVersionedId> versions = RepositoryCache.fetchUnitCatalog(repoLocations).getVersions(node.getId());
+				if (!versions.isEmpty()) {
 					Stream<String> availableVersions = Stream.concat(
 							versions.stream().map(unit -> unit.getVersion().toString()),
 							Stream.of(ITargetConstants.UNIT_VERSION_ATTR_GENERIC));
@@ -120,6 +119,19 @@ public class AttributeValueCompletionProcessor extends DelegateProcessor {
 		return new ICompletionProposal[] {};
 	}
 
+	/**
+	 * Returns the proposals for the IDs of the given units. The IDs that start
+	 * with the search term are looked up in the sorted index and proposed
+	 * first, the other IDs are still proposed if they match the search term
+	 * as a substring or in camel case.
+	 */
+	public ICompletionProposal[] getUnitIdProposals(UnitCatalog units) {
+		List<String> prefixed = searchTerm.isEmpty() ? List.of() : units.getIdsByPrefix(searchTerm);
+		Set<String> proposed = new HashSet<>(prefixed);
+		Stream<String> others = units.getIdsByPrefix("").stream().filter(id -> !proposed.contains(id)); //$NON-NLS-1$
+		return toProposals(Stream.concat(prefixed.stream(), others));
+	}
+
 	private ICompletionProposal[] toProposals(Stream<String> values) {
 		return values.map(value -> TargetDefinitionContentAssist.getFilteredStyledString(value, searchTerm))
 				.filter(displayString -> displayString != null && !displayString.isEmpty())
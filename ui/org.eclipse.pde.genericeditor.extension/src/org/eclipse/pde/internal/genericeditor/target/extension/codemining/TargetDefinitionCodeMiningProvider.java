@@ -1,5 +1,5 @@
 /********************************************************************************
- * Copyright (c) 2018 vogella GmbH and others
+ * Copyright (c) 2018, 2026 vogella GmbH and others
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -26,6 +26,7 @@ import org.eclipse.jface.text.ITextViewer;
 import org.eclipse.jface.text.codemining.AbstractCodeMiningProvider;
 import org.eclipse.jface.text.codemining.ICodeMining;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.Node;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.xml.ParseResult;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.xml.Parser;
 
 public class TargetDefinitionCodeMiningProvider extends AbstractCodeMiningProvider {
@@ -48,9 +49,9 @@ public class TargetDefinitionCodeMiningProvider extends AbstractCodeMiningProvid
 	void fillCodeMinings(IDocument document, List<ICodeMining> minings) throws BadLocationException {
 		int line = 0;
 		try {
-			Parser parser = Parser.getDefault();
-			parser.parse(document);
-			Node target = parser.getRootNode();
+			ParseResult parseResult = Parser.getDefault().parse(document);
+			parseResult.checkWellFormed();
+			Node target = parseResult.getRootNode();
 			if (target != null) {
 				line = document.getLineOfOffset(target.getOffsetStart());
 				minings.add(new TargetDefinitionActivationCodeMining(line, document, this, null));
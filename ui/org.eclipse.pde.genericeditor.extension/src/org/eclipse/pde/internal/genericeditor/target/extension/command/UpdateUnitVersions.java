@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2024 Red Hat Inc. and others
+ * Copyright (c) 2018, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,6 @@
 package org.eclipse.pde.internal.genericeditor.target.extension.command;
 
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import javax.xml.stream.XMLStreamException;
@@ -30,7 +29,9 @@ import org.eclipse.pde.internal.genericeditor.target.extension.model.ITargetCons
 import org.eclipse.pde.internal.genericeditor.target.extension.model.LocationNode;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.Node;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.RepositoryCache;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitCatalog;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitNode;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.xml.ParseResult;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.xml.Parser;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.IEditorInput;
@@ -52,13 +53,13 @@ public class UpdateUnitVersions extends AbstractHandler {
 				return null;
 			}
 
-			Parser parser = Parser.getDefault();
+			ParseResult parseResult = Parser.getDefault().parse(document);
 			try {
-				parser.parse(document);
+				parseResult.checkWellFormed();
 			} catch (XMLStreamException e) {
 				return null;
 			}
-			Node rootNode = parser.getRootNode();
+			Node rootNode = parseResult.getRootNode();
 			if (rootNode == null)
 				return null;
 			List<Node> locationsNode = rootNode.getChildNodesByTag(ITargetConstants.LOCATIONS_TAG);
@@ -66,7 +67,7 @@ public class UpdateUnitVersions extends AbstractHandler {
 				return null;
 
 			int offsetChange = 0;
-			String documentText = document.get();
+			String documentText = parseResult.getText();
 
 			List<LocationNode> locationNodes = locationsNode.get(0).getChildNodesByTag(ITargetConstants.LOCATION_TAG)
 					.stream().map(LocationNode.class::cast).toList();
@@ -80,8 +81,7 @@ public class UpdateUnitVersions extends AbstractHandler {
 				if (repositoryLocations.isEmpty()) {
 					continue;
 				}
-				Map<String, List<IVersionedId>> repositoryUnits = RepositoryCache
-						.fetchP2UnitsFromRepos(repositoryLocations);
+				UnitCatalog repositoryUnits = RepositoryCache.fetchUnitCatalog(repositoryLocations);
 				for (Node n2 : locationNode.getChildNodesByTag(ITargetConstants.UNIT_TAG)) {
 					UnitNode unitNode = ((UnitNode) n2);
 					String declaredVersion = unitNode.getVersion();
@@ -93,8 +93,8 @@ public class UpdateUnitVersions extends AbstractHandler {
 					if (declaredVersion == null || !isValidExplicitVersion) {
 						continue;
 					}
-					List<IVersionedId> versions = repositoryUnits.get(unitNode.getId());
-					if (versions == null || versions.isEmpty()) {
+					List<IVersionedId> versions = repositoryUnits.getVersions(unitNode.getId());
+					if (versions.isEmpty()) {
 						continue;
 					}
 					String version = versions.get(0).getVersion().toString();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2024 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,21 +14,27 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.genericeditor.target.extension.model;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.Collection;
-import java.util.Comparator;
-import java.util.LinkedHashMap;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.equinox.p2.metadata.IVersionedId;
 import org.eclipse.equinox.p2.metadata.VersionedId;
@@ -36,6 +42,8 @@ import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.internal.genericeditor.target.extension.p2.Messages;
 import org.eclipse.pde.internal.genericeditor.target.extension.p2.P2Fetcher;
 import org.eclipse.pde.internal.genericeditor.target.extension.p2.P2Fetcher.RepositoryContent;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
 
 /**
  * This class is used to cache the p2 repositories completion information order
@@ -44,6 +52,12 @@ import org.eclipse.pde.internal.genericeditor.target.extension.p2.P2Fetcher.Repo
  *
  * There will be only one cache shared between editors. In the future a function
  * will be added for the user to be able to flush this cache.
+ * <p>
+ * The unit catalog of each repository is also persisted in the bundle's state
+ * location. A persisted catalog is served immediately in a new session and
+ * revalidated in the background. The repository is only fetched again if the
+ * last modification time of its metadata has changed.
+ * </p>
  */
 public class RepositoryCache {
 
@@ -51,11 +65,22 @@ public class RepositoryCache {
 		// avoid instantiation
 	}
 
-	private static record RepositoryMetadata(Map<String, List<IVersionedId>> units, List<URI> children) {
+	private static record RepositoryMetadata(UnitCatalog units, List<URI> children, long lastModified) {
+	}
+
+	private static record MergedCatalog(List<UnitCatalog> parts, UnitCatalog merged) {
 	}
 
 	private static final Map<URI, CompletableFuture<RepositoryMetadata>> CACHE = new ConcurrentHashMap<>();
 
+	/** Format version of the persisted catalog files */
+	private static final int CATALOG_FORMAT_VERSION = 2;
+
+	private static final String CATALOG_DIRECTORY = "unitCatalogs"; //$NON-NLS-1$
+
+	/** The last merged multi-repository catalog, reused while its parts are unchanged */
+	private static volatile MergedCatalog lastMerged;
+
 	/**
 	 * Fetches information and caches it.
 	 * <p>
@@ -69,14 +94,42 @@ public class RepositoryCache {
 	 *         mapping all IDs to all available versions.
 	 */
 	public static Map<String, List<IVersionedId>> fetchP2UnitsFromRepos(List<String> repositories) {
+		return fetchUnitCatalog(repositories).asMap();
+	}
+
+	/**
+	 * Fetches the catalog of all units available in the given repositories.
+	 *
+	 * @return the combined catalog of all {@code repositories}
+	 */
+	public static UnitCatalog fetchUnitCatalog(List<String> repositories) {
 		if (repositories.size() == 1) {
-			return getFutureValue(fetchP2DataOfRepo(repositories.get(0)), RepositoryMetadata::units, Map.of());
+			return getFutureValue(fetchP2DataOfRepo(repositories.get(0)), RepositoryMetadata::units,
+					UnitCatalog.EMPTY);
 		}
 		var repos = repositories.stream().map(RepositoryCache::fetchP2DataOfRepo).toList();
 		// Fetch all repos at once to await pending metadata in parallel
-		return toSortedMap(repos.stream()
-				.map(r -> getFutureValue(r, RepositoryMetadata::units, Map.<String, List<IVersionedId>>of()))
-				.map(Map::values).flatMap(Collection::stream).flatMap(List::stream));
+		List<UnitCatalog> parts = repos.stream().map(r -> getFutureValue(r, RepositoryMetadata::units, UnitCatalog.EMPTY))
+				.toList();
+		MergedCatalog merged = lastMerged;
+		if (merged != null && isSameCatalogs(merged.parts(), parts)) {
+			return merged.merged();
+		}
+		merged = new MergedCatalog(parts, UnitCatalog.merge(parts));
+		lastMerged = merged;
+		return merged.merged();
+	}
+
+	private static boolean isSameCatalogs(List<UnitCatalog> a, List<UnitCatalog> b) {
+		if (a.size() != b.size()) {
+			return false;
+		}
+		for (int i = 0; i < a.size(); i++) {
+			if (a.get(i) != b.get(i)) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	public static List<URI> fetchChildrenOfRepo(String repository) {
@@ -98,34 +151,138 @@ public class RepositoryCache {
 			if (f != null && (!f.isDone() || !f.isCompletedExceptionally() && !f.isCancelled())) {
 				return f; // computation is running or has succeeded
 			}
+			if (f == null) {
+				RepositoryMetadata stored = readCatalog(repo);
+				if (stored != null) {
+					// answer from disk right away and check for updates
+					// in the background
+					scheduleFetch(repo, stored, null);
+					return CompletableFuture.completedFuture(stored);
+				}
+			}
 			CompletableFuture<RepositoryMetadata> future = new CompletableFuture<>();
-			// Fetching P2 repository information is a costly operation
-			// time-wise. Thus it is done in a job.
-			Job job = Job.create(NLS.bind(Messages.UpdateJob_P2DataFetch, repo), m -> {
-				try {
-					RepositoryContent content = P2Fetcher.fetchAvailableUnits(repo, m);
-					Map<String, List<IVersionedId>> units = toSortedMap(
-							content.units().stream().map(iu -> new VersionedId(iu.getId(), iu.getVersion())));
-					future.complete(new RepositoryMetadata(units, content.children()));
-				} catch (Throwable e) {
+			scheduleFetch(repo, null, future);
+			return future;
+		});
+	}
+
+	/**
+	 * Fetches the metadata of the given repository in a job.
+	 *
+	 * @param repo
+	 *            the repository location
+	 * @param stored
+	 *            the persisted metadata to revalidate or <code>null</code>
+	 * @param future
+	 *            the future to complete or <code>null</code> if the cache
+	 *            entry should be replaced when the repository has changed
+	 */
+	private static void scheduleFetch(URI repo, RepositoryMetadata stored, CompletableFuture<RepositoryMetadata> future) {
+		// Fetching P2 repository information is a costly operation
+		// time-wise. Thus it is done in a job.
+		Job job = Job.create(NLS.bind(Messages.UpdateJob_P2DataFetch, repo), m -> {
+			try {
+				SubMonitor subMonitor = SubMonitor.convert(m, 3);
+				List<URI> knownChildren = stored != null ? stored.children() : List.of();
+				// checking the metadata files is cheap compared to loading the
+				// repository, so do it before anything is fetched
+				long lastModified = P2Fetcher.getLastModified(withChildren(repo, knownChildren), subMonitor.split(1));
+				if (stored != null && lastModified != 0 && lastModified == stored.lastModified()) {
+					return; // persisted catalog is still up-to-date
+				}
+				RepositoryContent content = P2Fetcher.fetchAvailableUnits(repo, subMonitor.split(1));
+				if (!content.children().equals(knownChildren)) {
+					lastModified = P2Fetcher.getLastModified(withChildren(repo, content.children()),
+							subMonitor.split(1));
+				}
+				UnitCatalog units = UnitCatalog
+						.of(content.units().stream().map(iu -> new VersionedId(iu.getId(), iu.getVersion())));
+				RepositoryMetadata metadata = new RepositoryMetadata(units, content.children(), lastModified);
+				if (future != null) {
+					future.complete(metadata);
+				} else {
+					CACHE.put(repo, CompletableFuture.completedFuture(metadata));
+				}
+				writeCatalog(repo, metadata);
+			} catch (Throwable e) {
+				if (future != null) {
 					future.completeExceptionally(e);
-					// Only log the failure, don't open an error-dialog.
-					ILog.get().warn(e.getMessage(), e);
 				}
-			});
-			job.setUser(true);
-			job.schedule();
-			return future;
+				// Only log the failure, don't open an error-dialog.
+				ILog.get().warn(e.getMessage(), e);
+			}
 		});
+		// revalidation of an already available catalog is not user initiated
+		job.setUser(future != null);
+		job.setSystem(future == null);
+		job.schedule();
+	}
+
+	private static List<URI> withChildren(URI repo, List<URI> children) {
+		List<URI> locations = new ArrayList<>(children.size() + 1);
+		locations.add(repo);
+		locations.addAll(children);
+		return locations;
+	}
+
+	private static Path getCatalogFile(URI repo) {
+		Bundle bundle = FrameworkUtil.getBundle(RepositoryCache.class);
+		if (bundle == null) {
+			return null;
+		}
+		try {
+			Path directory = Platform.getStateLocation(bundle).append(CATALOG_DIRECTORY).toFile().toPath();
+			return directory.resolve(Integer.toHexString(repo.toString().hashCode()) + ".bin"); //$NON-NLS-1$
+		} catch (IllegalStateException e) {
+			return null; // no instance location available
+		}
 	}
 
-	private static final Comparator<IVersionedId> BY_ID_FIRST_THEN_DESCENDING_VERSION = Comparator
-			.comparing(IVersionedId::getId, String.CASE_INSENSITIVE_ORDER)
-			.thenComparing(IVersionedId::getVersion, Comparator.reverseOrder());
+	private static RepositoryMetadata readCatalog(URI repo) {
+		Path file = getCatalogFile(repo);
+		if (file == null || !Files.isRegularFile(file)) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != CATALOG_FORMAT_VERSION || !repo.toString().equals(in.readUTF())) {
+				return null; // outdated format or hash collision
+			}
+			long lastModified = in.readLong();
+			int childCount = in.readInt();
+			List<URI> children = new ArrayList<>(childCount);
+			for (int i = 0; i < childCount; i++) {
+				children.add(URI.create(in.readUTF()));
+			}
+			UnitCatalog units = UnitCatalog.read(in);
+			return new RepositoryMetadata(units, List.copyOf(children), lastModified);
+		} catch (IOException | IllegalArgumentException e) {
+			// corrupt file, fetch the repository again
+			return null;
+		}
+	}
 
-	private static Map<String, List<IVersionedId>> toSortedMap(Stream<IVersionedId> units) {
-		return units.sorted(BY_ID_FIRST_THEN_DESCENDING_VERSION).collect(
-				Collectors.groupingBy(IVersionedId::getId, LinkedHashMap::new, Collectors.toUnmodifiableList()));
+	private static void writeCatalog(URI repo, RepositoryMetadata metadata) {
+		Path file = getCatalogFile(repo);
+		if (file == null) {
+			return;
+		}
+		try {
+			Files.createDirectories(file.getParent());
+			Path tmp = Files.createTempFile(file.getParent(), null, null);
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+				out.writeInt(CATALOG_FORMAT_VERSION);
+				out.writeUTF(repo.toString());
+				out.writeLong(metadata.lastModified());
+				out.writeInt(metadata.children().size());
+				for (URI child : metadata.children()) {
+					out.writeUTF(child.toString());
+				}
+				metadata.units().write(out);
+			}
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			ILog.get().warn(e.getMessage(), e);
+		}
 	}
 
 	private static <T> T getFutureValue(Future<RepositoryMetadata> future, Function<RepositoryMetadata, T> getter,
@@ -155,9 +312,8 @@ public class RepositoryCache {
 	 * @return A list of IUs whose id starts with 'prefix'
 	 */
 	public static List<IVersionedId> getUnitsByPrefix(String repo, String prefix) {
-		Map<String, List<IVersionedId>> allUnits = fetchP2UnitsFromRepos(List.of(repo));
-		return allUnits.values().stream().flatMap(List::stream) //
-				.filter(unit -> unit.getId().startsWith(prefix)).toList();
+		UnitCatalog catalog = fetchUnitCatalog(List.of(repo));
+		return catalog.getIdsByPrefix(prefix).stream().map(catalog::getVersions).flatMap(List::stream).toList();
 	}
 
 	/**
@@ -179,7 +335,7 @@ public class RepositoryCache {
 	 * @return A list of IUs whose id contains 'searchTerm'
 	 */
 	public static List<IVersionedId> getUnitsBySearchTerm(String repo, String searchTerm) {
-		Map<String, List<IVersionedId>> allUnits = fetchP2UnitsFromRepos(List.of(repo));
+		Map<String, List<IVersionedId>> allUnits = fetchUnitCatalog(List.of(repo)).asMap();
 		return allUnits.values().stream().flatMap(List::stream) //
 				.filter(unit -> unit.getId().contains(searchTerm)).toList();
 	}
@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.internal.genericeditor.target.extension.model;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.equinox.p2.metadata.IVersionedId;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.metadata.VersionedId;
+
+/**
+ * Immutable catalog of the installable units available in one or more p2
+ * repositories.
+ * <p>
+ * Unit IDs are kept in a sorted array so that prefix queries are answered by
+ * binary search instead of filtering all units. The catalog can be written to
+ * and read from a compact binary stream so that it survives IDE restarts.
+ * </p>
+ */
+public final class UnitCatalog {
+
+	static final UnitCatalog EMPTY = new UnitCatalog(Map.of());
+
+	private static final Comparator<IVersionedId> BY_ID_FIRST_THEN_DESCENDING_VERSION = Comparator
+			.comparing(IVersionedId::getId, String.CASE_INSENSITIVE_ORDER)
+			.thenComparing(IVersionedId::getVersion, Comparator.reverseOrder());
+
+	/** All IDs sorted case-insensitively with versions in descending order */
+	private final Map<String, List<IVersionedId>> units;
+
+	/** All IDs in natural order, used for binary prefix search */
+	private final String[] sortedIds;
+
+	private UnitCatalog(Map<String, List<IVersionedId>> units) {
+		this.units = Collections.unmodifiableMap(units);
+		this.sortedIds = units.keySet().toArray(String[]::new);
+		Arrays.sort(sortedIds);
+	}
+
+	/**
+	 * Creates a catalog from the given units.
+	 *
+	 * @param units
+	 *            the units, in any order and possibly containing duplicate IDs
+	 * @return the new catalog
+	 */
+	public static UnitCatalog of(Stream<IVersionedId> units) {
+		return new UnitCatalog(units.sorted(BY_ID_FIRST_THEN_DESCENDING_VERSION).collect(
+				Collectors.groupingBy(IVersionedId::getId, LinkedHashMap::new, Collectors.toUnmodifiableList())));
+	}
+
+	/**
+	 * Creates a catalog containing the units of all given catalogs.
+	 *
+	 * @param catalogs
+	 *            the catalogs to merge
+	 * @return the merged catalog
+	 */
+	public static UnitCatalog merge(Collection<UnitCatalog> catalogs) {
+		if (catalogs.size() == 1) {
+			return catalogs.iterator().next();
+		}
+		return of(catalogs.stream().map(c -> c.units.values()).flatMap(Collection::stream).flatMap(List::stream)
+				.distinct());
+	}
+
+	/**
+	 * Returns all units as a map from ID to all available versions. The keys
+	 * are sorted in alphabetical order and the versions in descending order.
+	 *
+	 * @return an unmodifiable map of all units
+	 */
+	public Map<String, List<IVersionedId>> asMap() {
+		return units;
+	}
+
+	/**
+	 * @return the available versions of the given unit in descending order,
+	 *         or an empty list if the unit is unknown
+	 */
+	public List<IVersionedId> getVersions(String id) {
+		return units.getOrDefault(id, List.of());
+	}
+
+	/**
+	 * Returns the IDs of all units starting with the given prefix in
+	 * alphabetical order.
+	 *
+	 * @param prefix
+	 *            the case-sensitive prefix
+	 * @return the matching IDs
+	 */
+	public List<String> getIdsByPrefix(String prefix) {
+		if (prefix.isEmpty()) {
+			return List.of(sortedIds);
+		}
+		int from = lowerBound(prefix);
+		int to = from;
+		while (to < sortedIds.length && sortedIds[to].startsWith(prefix)) {
+			to++;
+		}
+		return List.of(Arrays.copyOfRange(sortedIds, from, to));
+	}
+
+	private int lowerBound(String key) {
+		int low = 0;
+		int high = sortedIds.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (sortedIds[mid].compareTo(key) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * @return the number of distinct unit IDs in this catalog
+	 */
+	public int size() {
+		return sortedIds.length;
+	}
+
+	/**
+	 * Writes this catalog to the given stream in a form that can be read back
+	 * by {@link #read(DataInputStream)}.
+	 *
+	 * @param out
+	 *            the stream to write to
+	 * @throws IOException
+	 *             if writing fails
+	 */
+	public void write(DataOutputStream out) throws IOException {
+		out.writeInt(units.size());
+		for (Map.Entry<String, List<IVersionedId>> entry : units.entrySet()) {
+			out.writeUTF(entry.getKey());
+			List<IVersionedId> versions = entry.getValue();
+			out.writeInt(versions.size());
+			for (IVersionedId version : versions) {
+				out.writeUTF(version.getVersion().toString());
+			}
+		}
+	}
+
+	/**
+	 * Reads a catalog previously written by {@link #write(DataOutputStream)}.
+	 *
+	 * @param in
+	 *            the stream to read from
+	 * @return the catalog read
+	 * @throws IOException
+	 *             if reading fails
+	 */
+	public static UnitCatalog read(DataInputStream in) throws IOException {
+		int size = in.readInt();
+		Map<String, List<IVersionedId>> units = new LinkedHashMap<>(size * 4 / 3 + 1);
+		for (int i = 0; i < size; i++) {
+			String id = in.readUTF();
+			int count = in.readInt();
+			List<IVersionedId> versions = new ArrayList<>(count);
+			for (int j = 0; j < count; j++) {
+				versions.add(new VersionedId(id, Version.create(in.readUTF())));
+			}
+			units.put(id, List.copyOf(versions));
+		}
+		// written in sorted order, no need to sort again
+		return new UnitCatalog(units);
+	}
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.internal.genericeditor.target.extension.model.xml;
+
+import java.util.concurrent.CompletableFuture;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.eclipse.pde.internal.genericeditor.target.extension.model.Node;
+
+/**
+ * Immutable result of parsing one revision of a target definition document.
+ * Instances are shared between all consumers of the same document revision
+ * and the node tree must therefore be treated as read-only.
+ */
+public final class ParseResult {
+
+	private final long modificationStamp;
+	private final String text;
+	private final Node target;
+	private final CompletableFuture<XMLStreamException> validation;
+
+	ParseResult(long modificationStamp, String text, Node target, CompletableFuture<XMLStreamException> validation) {
+		this.modificationStamp = modificationStamp;
+		this.text = text;
+		this.target = target;
+		this.validation = validation;
+	}
+
+	/**
+	 * @return the modification stamp of the document revision that was parsed
+	 */
+	public long getModificationStamp() {
+		return modificationStamp;
+	}
+
+	/**
+	 * @return the document content that was parsed
+	 */
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * @return the root <code>target</code> node or <code>null</code> if the
+	 *         document does not contain one
+	 */
+	public Node getRootNode() {
+		return target;
+	}
+
+	/**
+	 * Returns the pending well-formedness check of the document. The future
+	 * completes with <code>null</code> if the document is well-formed and with
+	 * the parse error otherwise.
+	 *
+	 * @return the asynchronous validation result
+	 */
+	public CompletableFuture<XMLStreamException> getValidation() {
+		return validation;
+	}
+
+	/**
+	 * Waits for the well-formedness check of the document. Must not be called
+	 * from the UI thread.
+	 *
+	 * @throws XMLStreamException
+	 *             if the document is not well-formed
+	 */
+	public void checkWellFormed() throws XMLStreamException {
+		XMLStreamException error = validation.join();
+		if (error != null) {
+			throw error;
+		}
+	}
+}
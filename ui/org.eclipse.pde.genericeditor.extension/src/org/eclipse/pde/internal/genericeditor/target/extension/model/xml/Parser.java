@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2024 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,9 @@ package org.eclipse.pde.internal.genericeditor.target.extension.model.xml;
 
 import java.io.ByteArrayInputStream;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -25,6 +28,7 @@ import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.DependencyNode;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.ITargetConstants;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.LocationNode;
@@ -33,28 +37,93 @@ import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitNode;
 
 /**
  * Class used to parse the XML code into the model.
+ * <p>
+ * Parse results are cached per document and keyed by the document
+ * modification stamp, so content assist, code minings, the syntax validator
+ * and the version update command share a single parse per document revision.
+ * The StAX well-formedness check runs asynchronously and never on the calling
+ * thread.
+ * </p>
  */
 public class Parser {
 
-	private static Parser instance;
+	private static final Parser instance = new Parser();
 
-	private Node target;
+	private final Map<IDocument, DocumentEntry> cache = new WeakHashMap<>();
 
-	private XMLInputFactory inputFactory;
+	private final XMLInputFactory inputFactory;
 
-	public Parser() {
-		initializeParser();
+	/**
+	 * Holds the last parse result of a document. Callers parsing the same
+	 * document synchronize on the entry, so a revision is parsed only once
+	 * even if several consumers request it concurrently.
+	 */
+	private static final class DocumentEntry {
+		ParseResult result;
 	}
 
-	private void initializeParser() {
+	public Parser() {
 		inputFactory = XMLInputFactory.newInstance();
 	}
 
-	public void parse(IDocument document) throws XMLStreamException {
-		target = null;
+	/**
+	 * Returns the parse result for the current content of the given document,
+	 * parsing it only if it has changed since the last request.
+	 *
+	 * @param document
+	 *            the target definition document
+	 * @return the parse result, never <code>null</code>
+	 */
+	public ParseResult parse(IDocument document) {
+		DocumentEntry entry;
+		synchronized (cache) {
+			entry = cache.computeIfAbsent(document, d -> new DocumentEntry());
+		}
+		synchronized (entry) {
+			long stamp = getModificationStamp(document);
+			String text = document.get();
+			ParseResult cached = entry.result;
+			if (cached != null && isSameRevision(cached, stamp, text)) {
+				return cached;
+			}
+			ParseResult result = parse(text, stamp);
+			entry.result = result;
+			return result;
+		}
+	}
+
+	/**
+	 * Parses the given document on a background thread.
+	 *
+	 * @param document
+	 *            the target definition document
+	 * @return a future for the parse result
+	 */
+	public CompletableFuture<ParseResult> parseAsync(IDocument document) {
+		return CompletableFuture.supplyAsync(() -> parse(document));
+	}
+
+	private static long getModificationStamp(IDocument document) {
+		if (document instanceof IDocumentExtension4 extension) {
+			return extension.getModificationStamp();
+		}
+		return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	}
+
+	private static boolean isSameRevision(ParseResult cached, long stamp, String text) {
+		if (stamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP && cached.getModificationStamp() != stamp) {
+			return false;
+		}
+		// the stamp alone is not enough as documents may be set() without
+		// changing it
+		return cached.getText().equals(text);
+	}
+
+	private ParseResult parse(String text, long stamp) {
+		Node target = null;
 		Node currentParent = null;
 		Node currentNode = null;
-		Iterator<XMLElement> tagReaderIterator = createXMLTagItterator(document.get());
+		Iterator<XMLElement> tagReaderIterator = createXMLTagItterator(text);
 		while (tagReaderIterator.hasNext()) {
 			XMLElement event = tagReaderIterator.next();
 			if (event.isStartElement()) {
@@ -102,10 +171,20 @@ public class Parser {
 				}
 			}
 		}
-		ByteArrayInputStream inputStream = new ByteArrayInputStream(document.get().getBytes());
-		XMLEventReader eventReader = inputFactory.createXMLEventReader(inputStream);
-		while (eventReader.hasNext()) {
-			eventReader.nextEvent();
+		CompletableFuture<XMLStreamException> validation = CompletableFuture.supplyAsync(() -> validate(text));
+		return new ParseResult(stamp, text, target, validation);
+	}
+
+	private XMLStreamException validate(String text) {
+		try {
+			ByteArrayInputStream inputStream = new ByteArrayInputStream(text.getBytes());
+			XMLEventReader eventReader = inputFactory.createXMLEventReader(inputStream);
+			while (eventReader.hasNext()) {
+				eventReader.nextEvent();
+			}
+			return null;
+		} catch (XMLStreamException e) {
+			return e;
 		}
 	}
 
@@ -147,15 +226,9 @@ public class Parser {
 			}
 		};
 	}
+
 	public static Parser getDefault() {
-		if (instance == null) {
-			instance = new Parser();
-		}
 		return instance;
 	}
 
-	public Node getRootNode() {
-		return target;
-	}
-
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2024 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,13 +13,17 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.genericeditor.target.extension.p2;
 
+import java.io.FileNotFoundException;
 import java.net.URI;
 import java.util.List;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.URIUtil;
+import org.eclipse.equinox.internal.p2.repository.Transport;
 import org.eclipse.equinox.p2.core.IProvisioningAgent;
 import org.eclipse.equinox.p2.core.IProvisioningAgentProvider;
 import org.eclipse.equinox.p2.core.ProvisionException;
@@ -41,6 +45,14 @@ import org.osgi.framework.ServiceReference;
  */
 public class P2Fetcher {
 
+	/** The metadata files of a repository, in the order p2 probes them */
+	private static final String[] METADATA_FILES = { "content.xml.xz", "content.jar", "content.xml", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			"compositeContent.jar", "compositeContent.xml" }; //$NON-NLS-1$ //$NON-NLS-2$
+
+	/**
+	 * The units of a repository together with the locations of all its
+	 * (transitive) children.
+	 */
 	public static record RepositoryContent(IQueryResult<IInstallableUnit> units, List<URI> children) {
 	}
 
@@ -69,6 +81,60 @@ public class P2Fetcher {
 		}
 	}
 
+	/**
+	 * Returns the last modification time of the metadata of the given
+	 * repositories without loading them. Only the first existing metadata file
+	 * of each repository is checked, so this is much cheaper than
+	 * {@link #fetchAvailableUnits(URI, IProgressMonitor)}.
+	 *
+	 * @param repositoryLocations
+	 *            URIs pointing to the locations of p2 repositories
+	 * @return the latest modification time of all repositories or
+	 *         <code>0</code> if it is unknown for any of them
+	 */
+	@SuppressWarnings("restriction")
+	public static long getLastModified(List<URI> repositoryLocations, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, repositoryLocations.size() * METADATA_FILES.length);
+		BundleContext context = FrameworkUtil.getBundle(P2Fetcher.class).getBundleContext();
+		ServiceReference<IProvisioningAgentProvider> sr = context.getServiceReference(IProvisioningAgentProvider.class);
+		try {
+			IProvisioningAgentProvider agentProvider = context.getService(sr);
+			IProvisioningAgent agent = agentProvider.createAgent(null);
+			Transport transport = agent.getService(Transport.class);
+			if (transport == null) {
+				return 0;
+			}
+			long lastModified = 0;
+			for (URI location : repositoryLocations) {
+				long modified = getLastModified(transport, location, subMonitor.split(METADATA_FILES.length));
+				if (modified <= 0) {
+					return 0;
+				}
+				lastModified = Math.max(lastModified, modified);
+			}
+			return lastModified;
+		} finally {
+			context.ungetService(sr);
+		}
+	}
+
+	@SuppressWarnings("restriction")
+	private static long getLastModified(Transport transport, URI location, IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, METADATA_FILES.length);
+		for (String file : METADATA_FILES) {
+			try {
+				return transport.getLastModified(URIUtil.append(location, file), subMonitor.split(1));
+			} catch (FileNotFoundException e) {
+				// probe the next metadata file
+			} catch (OperationCanceledException e) {
+				throw e;
+			} catch (Exception e) { // authentication, I/O or protocol failure
+				return 0;
+			}
+		}
+		return 0;
+	}
+
 	private static Stream<URI> allChildren(IRepository<?> repository, IMetadataRepositoryManager manager) {
 		if (repository instanceof ICompositeRepository<?> composite) {
 			return composite.getChildren().stream().flatMap(uri -> {
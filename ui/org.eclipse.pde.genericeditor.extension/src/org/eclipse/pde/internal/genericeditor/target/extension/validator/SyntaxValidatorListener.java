@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2018 Red Hat Inc. and others
+ * Copyright (c) 2017, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,6 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.genericeditor.target.extension.validator;
 
-import java.util.concurrent.CompletableFuture;
-
 import javax.xml.stream.XMLStreamException;
 
 import org.eclipse.core.filebuffers.ITextFileBuffer;
@@ -26,6 +24,7 @@ import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.source.Annotation;
 import org.eclipse.jface.text.source.IAnnotationModel;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.xml.ParseResult;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.xml.Parser;
 
 public class SyntaxValidatorListener implements IDocumentListener {
@@ -51,13 +50,8 @@ public class SyntaxValidatorListener implements IDocumentListener {
 				model.removeAnnotation(annotation);
 			}
 		});
-		CompletableFuture.runAsync(() -> {
-			try {
-				if (fDocument.get().isEmpty()) {
-					return;
-				}
-				Parser.getDefault().parse(fDocument);
-			} catch (XMLStreamException e) {
+		Parser.getDefault().parseAsync(fDocument).thenCompose(ParseResult::getValidation).thenAccept(e -> {
+			if (e != null && !fDocument.get().isEmpty()) {
 				Annotation error = prepareAnnotation(e);
 				Position position = preparePosition(e);
 				model.addAnnotation(error, position);
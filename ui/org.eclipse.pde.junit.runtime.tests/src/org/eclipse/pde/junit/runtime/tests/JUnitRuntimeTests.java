@@ -18,7 +18,7 @@ import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses({ JUnitExecutionTest.class, JUnit5SuiteExecutionTest.class })
+@SuiteClasses({ JUnitExecutionTest.class, JUnit5SuiteExecutionTest.class, MultiBundleClassLoaderTest.class })
 public class JUnitRuntimeTests {
 
 }
@@ -0,0 +1,201 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.junit.runtime.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.pde.internal.junit.runtime.MultiBundleClassLoader;
+import org.junit.After;
+import org.junit.Test;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.wiring.FrameworkWiring;
+
+public class MultiBundleClassLoaderTest {
+
+	private static final String MANIFEST = "META-INF/MANIFEST.MF";
+	private static final String SHARED_RESOURCE = "test/shared/resource.txt";
+
+	private final List<Bundle> installed = new ArrayList<>();
+
+	@After
+	public void tearDown() throws BundleException {
+		for (Bundle bundle : installed) {
+			bundle.uninstall();
+		}
+		getFrameworkWiring().refreshBundles(installed);
+	}
+
+	private static FrameworkWiring getFrameworkWiring() {
+		return getContext().getBundle(0).adapt(FrameworkWiring.class);
+	}
+
+	private static BundleContext getContext() {
+		return FrameworkUtil.getBundle(MultiBundleClassLoaderTest.class).getBundleContext();
+	}
+
+	/**
+	 * Installs a bundle with the given manifest headers that holds
+	 * {@link #SHARED_RESOURCE} with the given content, if any
+	 */
+	private Bundle install(String name, String content, String... headers) throws Exception {
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.putValue("Bundle-ManifestVersion", "2");
+		attributes.putValue("Bundle-SymbolicName", name);
+		for (int i = 0; i < headers.length; i += 2) {
+			attributes.putValue(headers[i], headers[i + 1]);
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (JarOutputStream jar = new JarOutputStream(bytes, manifest)) {
+			if (content != null) {
+				jar.putNextEntry(new JarEntry(SHARED_RESOURCE));
+				jar.write(content.getBytes(StandardCharsets.UTF_8));
+				jar.closeEntry();
+			}
+		}
+		Bundle bundle;
+		try (InputStream input = new ByteArrayInputStream(bytes.toByteArray())) {
+			bundle = getContext().installBundle("test:" + name, input);
+		}
+		installed.add(bundle);
+		return bundle;
+	}
+
+	private void resolve() {
+		assertTrue(getFrameworkWiring().resolveBundles(installed));
+	}
+
+	private static String read(URL url) throws IOException {
+		assertNotNull(url);
+		try (InputStream input = url.openStream()) {
+			return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	private static List<Bundle> getBundles() {
+		Bundle runtime = FrameworkUtil.getBundle(Platform.class);
+		Bundle junit = FrameworkUtil.getBundle(Test.class);
+		assertNotNull(runtime);
+		assertNotNull(junit);
+		return List.of(runtime, junit);
+	}
+
+	@Test
+	public void testRoutedClassLookup() throws Exception {
+		MultiBundleClassLoader loader = new MultiBundleClassLoader(getBundles());
+		assertSame(Test.class, loader.loadClass(Test.class.getName()));
+		assertSame(Platform.class, loader.loadClass(Platform.class.getName()));
+	}
+
+	@Test
+	public void testUnroutedClassLookup() throws Exception {
+		List<Bundle> bundles = getBundles();
+		MultiBundleClassLoader loader = new MultiBundleClassLoader(bundles);
+		// no bundle contains or imports java.sql, only the parent delegation
+		// of the bundles can load it
+		String name = "java.sql.Connection";
+		assertSame(bundles.get(0).loadClass(name), loader.loadClass(name));
+	}
+
+	@Test
+	public void testMissingClassLookup() {
+		MultiBundleClassLoader loader = new MultiBundleClassLoader(getBundles());
+		String name = "org.junit.DoesNotExist";
+		assertThrows(ClassNotFoundException.class, () -> loader.loadClass(name));
+		assertThrows(ClassNotFoundException.class, () -> loader.loadClass(name));
+	}
+
+	@Test
+	public void testResourcesOfAllBundles() throws IOException {
+		List<Bundle> bundles = getBundles();
+		MultiBundleClassLoader loader = new MultiBundleClassLoader(bundles);
+		int expected = 0;
+		for (Bundle bundle : bundles) {
+			expected += Collections.list(bundle.getResources(MANIFEST)).size();
+		}
+		List<URL> resources = Collections.list(loader.getResources(MANIFEST));
+		assertEquals(expected, resources.size());
+		assertNotNull(loader.getResource(MANIFEST));
+	}
+
+	@Test
+	public void testFirstOfBundlesExportingSamePackageWins() throws Exception {
+		Bundle first = install("test.shared.first", "first", "Export-Package", "test.shared");
+		Bundle second = install("test.shared.second", "second", "Export-Package", "test.shared");
+		resolve();
+
+		MultiBundleClassLoader loader = new MultiBundleClassLoader(List.of(first, second));
+		assertEquals("first", read(loader.getResource(SHARED_RESOURCE)));
+		List<URL> resources = Collections.list(loader.getResources(SHARED_RESOURCE));
+		assertEquals(2, resources.size());
+		assertEquals("first", read(resources.get(0)));
+		assertEquals("second", read(resources.get(1)));
+
+		loader = new MultiBundleClassLoader(List.of(second, first));
+		assertEquals("second", read(loader.getResource(SHARED_RESOURCE)));
+		resources = Collections.list(loader.getResources(SHARED_RESOURCE));
+		assertEquals(2, resources.size());
+		assertEquals("second", read(resources.get(0)));
+		assertEquals("first", read(resources.get(1)));
+	}
+
+	@Test
+	public void testReexportedPackageKeepsListOrder() throws Exception {
+		install("test.shared.provider", "reexported", "Export-Package", "test.shared");
+		install("test.shared.reexporter", null, "Require-Bundle", "test.shared.provider;visibility:=reexport");
+		Bundle requirer = install("test.shared.requirer", null, "Require-Bundle", "test.shared.reexporter");
+		Bundle other = install("test.shared.other", "other", "Export-Package", "test.shared");
+		resolve();
+
+		// the requirer sees test.shared only through the re-exporting bundle
+		MultiBundleClassLoader loader = new MultiBundleClassLoader(List.of(requirer, other));
+		assertEquals("reexported", read(loader.getResource(SHARED_RESOURCE)));
+	}
+
+	@Test
+	public void testDynamicImportKeepsListOrder() throws Exception {
+		install("test.shared.provider", "dynamic", "Export-Package", "test.shared");
+		Bundle importer = install("test.shared.importer", null, "DynamicImport-Package", "test.*");
+		Bundle other = install("test.shared.other", "other", "Export-Package", "test.shared");
+		resolve();
+
+		// the importer wires test.shared to the first installed provider only
+		// when it is first asked for it
+		MultiBundleClassLoader loader = new MultiBundleClassLoader(List.of(importer, other));
+		assertEquals("dynamic", read(loader.getResource(SHARED_RESOURCE)));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2018, 2023 IBM Corporation and others.
+ *  Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -16,15 +16,37 @@ package org.eclipse.pde.internal.junit.runtime;
 import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.FileLocator;
 import org.osgi.framework.Bundle;
+import org.osgi.framework.namespace.BundleNamespace;
+import org.osgi.framework.namespace.PackageNamespace;
+import org.osgi.framework.wiring.BundleCapability;
+import org.osgi.framework.wiring.BundleRequirement;
+import org.osgi.framework.wiring.BundleWire;
+import org.osgi.framework.wiring.BundleWiring;
 
-class MultiBundleClassLoader extends ClassLoader {
+/**
+ * Loads classes and resources from a list of bundles, asking the bundles in
+ * list order. To avoid probing every bundle for every class, the packages a
+ * bundle contains, exports, imports or sees through its required bundles are
+ * looked up from its wiring on first use, and bundles that cannot provide a
+ * package are skipped. Bundles that are not resolved or import packages
+ * dynamically are always asked, as are all bundles for packages none of them
+ * knows.
+ */
+public class MultiBundleClassLoader extends ClassLoader {
 	private final List<Bundle> bundleList;
+	private Map<String, List<Bundle>> packageRoutes;
 
 	public MultiBundleClassLoader(List<Bundle> platformEngineBundles) {
 		super(null); // never delegate to system classloader, only load classes via given Bundles
@@ -33,7 +55,9 @@ class MultiBundleClassLoader extends ClassLoader {
 
 	@Override
 	protected Class<?> findClass(String name) throws ClassNotFoundException {
-		for (Bundle temp : bundleList) {
+		int index = name.lastIndexOf('.');
+		String packageName = index < 0 ? "" : name.substring(0, index); //$NON-NLS-1$
+		for (Bundle temp : getBundles(packageName)) {
 			try {
 				Class<?> c = temp.loadClass(name);
 				if (c != null) {
@@ -47,7 +71,7 @@ class MultiBundleClassLoader extends ClassLoader {
 
 	@Override
 	protected URL findResource(String name) {
-		for (Bundle temp : bundleList) {
+		for (Bundle temp : getBundles(getResourcePackage(name))) {
 			URL url = temp.getResource(name);
 			if (url != null) {
 				try {
@@ -63,7 +87,7 @@ class MultiBundleClassLoader extends ClassLoader {
 	@Override
 	protected Enumeration<URL> findResources(String name) throws IOException {
 		List<URL> merged = new ArrayList<>();
-		for (Bundle bundle : bundleList) {
+		for (Bundle bundle : getBundles(getResourcePackage(name))) {
 			Enumeration<URL> resources = bundle.getResources(name);
 			while (resources != null && resources.hasMoreElements()) {
 				merged.add(FileLocator.resolve(resources.nextElement()));
@@ -71,4 +95,123 @@ class MultiBundleClassLoader extends ClassLoader {
 		}
 		return Collections.enumeration(merged);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Returns the bundles to ask for a class or resource in the given package,
+	 * in list order: the bundles that can provide the package, or all bundles
+	 * if no bundle is known to provide it.
+	 */
+	private List<Bundle> getBundles(String packageName) {
+		List<Bundle> routed = getPackageRoutes().get(packageName);
+		return routed != null ? routed : bundleList;
+	}
+
+	private synchronized Map<String, List<Bundle>> getPackageRoutes() {
+		if (packageRoutes == null) {
+			Map<String, List<Bundle>> routes = new HashMap<>();
+			// bundles that may provide any package, in list order
+			List<Bundle> unrestricted = new ArrayList<>();
+			for (Bundle bundle : bundleList) {
+				BundleWiring wiring = bundle.adapt(BundleWiring.class);
+				if (wiring == null || hasDynamicImports(wiring)) {
+					unrestricted.add(bundle);
+					for (List<Bundle> bundles : routes.values()) {
+						bundles.add(bundle);
+					}
+					continue;
+				}
+				for (String packageName : getPackages(wiring)) {
+					List<Bundle> bundles = routes.get(packageName);
+					if (bundles == null) {
+						bundles = new ArrayList<>(unrestricted);
+						routes.put(packageName, bundles);
+					}
+					bundles.add(bundle);
+				}
+			}
+			packageRoutes = routes;
+		}
+		return packageRoutes;
+	}
+
+	private static boolean hasDynamicImports(BundleWiring wiring) {
+		List<BundleRequirement> requirements = wiring.getRequirements(PackageNamespace.PACKAGE_NAMESPACE);
+		if (requirements != null) {
+			for (BundleRequirement requirement : requirements) {
+				if (PackageNamespace.RESOLUTION_DYNAMIC.equals(requirement.getDirectives().get(PackageNamespace.REQUIREMENT_RESOLUTION_DIRECTIVE))) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the packages contained in, exported or imported by the bundle of
+	 * the given wiring, including the packages exported by required bundles
+	 * and the bundles they re-export
+	 */
+	private static Set<String> getPackages(BundleWiring wiring) {
+		Set<String> packages = new LinkedHashSet<>();
+		Collection<String> resources = wiring.listResources("/", "*", BundleWiring.LISTRESOURCES_LOCAL | BundleWiring.LISTRESOURCES_RECURSE); //$NON-NLS-1$ //$NON-NLS-2$
+		if (resources != null) {
+			for (String resource : resources) {
+				packages.add(getResourcePackage(resource));
+			}
+		}
+		addPackages(wiring.getCapabilities(PackageNamespace.PACKAGE_NAMESPACE), packages);
+		List<BundleWire> imports = wiring.getRequiredWires(PackageNamespace.PACKAGE_NAMESPACE);
+		if (imports != null) {
+			for (BundleWire wire : imports) {
+				addPackages(Collections.singletonList(wire.getCapability()), packages);
+			}
+		}
+		addRequiredPackages(wiring, false, packages, new HashSet<>());
+		return packages;
+	}
+
+	/**
+	 * Adds the packages exported by the bundles the given wiring requires. If
+	 * <code>reexportedOnly</code> is set, only the required bundles with
+	 * <code>visibility:=reexport</code> are considered.
+	 */
+	private static void addRequiredPackages(BundleWiring wiring, boolean reexportedOnly, Set<String> packages, Set<BundleWiring> visited) {
+		List<BundleWire> requires = wiring.getRequiredWires(BundleNamespace.BUNDLE_NAMESPACE);
+		if (requires == null) {
+			return;
+		}
+		for (BundleWire wire : requires) {
+			if (reexportedOnly && !BundleNamespace.VISIBILITY_REEXPORT.equals(wire.getRequirement().getDirectives().get(BundleNamespace.REQUIREMENT_VISIBILITY_DIRECTIVE))) {
+				continue;
+			}
+			BundleWiring provider = wire.getProviderWiring();
+			if (provider != null && visited.add(provider)) {
+				addPackages(provider.getCapabilities(PackageNamespace.PACKAGE_NAMESPACE), packages);
+				addRequiredPackages(provider, true, packages, visited);
+			}
+		}
+	}
+
+	private static void addPackages(List<BundleCapability> capabilities, Set<String> packages) {
+		if (capabilities == null) {
+			return;
+		}
+		for (BundleCapability capability : capabilities) {
+			Object packageName = capability.getAttributes().get(PackageNamespace.PACKAGE_NAMESPACE);
+			if (packageName instanceof String) {
+				packages.add((String) packageName);
+			}
+		}
+	}
+
+	/**
+	 * Returns the name of the package holding the resource with the given
+	 * path, for example <code>META-INF.services</code> for
+	 * <code>META-INF/services/org.junit.platform.engine.TestEngine</code>
+	 */
+	private static String getResourcePackage(String path) {
+		String name = path.startsWith("/") ? path.substring(1) : path; //$NON-NLS-1$
+		int index = name.lastIndexOf('/');
+		return index < 0 ? "" : name.substring(0, index).replace('/', '.'); //$NON-NLS-1$
+	}
+}
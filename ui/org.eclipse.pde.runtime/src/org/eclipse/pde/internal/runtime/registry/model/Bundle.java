@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,6 @@
 package org.eclipse.pde.internal.runtime.registry.model;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 import org.eclipse.core.runtime.MultiStatus;
@@ -152,19 +151,7 @@ public class Bundle extends ModelObject {
 	public Extension[] getExtensions() {
 		if (model == null)
 			return new Extension[0];
-		ExtensionPoint[] extPoints = model.getExtensionPoints();
-		List<Extension> result = new ArrayList<>();
-
-		for (ExtensionPoint extPoint : extPoints) {
-			for (Iterator<Extension> it = extPoint.getExtensions().iterator(); it.hasNext();) {
-				Extension a = it.next();
-				if (a.getContributorId().longValue() == id){
-					result.add(a);
-				}
-			}
-
-		}
-		return result.toArray(new Extension[result.size()]);
+		return model.getExtensions(id);
 	}
 
 	public ServiceRegistration[] getRegisteredServices() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,15 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.runtime.registry.model;
 
+import java.util.function.Supplier;
+
 public class Extension extends ModelObject {
 
 	private String namespaceIdentifier;
 	private String label;
 	private String extensionPointUniqueIdentifier;
 	private ConfigurationElement[] configurationElements = new ConfigurationElement[0];
+	private Supplier<ConfigurationElement[]> configurationElementsLoader;
 	private Long contributor;
 
 	public void setNamespaceIdentifier(String namespaceIdentifier) {
@@ -33,18 +36,32 @@ public class Extension extends ModelObject {
 		this.extensionPointUniqueIdentifier = extensionPointUniqueIdentifier;
 	}
 
-	public void setConfigurationElements(ConfigurationElement[] configurationElements) {
+	public synchronized void setConfigurationElements(ConfigurationElement[] configurationElements) {
 		if (configurationElements == null)
 			throw new IllegalArgumentException();
 
 		this.configurationElements = configurationElements;
+		this.configurationElementsLoader = null;
+	}
+
+	/**
+	 * Defers the creation of the configuration elements until they are first
+	 * requested.
+	 *
+	 * @param loader creates the configuration elements of this extension
+	 */
+	public synchronized void setConfigurationElementsLoader(Supplier<ConfigurationElement[]> loader) {
+		this.configurationElementsLoader = loader;
 	}
 
 	public void setContributor(Long contributor) {
 		this.contributor = contributor;
 	}
 
-	public ConfigurationElement[] getConfigurationElements() {
+	public synchronized ConfigurationElement[] getConfigurationElements() {
+		if (configurationElementsLoader != null) {
+			setConfigurationElements(configurationElementsLoader.get());
+		}
 		return configurationElements;
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.pde.internal.runtime.registry.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 public class ExtensionPoint extends ModelObject {
 
@@ -23,6 +24,7 @@ public class ExtensionPoint extends ModelObject {
 	private String namespaceIdentifier;
 	private Long contributor;
 	private List<Extension> extensions = new ArrayList<>();
+	private Supplier<Extension[]> extensionsLoader;
 
 	public void setLabel(String label) {
 		this.label = label;
@@ -40,14 +42,60 @@ public class ExtensionPoint extends ModelObject {
 		this.contributor = contributor;
 	}
 
-	public void setExtensions(List<Extension> extensions) {
+	public synchronized void setExtensions(List<Extension> extensions) {
 		this.extensions = extensions;
+		this.extensionsLoader = null;
 	}
 
-	public List<Extension> getExtensions() {
+	/**
+	 * Defers the creation of the extensions until they are first requested.
+	 * The loader is expected to return the extensions the point has at that
+	 * time, so additions and removals reported before are not recorded.
+	 *
+	 * @param loader creates the extensions of this extension point
+	 */
+	public synchronized void setExtensionsLoader(Supplier<Extension[]> loader) {
+		this.extensions = null;
+		this.extensionsLoader = loader;
+	}
+
+	public synchronized List<Extension> getExtensions() {
+		if (extensions == null) {
+			extensions = new ArrayList<>();
+			for (Extension extension : extensionsLoader.get()) {
+				extension.setModel(model);
+				extensions.add(extension);
+			}
+			extensionsLoader = null;
+		}
 		return extensions;
 	}
 
+	/**
+	 * @return whether the extensions of this extension point have been created
+	 */
+	public synchronized boolean isExtensionsLoaded() {
+		return extensions != null;
+	}
+
+	/**
+	 * Records an added extension unless the extensions are still to be loaded
+	 */
+	public synchronized void addExtension(Extension extension) {
+		if (extensions != null) {
+			extensions.add(extension);
+		}
+	}
+
+	/**
+	 * Forgets a removed extension unless the extensions are still to be loaded
+	 */
+	public synchronized void removeExtension(Extension extension) {
+		if (extensions != null) {
+			extensions.remove(extension);
+		}
+	}
+
 	public String getLabel() {
 		return label;
 	}
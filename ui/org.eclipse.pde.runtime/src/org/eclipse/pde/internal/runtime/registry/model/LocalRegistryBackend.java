@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,7 +18,10 @@ package org.eclipse.pde.internal.runtime.registry.model;
 import java.io.IOException;
 import java.net.URL;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
+import org.eclipse.core.runtime.ContributorFactoryOSGi;
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtension;
@@ -27,6 +30,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IRegistryEventListener;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.InvalidRegistryObjectException;
 import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
@@ -126,6 +130,23 @@ public class LocalRegistryBackend implements IRegistryEventListener, BundleListe
 		}
 	}
 
+	@Override
+	public String[] getExtendedExtensionPoints(long id) {
+		org.osgi.framework.Bundle bundle = PDERuntimePlugin.getDefault().getBundleContext().getBundle(id);
+		if (bundle == null)
+			return new String[0];
+
+		Set<String> result = new LinkedHashSet<>();
+		for (IExtension extension : Platform.getExtensionRegistry().getExtensions(ContributorFactoryOSGi.createContributor(bundle))) {
+			try {
+				result.add(extension.getExtensionPointUniqueIdentifier());
+			} catch (InvalidRegistryObjectException e) {
+				// the extension has been removed meanwhile
+			}
+		}
+		return result.toArray(new String[result.size()]);
+	}
+
 	@Override
 	public void initializeExtensionPoints(IProgressMonitor monitor) {
 		if (monitor.isCanceled())
@@ -223,18 +244,25 @@ public class LocalRegistryBackend implements IRegistryEventListener, BundleListe
 		adapter.setExtensionPointUniqueIdentifier(extension.getExtensionPointUniqueIdentifier());
 		adapter.setContributor(getBundleId(extension.getContributor().getName()));
 
-		IConfigurationElement[] elements = extension.getConfigurationElements();
-		if (elements.length > 0) {
-			ConfigurationElement[] configurationElements = new ConfigurationElement[elements.length];
-			for (int i = 0; i < elements.length; i++) {
-				configurationElements[i] = createConfigurationElement(elements[i]);
-			}
-			adapter.setConfigurationElements(configurationElements);
-		}
-
+		adapter.setConfigurationElementsLoader(() -> createConfigurationElements(extension));
 		return adapter;
 	}
 
+	private ConfigurationElement[] createConfigurationElements(IExtension extension) {
+		IConfigurationElement[] elements;
+		try {
+			elements = extension.getConfigurationElements();
+		} catch (InvalidRegistryObjectException e) {
+			// the extension has been removed since its adapter was created
+			return new ConfigurationElement[0];
+		}
+		ConfigurationElement[] configurationElements = new ConfigurationElement[elements.length];
+		for (int i = 0; i < elements.length; i++) {
+			configurationElements[i] = createConfigurationElement(elements[i]);
+		}
+		return configurationElements;
+	}
+
 	private ConfigurationElement createConfigurationElement(IConfigurationElement config) {
 		ConfigurationElement element = new ConfigurationElement();
 		element.setName(createName(config));
@@ -256,8 +284,14 @@ public class LocalRegistryBackend implements IRegistryEventListener, BundleListe
 		adapter.setNamespaceIdentifier(extensionPoint.getNamespaceIdentifier());
 		adapter.setContributor(getBundleId(extensionPoint.getContributor().getName()));
 
-		Extension[] extensions = createExtensionAdapters(extensionPoint.getExtensions());
-		adapter.getExtensions().addAll(Arrays.asList(extensions));
+		adapter.setExtensionsLoader(() -> {
+			try {
+				return createExtensionAdapters(extensionPoint.getExtensions());
+			} catch (InvalidRegistryObjectException e) {
+				// the extension point has been removed since its adapter was created
+				return new Extension[0];
+			}
+		});
 		return adapter;
 	}
 
@@ -288,25 +322,28 @@ public class LocalRegistryBackend implements IRegistryEventListener, BundleListe
 			service.setUsingBundles(usingBundlesIds);
 
 		String[] classes = (String[]) ref.getProperty(org.osgi.framework.Constants.OBJECTCLASS);
-		String[] propertyKeys = ref.getPropertyKeys();
-		Property[] properties = null;
-		if (propertyKeys != null) {
-			properties = new Property[propertyKeys.length];
-			for (int p = 0; p < propertyKeys.length; p++) {
-				String key = propertyKeys[p];
-				Object value = ref.getProperty(key);
-				properties[p] = new Property(key, ServiceRegistration.toString(value));
-			}
-		}
-
 		if (classes != null) {
 			Arrays.sort(classes);
 			service.setName(new ServiceName(classes, ref));
-			service.setProperties(properties);
+			service.setPropertiesLoader(() -> createProperties(ref));
 		}
 		return service;
 	}
 
+	private static Property[] createProperties(ServiceReference<?> ref) {
+		String[] propertyKeys = ref.getPropertyKeys();
+		if (propertyKeys == null) {
+			return new Property[0];
+		}
+		Property[] properties = new Property[propertyKeys.length];
+		for (int p = 0; p < propertyKeys.length; p++) {
+			String key = propertyKeys[p];
+			Object value = ref.getProperty(key);
+			properties[p] = new Property(key, ServiceRegistration.toString(value));
+		}
+		return properties;
+	}
+
 	private static String createLocation(org.osgi.framework.Bundle bundle) {
 		URL bundleEntry = null;
 
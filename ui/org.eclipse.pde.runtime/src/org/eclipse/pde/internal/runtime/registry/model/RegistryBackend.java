@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2009 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -37,4 +37,13 @@ public interface RegistryBackend {
 
 	public void initializeServices(IProgressMonitor monitor);
 
+	/**
+	 * Returns the unique identifiers of the extension points the given bundle
+	 * contributes extensions to
+	 *
+	 * @param id the id of the contributing bundle
+	 * @return the identifiers of the extended extension points
+	 */
+	public String[] getExtendedExtensionPoints(long id);
+
 }
\ No newline at end of file
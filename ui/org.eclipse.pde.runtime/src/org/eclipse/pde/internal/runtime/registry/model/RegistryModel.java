@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,12 +16,14 @@ package org.eclipse.pde.internal.runtime.registry.model;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -39,7 +41,7 @@ public class RegistryModel {
 			adapter.setModel(RegistryModel.this);
 			ModelChangeDelta delta = new ModelChangeDelta(adapter, ModelChangeDelta.ADDED);
 
-			bundles.put(Long.valueOf(adapter.getId()), adapter);
+			putBundle(adapter);
 
 			if (adapter.getFragmentHost() != null) {
 				addFragment(adapter);
@@ -59,7 +61,7 @@ public class RegistryModel {
 		public void removeBundle(Bundle adapter) {
 			ModelChangeDelta delta = new ModelChangeDelta(adapter, ModelChangeDelta.REMOVED);
 
-			bundles.remove(Long.valueOf(adapter.getId()));
+			deleteBundle(adapter);
 
 			if (adapter.getFragmentHost() != null) {
 				removeFragment(adapter);
@@ -81,7 +83,7 @@ public class RegistryModel {
 			adapter.setModel(RegistryModel.this);
 			ModelChangeDelta delta = new ModelChangeDelta(adapter, updated);
 
-			bundles.put(Long.valueOf(adapter.getId()), adapter); // replace old with new one
+			putBundle(adapter); // replace old with new one
 
 			if (adapter.getFragmentHost() != null) {
 				addFragment(adapter);
@@ -103,7 +105,7 @@ public class RegistryModel {
 			}
 
 			adapter.setModel(RegistryModel.this);
-			services.put(Long.valueOf(adapter.getId()), adapter);
+			putService(adapter);
 
 			ModelChangeDelta delta = new ModelChangeDelta(adapter, ModelChangeDelta.ADDED);
 
@@ -122,7 +124,7 @@ public class RegistryModel {
 				serviceNameDelta = new ModelChangeDelta(adapter.getName(), ModelChangeDelta.REMOVED);
 			}
 
-			services.remove(Long.valueOf(adapter.getId()));
+			deleteService(adapter);
 
 			ModelChangeDelta delta = new ModelChangeDelta(adapter, ModelChangeDelta.REMOVED);
 
@@ -139,7 +141,7 @@ public class RegistryModel {
 		@Override
 		public void updateService(ServiceRegistration adapter) {
 			adapter.setModel(RegistryModel.this);
-			services.put(Long.valueOf(adapter.getId()), adapter);
+			putService(adapter);
 
 			ModelChangeDelta delta = new ModelChangeDelta(adapter, ModelChangeDelta.UPDATED);
 
@@ -152,7 +154,7 @@ public class RegistryModel {
 				extension.setModel(RegistryModel.this);
 				String id = extension.getExtensionPointUniqueIdentifier();
 				ExtensionPoint extPoint = extensionPoints.get(id);
-				extPoint.getExtensions().add(extension);
+				extPoint.addExtension(extension);
 			}
 
 			ModelChangeDelta[] delta = new ModelChangeDelta[extensionAdapters.length];
@@ -167,7 +169,7 @@ public class RegistryModel {
 			for (Extension extension : extensionAdapters) {
 				String id = extension.getExtensionPointUniqueIdentifier();
 				ExtensionPoint extPoint = extensionPoints.get(id);
-				extPoint.getExtensions().remove(extension);
+				extPoint.removeExtension(extension);
 			}
 
 			ModelChangeDelta[] delta = new ModelChangeDelta[extensionAdapters.length];
@@ -219,6 +221,9 @@ public class RegistryModel {
 	private final Map<String, ExtensionPoint> extensionPoints;
 	private final Set<ServiceName> serviceNames;
 	private final Map<String, Set<Bundle>> fragments;
+	// indexes guarded by the lock of the map they index
+	private final Map<String, Map<Long, Bundle>> bundlesBySymbolicName = new HashMap<>();
+	private final Map<List<String>, Map<Long, ServiceRegistration>> servicesByClasses = new HashMap<>();
 
 	protected RegistryBackend backend;
 
@@ -233,6 +238,58 @@ public class RegistryModel {
 		backend.setRegistryListener(backendListener);
 	}
 
+	private void putBundle(Bundle bundle) {
+		synchronized (bundles) {
+			Bundle old = bundles.put(Long.valueOf(bundle.getId()), bundle);
+			if (old != null && !Objects.equals(old.getSymbolicName(), bundle.getSymbolicName())) {
+				unindex(bundlesBySymbolicName, old.getSymbolicName(), old.getId());
+			}
+			if (bundle.getSymbolicName() != null) {
+				bundlesBySymbolicName.computeIfAbsent(bundle.getSymbolicName(), n -> new LinkedHashMap<>()).put(Long.valueOf(bundle.getId()), bundle);
+			}
+		}
+	}
+
+	private void deleteBundle(Bundle bundle) {
+		synchronized (bundles) {
+			Bundle old = bundles.remove(Long.valueOf(bundle.getId()));
+			if (old != null) {
+				unindex(bundlesBySymbolicName, old.getSymbolicName(), old.getId());
+			}
+		}
+	}
+
+	private void putService(ServiceRegistration service) {
+		synchronized (services) {
+			ServiceRegistration old = services.put(Long.valueOf(service.getId()), service);
+			if (old != null && old.getName() != null) {
+				unindex(servicesByClasses, Arrays.asList(old.getName().getClasses()), old.getId());
+			}
+			if (service.getName() != null) {
+				servicesByClasses.computeIfAbsent(Arrays.asList(service.getName().getClasses()), c -> new LinkedHashMap<>()).put(Long.valueOf(service.getId()), service);
+			}
+		}
+	}
+
+	private void deleteService(ServiceRegistration service) {
+		synchronized (services) {
+			ServiceRegistration old = services.remove(Long.valueOf(service.getId()));
+			if (old != null && old.getName() != null) {
+				unindex(servicesByClasses, Arrays.asList(old.getName().getClasses()), old.getId());
+			}
+		}
+	}
+
+	private static <K, V> void unindex(Map<K, Map<Long, V>> index, K key, long id) {
+		Map<Long, V> values = index.get(key);
+		if (values != null) {
+			values.remove(Long.valueOf(id));
+			if (values.isEmpty()) {
+				index.remove(key);
+			}
+		}
+	}
+
 	protected void addFragment(Bundle fragment) {
 		Set<Bundle> hostFragments = fragments.get(fragment.getFragmentHost());
 		if (hostFragments == null) {
@@ -291,17 +348,12 @@ public class RegistryModel {
 	}
 
 	public ServiceRegistration[] getServices(String[] classes) {
-		List<ServiceRegistration> result = new ArrayList<>();
-
 		synchronized (services) {
-			for (Iterator<ServiceRegistration> i = services.values().iterator(); i.hasNext();) {
-				ServiceRegistration sr = i.next();
-				if (Arrays.equals(classes, sr.getName().getClasses()))
-					result.add(sr);
-			}
+			Map<Long, ServiceRegistration> result = servicesByClasses.get(Arrays.asList(classes));
+			if (result == null)
+				return new ServiceRegistration[0];
+			return result.values().toArray(new ServiceRegistration[result.size()]);
 		}
-
-		return result.toArray(new ServiceRegistration[result.size()]);
 	}
 
 	public void addModelChangeListener(ModelChangeListener listener) {
@@ -329,10 +381,9 @@ public class RegistryModel {
 
 	public Bundle getBundle(String symbolicName, String versionRange) {
 		synchronized (bundles) {
-			for (Iterator<Bundle> i = bundles.values().iterator(); i.hasNext();) {
-				Bundle bundle = i.next();
-
-				if (bundle.getSymbolicName().equals(symbolicName)) {
+			Map<Long, Bundle> candidates = bundlesBySymbolicName.get(symbolicName);
+			if (candidates != null) {
+				for (Bundle bundle : candidates.values()) {
 					if (versionMatches(bundle.getVersion(), versionRange))
 						return bundle;
 				}
@@ -346,6 +397,29 @@ public class RegistryModel {
 		return extensionPoints.get(extensionPointUniqueIdentifier);
 	}
 
+	/**
+	 * Returns the extensions contributed by the given bundle. Only the
+	 * extension points the bundle extends have their extensions loaded.
+	 *
+	 * @param contributorId the id of the contributing bundle
+	 * @return the extensions of the bundle
+	 */
+	public Extension[] getExtensions(long contributorId) {
+		List<Extension> result = new ArrayList<>();
+		for (String extensionPointId : backend.getExtendedExtensionPoints(contributorId)) {
+			ExtensionPoint extensionPoint = getExtensionPoint(extensionPointId);
+			if (extensionPoint == null)
+				continue;
+
+			for (Extension extension : extensionPoint.getExtensions()) {
+				Long contributor = extension.getContributorId();
+				if (contributor != null && contributor.longValue() == contributorId)
+					result.add(extension);
+			}
+		}
+		return result.toArray(new Extension[result.size()]);
+	}
+
 	public Bundle[] getFragments(Bundle bundle) {
 		Set<Bundle> set = fragments.get(bundle.getSymbolicName());
 		if (set == null)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2008, 2019 IBM Corporation and others.
+ *  Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.pde.internal.runtime.registry.model;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Supplier;
 
 public class ServiceRegistration extends ModelObject implements Comparable<ServiceRegistration> {
 
@@ -24,6 +25,7 @@ public class ServiceRegistration extends ModelObject implements Comparable<Servi
 	private long[] usingBundles = new long[0];
 	private ServiceName name;
 	private Property[] properties = new Property[0];
+	private Supplier<Property[]> propertiesLoader;
 
 	public void setId(long id) {
 		this.id = id;
@@ -47,11 +49,21 @@ public class ServiceRegistration extends ModelObject implements Comparable<Servi
 		this.name = name;
 	}
 
-	public void setProperties(Property[] properties) {
+	public synchronized void setProperties(Property[] properties) {
 		if (properties == null)
 			throw new IllegalArgumentException();
 
 		this.properties = properties;
+		this.propertiesLoader = null;
+	}
+
+	/**
+	 * Defers the creation of the properties until they are first requested.
+	 *
+	 * @param loader creates the properties of this service
+	 */
+	public synchronized void setPropertiesLoader(Supplier<Property[]> loader) {
+		this.propertiesLoader = loader;
 	}
 
 	public long getId() {
@@ -85,12 +97,15 @@ public class ServiceRegistration extends ModelObject implements Comparable<Servi
 		return bundles.toArray(new Bundle[bundles.size()]);
 	}
 
-	public Property[] getProperties() {
+	public synchronized Property[] getProperties() {
+		if (propertiesLoader != null) {
+			setProperties(propertiesLoader.get());
+		}
 		return properties;
 	}
 
 	public Property getProperty(String name) {
-		for (Property property : properties) {
+		for (Property property : getProperties()) {
 			if (name.equals(property.getName())) {
 				return property;
 			}
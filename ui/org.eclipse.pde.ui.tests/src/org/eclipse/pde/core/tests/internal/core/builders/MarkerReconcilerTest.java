@@ -0,0 +1,128 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.core.builders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.internal.core.builders.IncrementalErrorReporter;
+import org.eclipse.pde.internal.core.builders.MarkerReconciler;
+import org.eclipse.pde.internal.core.builders.PDEMarkerFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MarkerReconcilerTest {
+
+	private IFile file;
+
+	@Before
+	public void setup() throws Exception {
+		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(getClass().getName());
+		project.create(null);
+		project.open(null);
+		file = project.getFile("file.txt");
+		file.create(new ByteArrayInputStream(new byte[0]), true, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		file.getProject().delete(true, null);
+	}
+
+	@Test
+	public void testUnchangedMarkersAreKept() throws Exception {
+		IMarker kept = file.createMarker(IMarker.PROBLEM, Map.of(IMarker.MESSAGE, "kept", IMarker.LINE_NUMBER, 1));
+		IMarker resolved = file.createMarker(IMarker.PROBLEM, Map.of(IMarker.MESSAGE, "resolved"));
+
+		MarkerReconciler reconciler = new MarkerReconciler();
+		reconciler.replaceMarkers(file, IMarker.PROBLEM, false, IResource.DEPTH_ZERO);
+		reconciler.addMarker(file, IMarker.PROBLEM, Map.of(IMarker.LINE_NUMBER, 1, IMarker.MESSAGE, "kept"));
+		reconciler.addMarker(file, IMarker.PROBLEM, Map.of(IMarker.MESSAGE, "new"));
+		reconciler.apply();
+
+		assertThat(kept.exists()).isTrue();
+		assertThat(resolved.exists()).isFalse();
+		assertThat(messages(file.findMarkers(IMarker.PROBLEM, false, IResource.DEPTH_ZERO))).containsExactlyInAnyOrder("kept",
+				"new");
+	}
+
+	@Test
+	public void testDuplicateMarkers() throws Exception {
+		file.createMarker(IMarker.PROBLEM, Map.of(IMarker.MESSAGE, "duplicate"));
+
+		MarkerReconciler reconciler = new MarkerReconciler();
+		reconciler.replaceMarkers(file, IMarker.PROBLEM, false, IResource.DEPTH_ZERO);
+		reconciler.addMarker(file, IMarker.PROBLEM, Map.of(IMarker.MESSAGE, "duplicate"));
+		reconciler.addMarker(file, IMarker.PROBLEM, Map.of(IMarker.MESSAGE, "duplicate"));
+		reconciler.apply();
+
+		assertThat(file.findMarkers(IMarker.PROBLEM, false, IResource.DEPTH_ZERO)).hasSize(2);
+	}
+
+	@Test
+	public void testMarkersOutsideScopeAreUntouched() throws Exception {
+		IMarker task = file.createMarker(IMarker.TASK, Map.of(IMarker.MESSAGE, "task"));
+		IMarker replaced = file.createMarker(IMarker.PROBLEM, Map.of(IMarker.MESSAGE, "replaced"));
+		file.createMarker(IMarker.PROBLEM, Map.of(IMarker.MESSAGE, "outside"));
+
+		MarkerReconciler reconciler = new MarkerReconciler();
+		reconciler.replaceMarker(replaced);
+		reconciler.replaceMarkers(file, IMarker.TASK, false, IResource.DEPTH_ZERO);
+		reconciler.addMarker(file, IMarker.TASK, Map.of(IMarker.MESSAGE, "task"));
+		reconciler.apply();
+
+		assertThat(task.exists()).isTrue();
+		assertThat(messages(file.findMarkers(IMarker.PROBLEM, false, IResource.DEPTH_ZERO))).containsExactly("outside");
+	}
+
+	@Test
+	public void testIncrementalErrorReporterKeepsReportedMarkers() throws Exception {
+		IncrementalErrorReporter reporter = new IncrementalErrorReporter(file);
+		reporter.addMarker("kept", 3, IMarker.SEVERITY_ERROR, 0, PDEMarkerFactory.CAT_OTHER);
+		reporter.addMarker("resolved", 4, IMarker.SEVERITY_WARNING, 0, PDEMarkerFactory.CAT_OTHER);
+		reporter.applyMarkers();
+		IMarker[] markers = file.findMarkers(PDEMarkerFactory.MARKER_ID, false, IResource.DEPTH_ZERO);
+		assertThat(markers).hasSize(2);
+
+		reporter = new IncrementalErrorReporter(file);
+		reporter.addMarker("kept", 3, IMarker.SEVERITY_ERROR, 0, PDEMarkerFactory.CAT_OTHER);
+		reporter.applyMarkers();
+
+		IMarker[] updated = file.findMarkers(PDEMarkerFactory.MARKER_ID, false, IResource.DEPTH_ZERO);
+		assertThat(messages(updated)).containsExactly("kept");
+		assertThat(Arrays.stream(markers).filter(IMarker::exists).map(IMarker::getId))
+				.containsExactly(updated[0].getId());
+	}
+
+	private static List<String> messages(IMarker[] markers) {
+		return Arrays.stream(markers).map(marker -> {
+			try {
+				return (String) marker.getAttribute(IMarker.MESSAGE);
+			} catch (CoreException e) {
+				throw new AssertionError(e);
+			}
+		}).toList();
+	}
+}
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.core.builders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.eclipse.pde.core.IBaseModel;
+import org.eclipse.pde.internal.core.builders.CompilerFlags;
+import org.eclipse.pde.internal.core.builders.PDEMarkerFactory;
+import org.eclipse.pde.internal.core.ibundle.IBundle;
+import org.eclipse.pde.internal.core.ibundle.IBundlePluginModelBase;
+import org.eclipse.pde.internal.ui.util.ModelModification;
+import org.eclipse.pde.internal.ui.util.PDEModelUtility;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.Constants;
+
+/**
+ * Tests that the types cached while validating extensions follow changes to
+ * the Java model
+ */
+public class TypeLookupCacheTest {
+
+	private IProject project;
+
+	@Before
+	public void setup() throws Exception {
+		String name = getClass().getName();
+		project = ProjectUtils.createPluginProject(name,
+				JavaRuntime.getExecutionEnvironmentsManager().getEnvironment("JavaSE-17")).getProject();
+		// extensions and extension points are only registered for singletons
+		PDEModelUtility.modifyModel(new ModelModification(project.getFile("META-INF/MANIFEST.MF")) {
+			@Override
+			protected void modifyModel(IBaseModel model, IProgressMonitor monitor) throws CoreException {
+				IBundle bundle = ((IBundlePluginModelBase) model).getBundleModel().getBundle();
+				bundle.setHeader(Constants.BUNDLE_SYMBOLICNAME, name + ";singleton:=true");
+			}
+		}, null);
+		IFolder schemaFolder = project.getFolder("schema");
+		schemaFolder.create(true, true, null);
+		create(schemaFolder.getFile("point.exsd"), """
+				<?xml version='1.0' encoding='UTF-8'?>
+				<schema targetNamespace="%1$s" xmlns="http://www.w3.org/2001/XMLSchema">
+				<annotation><appInfo><meta.schema plugin="%1$s" id="point" name="Point"/></appInfo></annotation>
+				<element name="extension">
+				   <complexType>
+				      <sequence><element ref="run"/></sequence>
+				      <attribute name="point" type="string" use="required"/>
+				      <attribute name="id" type="string"/>
+				      <attribute name="name" type="string"/>
+				   </complexType>
+				</element>
+				<element name="run">
+				   <complexType>
+				      <attribute name="class" type="string" use="required">
+				         <annotation><appInfo><meta.attribute kind="java"/></appInfo></annotation>
+				      </attribute>
+				   </complexType>
+				</element>
+				</schema>
+				""".formatted(name));
+		create(project.getFile("plugin.xml"), """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<?eclipse version="3.4"?>
+				<plugin>
+				   <extension-point id="point" name="Point" schema="schema/point.exsd"/>
+				   <extension point="%1$s.point">
+				      <run class="%1$s.Missing"/>
+				   </extension>
+				</plugin>
+				""".formatted(name));
+		TestUtils.waitForJobs("TypeLookupCacheTest.setup", 100, 10000);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (project.exists()) {
+			project.delete(true, null);
+		}
+	}
+
+	@Test
+	public void testMissingClassErrorGoesAwayOnceCreated() throws Exception {
+		assertThat(findUnknownClassMarkers()).hasSize(1);
+
+		String packageName = getClass().getName();
+		IFolder packageFolder = project.getFolder(ProjectUtils.SRC_FOLDER).getFolder(packageName.replace('.', '/'));
+		create(packageFolder.getFile("Missing.java"), """
+				package %s;
+
+				public class Missing {
+				}
+				""".formatted(packageName));
+
+		assertThat(findUnknownClassMarkers()).isEmpty();
+	}
+
+	private static void create(IFile file, String content) throws CoreException {
+		ByteArrayInputStream stream = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+		if (file.exists()) {
+			file.setContents(stream, true, false, null);
+		} else {
+			file.create(stream, true, null);
+		}
+	}
+
+	private List<IMarker> findUnknownClassMarkers() throws CoreException {
+		project.build(IncrementalProjectBuilder.FULL_BUILD, null);
+		return Arrays.stream(project.getFile("plugin.xml").findMarkers(PDEMarkerFactory.MARKER_ID, false, 0))
+				.filter(m -> CompilerFlags.P_UNKNOWN_CLASS.equals(m.getAttribute(PDEMarkerFactory.compilerKey, null)))
+				.toList();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2023 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,8 @@ package org.eclipse.pde.ui.tests;
 import org.eclipse.pde.core.tests.internal.AllPDECoreTests;
 import org.eclipse.pde.core.tests.internal.classpath.ClasspathResolutionTest;
 import org.eclipse.pde.core.tests.internal.core.builders.BundleErrorReporterTest;
+import org.eclipse.pde.core.tests.internal.core.builders.MarkerReconcilerTest;
+import org.eclipse.pde.core.tests.internal.core.builders.TypeLookupCacheTest;
 import org.eclipse.pde.core.tests.internal.util.PDESchemaHelperTest;
 import org.eclipse.pde.ui.tests.build.properties.AllValidatorTests;
 import org.eclipse.pde.ui.tests.classpathcontributor.ClasspathContributorTest;
@@ -25,15 +27,18 @@ import org.eclipse.pde.ui.tests.ee.ExportBundleTests;
 import org.eclipse.pde.ui.tests.imports.AllImportTests;
 import org.eclipse.pde.ui.tests.launcher.AllLauncherTests;
 import org.eclipse.pde.ui.tests.model.bundle.AllBundleModelTests;
+import org.eclipse.pde.ui.tests.model.schema.AllSchemaModelTests;
 import org.eclipse.pde.ui.tests.model.xml.AllXMLModelTests;
 import org.eclipse.pde.ui.tests.nls.AllNLSTests;
 import org.eclipse.pde.ui.tests.preferences.AllPreferenceTests;
 import org.eclipse.pde.ui.tests.project.BundleRootTests;
 import org.eclipse.pde.ui.tests.project.DynamicPluginProjectReferencesTest;
+import org.eclipse.pde.ui.tests.project.JarDigestTests;
 import org.eclipse.pde.ui.tests.project.PluginRegistryTests;
 import org.eclipse.pde.ui.tests.project.ProjectCreationTests;
 import org.eclipse.pde.ui.tests.runtime.AllPDERuntimeTests;
 import org.eclipse.pde.ui.tests.target.AllTargetTests;
+import org.eclipse.pde.ui.tests.views.dependencies.CalleesListContentProviderTest;
 import org.eclipse.pde.ui.tests.views.log.AllLogViewTests;
 import org.eclipse.pde.ui.tests.wizards.AllNewProjectTests;
 import org.eclipse.ui.tests.smartimport.ProjectSmartImportTest;
@@ -49,15 +54,18 @@ import org.junit.runners.Suite.SuiteClasses;
 	AllImportTests.class, //
 	AllBundleModelTests.class, //
 	AllXMLModelTests.class, //
+	AllSchemaModelTests.class, //
 	AllValidatorTests.class, //
 	AllNLSTests.class, //
 	AllPDERuntimeTests.class, //
 	ExportBundleTests.class, //
 	AllLauncherTests.class, //
 	AllLogViewTests.class, //
+	CalleesListContentProviderTest.class, //
 	ProjectCreationTests.class, //
 	BundleRootTests.class, //
 	PluginRegistryTests.class, //
+	JarDigestTests.class, //
 	ClasspathResolverTest.class, //
 	ClasspathUpdaterTest.class, //
 	PDESchemaHelperTest.class, //
@@ -65,6 +73,8 @@ import org.junit.runners.Suite.SuiteClasses;
 	DynamicPluginProjectReferencesTest.class, //
 	ClasspathResolutionTest.class, //
 	BundleErrorReporterTest.class, //
+	MarkerReconcilerTest.class, //
+	TypeLookupCacheTest.class, //
 	AllPDECoreTests.class, //
 	ProjectSmartImportTest.class, //
 })
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2023 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,8 +23,11 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import org.eclipse.core.resources.IProject;
@@ -121,6 +124,47 @@ public class BaseImportTestCase extends PDETestCase {
 		}
 	}
 
+	@Test
+	public void testImportMultipleSameSourceAsSingle() throws Exception {
+		List<IPluginModelBase> modelsToImport = Stream
+				.of("org.eclipse.jsch.core", "org.eclipse.jdt.debug", "org.eclipse.core.filebuffers").map(name -> {
+					IPluginModelBase model = PluginRegistry.findModel(name);
+					assertNotNull("No model found with name'" + name + "'", model);
+					assertNull("Workspace resource already exists for: " + name, model.getUnderlyingResource());
+					return model;
+				}).toList();
+		// the source of several plug-ins is looked up in parallel
+		runOperation(modelsToImport, importType);
+		Map<String, List<String>> together = new HashMap<>();
+		for (IPluginModelBase model : modelsToImport) {
+			String id = model.getPluginBase().getId();
+			together.put(id, getSourceEntries(id));
+			ResourcesPlugin.getWorkspace().getRoot().getProject(id).delete(true, true, null);
+		}
+		for (IPluginModelBase model : modelsToImport) {
+			String id = model.getPluginBase().getId();
+			runOperation(List.of(model), importType);
+			assertEquals("Different source for " + id, together.get(id), getSourceEntries(id));
+		}
+	}
+
+	/**
+	 * Returns the source folders and source attachments of the classpath of
+	 * the given project
+	 */
+	private static List<String> getSourceEntries(String projectName) throws JavaModelException {
+		IJavaProject jProject = JavaCore.create(ResourcesPlugin.getWorkspace().getRoot().getProject(projectName));
+		List<String> entries = new ArrayList<>();
+		for (IClasspathEntry entry : jProject.getRawClasspath()) {
+			if (entry.getEntryKind() == IClasspathEntry.CPE_SOURCE) {
+				entries.add(entry.getPath().toString());
+			} else if (entry.getEntryKind() == IClasspathEntry.CPE_LIBRARY) {
+				entries.add(entry.getPath() + "=" + entry.getSourceAttachmentPath());
+			}
+		}
+		return entries;
+	}
+
 	protected void doSingleImport(String bundleSymbolicName, boolean isJava) throws Exception {
 		IPluginModelBase modelToImport = PluginRegistry.findModel(bundleSymbolicName);
 		assertNotNull("No model found with name'" + name + "'", modelToImport);
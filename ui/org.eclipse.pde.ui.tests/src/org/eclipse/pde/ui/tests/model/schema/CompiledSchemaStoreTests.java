@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.model.schema;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import org.eclipse.pde.internal.core.schema.CompiledSchemaStore;
+import org.eclipse.pde.internal.core.schema.Schema;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * Tests that a schema read back from its compiled form is the same as the
+ * schema parsed from its source
+ */
+public class CompiledSchemaStoreTests {
+
+	private static final String SCHEMA = "/tests/performance/schema/navigatorContent.exsd"; //$NON-NLS-1$
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File source;
+
+	@Before
+	public void setUp() throws Exception {
+		source = folder.newFile("navigatorContent.exsd"); //$NON-NLS-1$
+		try (InputStream stream = FrameworkUtil.getBundle(CompiledSchemaStoreTests.class).getEntry(SCHEMA).openStream()) {
+			Files.write(source.toPath(), stream.readAllBytes());
+		}
+	}
+
+	private static String write(Schema schema) {
+		StringWriter writer = new StringWriter();
+		try (PrintWriter printWriter = new PrintWriter(writer)) {
+			schema.write("", printWriter); //$NON-NLS-1$
+		}
+		return writer.toString();
+	}
+
+	private void assertRoundTrip(boolean abbreviated) throws Exception {
+		URL url = source.toURI().toURL();
+		Schema parsed = new Schema(null, url, abbreviated);
+		parsed.load();
+		assertTrue("the schema should be parsed", parsed.isLoaded()); //$NON-NLS-1$
+
+		assertFalse("the schema should be compiled the first time", //$NON-NLS-1$
+				CompiledSchemaStore.load(new Schema(null, url, abbreviated)));
+		Schema compiled = new Schema(null, url, abbreviated);
+		assertTrue("the schema should be read from its compiled form", CompiledSchemaStore.load(compiled)); //$NON-NLS-1$
+		assertTrue("the schema should be loaded", compiled.isLoaded()); //$NON-NLS-1$
+		assertEquals("the compiled schema should equal the parsed schema", write(parsed), write(compiled)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		assertRoundTrip(false);
+	}
+
+	@Test
+	public void testRoundTripAbbreviated() throws Exception {
+		assertRoundTrip(true);
+	}
+
+	@Test
+	public void testChangedSourceParsedAgain() throws Exception {
+		URL url = source.toURI().toURL();
+		CompiledSchemaStore.load(new Schema(null, url, false));
+		assertTrue("the schema should be read from its compiled form", //$NON-NLS-1$
+				CompiledSchemaStore.load(new Schema(null, url, false)));
+		Files.write(source.toPath(), "\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND); //$NON-NLS-1$
+		assertFalse("a changed schema should be parsed again", //$NON-NLS-1$
+				CompiledSchemaStore.load(new Schema(null, url, false)));
+	}
+}
@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.project;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.internal.core.bnd.JarDigest;
+import org.eclipse.pde.internal.core.natures.BndProject;
+import org.eclipse.pde.internal.core.project.PDEProject;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import aQute.bnd.osgi.EmbeddedResource;
+import aQute.bnd.osgi.Jar;
+
+/**
+ * Tests that a jar built by the bnd builder is only written again when its
+ * content changed or its project was cleaned
+ */
+public class JarDigestTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private IProject project;
+
+	@Before
+	public void setUp() throws Exception {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject("jardigest"); //$NON-NLS-1$
+		project.create(null);
+		project.open(null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		project.delete(true, true, null);
+	}
+
+	private static Jar jar(String content) {
+		Jar jar = new Jar("sub"); //$NON-NLS-1$
+		jar.putResource("a/b/c.txt", new EmbeddedResource(content.getBytes(StandardCharsets.UTF_8), 0)); //$NON-NLS-1$
+		return jar;
+	}
+
+	/**
+	 * Writes the jar if no jar with the same digest was written to the file
+	 *
+	 * @return whether the jar was written
+	 */
+	private boolean write(Jar jar, File file) throws Exception {
+		JarDigest digest = JarDigest.of(jar);
+		if (JarDigest.isWritten(project, file, digest)) {
+			return false;
+		}
+		jar.write(file);
+		JarDigest.written(project, file, digest);
+		return true;
+	}
+
+	@Test
+	public void testSkipUnchanged() throws Exception {
+		File file = new File(folder.getRoot(), "sub.jar"); //$NON-NLS-1$
+		assertTrue("the jar should be written the first time", write(jar("one"), file)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertFalse("an unchanged jar should not be written", write(jar("one"), file)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue("a changed jar should be written", write(jar("two"), file)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertFalse("an unchanged jar should not be written", write(jar("two"), file)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testWrittenAfterClean() throws Exception {
+		File file = new File(folder.getRoot(), "sub.jar"); //$NON-NLS-1$
+		assertTrue("the jar should be written the first time", write(jar("one"), file)); //$NON-NLS-1$ //$NON-NLS-2$
+		JarDigest.forget(project);
+		assertTrue("the jar should be written after a clean", write(jar("one"), file)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testWrittenAfterDelete() throws Exception {
+		File file = new File(folder.getRoot(), "sub.jar"); //$NON-NLS-1$
+		assertTrue("the jar should be written the first time", write(jar("one"), file)); //$NON-NLS-1$ //$NON-NLS-2$
+		project.delete(true, true, null);
+		project.create(null);
+		project.open(null);
+		assertTrue("the jar should be written after the project was deleted", write(jar("one"), file)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testWrittenAfterExternalChange() throws Exception {
+		File file = new File(folder.getRoot(), "sub.jar"); //$NON-NLS-1$
+		assertTrue("the jar should be written the first time", write(jar("one"), file)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue("the jar should be deleted", file.delete()); //$NON-NLS-1$
+		assertTrue("a deleted jar should be written", write(jar("one"), file)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static InputStream stream(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Touches the bnd instructions of the project so that the bnd builder runs
+	 * again, builds the project and waits for the build to finish
+	 */
+	private static void build(IProject bndProject) throws CoreException {
+		bndProject.getFile(BndProject.INSTRUCTIONS_FILE).touch(null);
+		bndProject.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
+		TestUtils.waitForJobs("JarDigestTests.build", 100, 10000); //$NON-NLS-1$
+	}
+
+	private static Path findJar(IProject bndProject) throws Exception {
+		try (Stream<Path> files = Files.walk(bndProject.getLocation().toFile().toPath())) {
+			List<Path> jars = files.filter(file -> file.getFileName().toString().endsWith(".jar")).toList(); //$NON-NLS-1$
+			assertEquals("the sub bundle jar should be built", 1, jars.size()); //$NON-NLS-1$
+			return jars.get(0);
+		}
+	}
+
+	private static String readSubContent(Path jar) throws Exception {
+		try (JarFile jarFile = new JarFile(jar.toFile()); InputStream stream = jarFile.getInputStream(jarFile.getEntry("sub.txt"))) { //$NON-NLS-1$
+			return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	@Test
+	public void testUnchangedBuildOutputNotWritten() throws Exception {
+		IProject bndProject = ProjectUtils.createBndProject("jardigest.bnd").getProject(); //$NON-NLS-1$
+		try {
+			bndProject.getFile(BndProject.INSTRUCTIONS_FILE).appendContents(stream("\n-sub: sub.bnd\n"), true, false, null); //$NON-NLS-1$
+			bndProject.getFile("sub.txt").create(stream("one"), true, null); //$NON-NLS-1$ //$NON-NLS-2$
+			bndProject.getFile("sub.bnd").create(stream("Bundle-SymbolicName: jardigest.sub\n-includeresource: sub.txt\n"), true, null); //$NON-NLS-1$ //$NON-NLS-2$
+			// the first build of the project is a full Java build that cleans
+			// the output folder, so only compare the builds that follow it
+			build(bndProject);
+			build(bndProject);
+			IFile manifest = PDEProject.getManifest(bndProject);
+			assertTrue("the manifest should be generated", manifest.exists()); //$NON-NLS-1$
+			Path jar = findJar(bndProject);
+			assertEquals("one", readSubContent(jar)); //$NON-NLS-1$
+			long manifestStamp = manifest.getModificationStamp();
+			FileTime jarTime = Files.getLastModifiedTime(jar);
+
+			build(bndProject);
+			assertEquals("an unchanged manifest should not be written", manifestStamp, manifest.getModificationStamp()); //$NON-NLS-1$
+			assertEquals("an unchanged jar should not be written", jarTime, Files.getLastModifiedTime(jar)); //$NON-NLS-1$
+
+			bndProject.getFile("sub.txt").setContents(stream("two"), true, false, null); //$NON-NLS-1$ //$NON-NLS-2$
+			build(bndProject);
+			assertEquals("a changed jar should be written", "two", readSubContent(jar)); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEquals("an unchanged manifest should not be written", manifestStamp, manifest.getModificationStamp()); //$NON-NLS-1$
+		} finally {
+			bndProject.delete(true, true, null);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2023 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,19 +17,35 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IExtension;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.osgi.service.resolver.VersionRange;
 import org.eclipse.pde.core.plugin.IMatchRules;
+import org.eclipse.pde.core.plugin.IPluginAttribute;
+import org.eclipse.pde.core.plugin.IPluginElement;
+import org.eclipse.pde.core.plugin.IPluginExtension;
+import org.eclipse.pde.core.plugin.IPluginObject;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.core.plugin.VersionMatchRule;
 import org.eclipse.pde.core.project.IBundleProjectDescription;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEExtensionRegistry;
+import org.eclipse.pde.internal.core.project.PDEProject;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
 import org.junit.Test;
 import org.osgi.framework.FrameworkUtil;
 import org.osgi.framework.Version;
@@ -48,6 +64,27 @@ public class PluginRegistryTests {
 		assertEquals("org.eclipse.jdt.debug", model.getPluginBase().getId());
 	}
 
+	@Test
+	public void testTargetExtensionElementsMatchRegistry() {
+		IPluginModelBase model = PluginRegistry.findModel("org.eclipse.jdt.debug", null, (VersionMatchRule) null);
+		assertNotNull(model);
+		List<String> expected = new ArrayList<>();
+		for (IExtension extension : Platform.getExtensionRegistry().getExtensions("org.eclipse.jdt.debug")) {
+			for (IConfigurationElement element : extension.getConfigurationElements()) {
+				expected.add(extension.getExtensionPointUniqueIdentifier() + '/' + element.getName());
+			}
+		}
+		List<String> actual = new ArrayList<>();
+		for (IPluginExtension extension : model.getPluginBase().getExtensions()) {
+			// the elements of a target model are created from the registry
+			for (IPluginObject element : extension.getChildren()) {
+				actual.add(extension.getPoint() + '/' + element.getName());
+			}
+		}
+		assertEquals(expected.size(), actual.size());
+		assertEquals(expected.stream().sorted().toList(), actual.stream().sorted().toList());
+	}
+
 	@Test
 	public void testMatchGreaterOrEqual() {
 		IPluginModelBase model = PluginRegistry.findModel("org.eclipse.jdt.debug", "3.0.0",
@@ -163,6 +200,124 @@ public class PluginRegistryTests {
 		}
 	}
 
+	private static final String REGISTRY_PLUGIN = "org.eclipse.pde.ui.tests.registry";
+	private static final String DECLARED_POINT = REGISTRY_PLUGIN + ".declared";
+	private static final String UNDECLARED_POINT = REGISTRY_PLUGIN + ".undeclared";
+
+	private static String pluginXml(String item) {
+		return """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<?eclipse version="3.4"?>
+				<plugin>
+				   <extension-point id="declared" name="Declared"/>
+				   <extension point="%s"><item name="%s"/></extension>
+				   <extension point="%s"><item name="%s"/></extension>
+				</plugin>
+				""".formatted(DECLARED_POINT, item, UNDECLARED_POINT, item);
+	}
+
+	/**
+	 * Returns a registry created from the current plug-in models, without any
+	 * index built up by earlier changes
+	 */
+	private static PDEExtensionRegistry createFreshRegistry() {
+		IPluginModelBase[] models = Stream
+				.concat(Stream.of(PluginRegistry.getWorkspaceModels()), Stream.of(PluginRegistry.getExternalModels()))
+				.toArray(IPluginModelBase[]::new);
+		return new PDEExtensionRegistry(models);
+	}
+
+	private static List<String> describe(IExtension[] extensions) {
+		List<String> result = new ArrayList<>();
+		for (IExtension extension : extensions) {
+			for (IConfigurationElement element : extension.getConfigurationElements()) {
+				result.add(extension.getContributor().getName() + '/' + extension.getExtensionPointUniqueIdentifier()
+						+ '/' + element.getAttribute("name"));
+			}
+		}
+		return result.stream().sorted().toList();
+	}
+
+	private static List<String> describe(IPluginExtension[] extensions) {
+		List<String> result = new ArrayList<>();
+		for (IPluginExtension extension : extensions) {
+			for (IPluginObject child : extension.getChildren()) {
+				IPluginAttribute name = ((IPluginElement) child).getAttribute("name");
+				result.add(extension.getPoint() + '/' + (name == null ? null : name.getValue()));
+			}
+		}
+		return result.stream().sorted().toList();
+	}
+
+	/**
+	 * Asserts that the PDE extension registry finds the given items of the
+	 * test plug-in and the same extensions as a fresh registry
+	 */
+	private static void assertRegistryInSync(String... items) {
+		PDEExtensionRegistry registry = PDECore.getDefault().getExtensionsRegistry();
+		PDEExtensionRegistry fresh = createFreshRegistry();
+		try {
+			List<String> expected = Stream.of(items).map(item -> REGISTRY_PLUGIN + '/' + UNDECLARED_POINT + '/' + item)
+					.toList();
+			assertEquals(expected, describe(registry.findExtensions(UNDECLARED_POINT, true)));
+			assertEquals(expected, describe(registry.findExtensions(UNDECLARED_POINT, false)));
+			for (boolean activeOnly : new boolean[] { true, false }) {
+				assertEquals(describe(fresh.findExtensions(UNDECLARED_POINT, activeOnly)),
+						describe(registry.findExtensions(UNDECLARED_POINT, activeOnly)));
+				assertEquals(describe(fresh.findExtensions(DECLARED_POINT, activeOnly)),
+						describe(registry.findExtensions(DECLARED_POINT, activeOnly)));
+			}
+			IPluginModelBase model = PluginRegistry.findModel(REGISTRY_PLUGIN);
+			if (model != null) {
+				assertEquals(describe(fresh.findExtensionsForPlugin(model)),
+						describe(registry.findExtensionsForPlugin(model)));
+				assertEquals(List.of(model), List.of(registry.findExtensionPlugins(DECLARED_POINT, true)));
+				assertEquals(model, registry.findExtensionPointPlugin(DECLARED_POINT));
+			} else {
+				assertNull(registry.findExtensionPointPlugin(DECLARED_POINT));
+			}
+		} finally {
+			fresh.dispose();
+		}
+	}
+
+	private static void waitForRegistry() {
+		waitForBuild();
+		TestUtils.waitForJobs("PluginRegistryTests.waitForRegistry", 100, 10000);
+	}
+
+	@Test
+	public void testExtensionRegistryFollowsWorkspacePluginChanges() throws CoreException {
+		// build up the index of the registry before the plug-in exists
+		assertRegistryInSync();
+		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(REGISTRY_PLUGIN);
+		try {
+			project.create(null);
+			project.open(null);
+			IFile pluginXml = PDEProject.getPluginXml(project);
+			pluginXml.create(new ByteArrayInputStream(pluginXml("one").getBytes(StandardCharsets.UTF_8)), true, null);
+			IBundleProjectDescription description = ProjectCreationTests.getBundleProjectService()
+					.getDescription(project);
+			description.setSymbolicName(REGISTRY_PLUGIN);
+			description.setSingleton(true);
+			description.setBundleVersion(new Version("1.0.0"));
+			description.apply(null);
+			waitForRegistry();
+			assertRegistryInSync("one");
+
+			pluginXml.setContents(new ByteArrayInputStream(pluginXml("two").getBytes(StandardCharsets.UTF_8)), true,
+					false, null);
+			waitForRegistry();
+			assertRegistryInSync("two");
+		} finally {
+			if (project.exists()) {
+				project.delete(true, null);
+				waitForRegistry();
+			}
+		}
+		assertRegistryInSync();
+	}
+
 	@Test
 	public void testMatchEquivalent() {
 		Version testsVersion = FrameworkUtil.getBundle(PluginRegistryTests.class).getVersion();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,10 +14,15 @@
 package org.eclipse.pde.ui.tests.runtime;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.net.URISyntaxException;
 import java.util.EventListener;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.eclipse.core.runtime.IExtension;
 import org.eclipse.core.runtime.IExtensionPoint;
@@ -37,6 +42,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.osgi.framework.BundleEvent;
 import org.osgi.framework.BundleListener;
+import org.osgi.framework.Constants;
 import org.osgi.framework.FrameworkUtil;
 import org.osgi.framework.ServiceEvent;
 import org.osgi.framework.ServiceListener;
@@ -330,4 +336,67 @@ public abstract class AbstractRegistryModelTest implements ModelChangeListener {
 		assertEquals(testExtPoint.getUniqueIdentifier(), modelObject.getUniqueIdentifier());
 		assertEquals(ModelChangeDelta.REMOVED, deltas[0].getFlag());
 	}
+
+	@Test
+	public void testBundleLookupBySymbolicName() {
+		mockFramework.createBundleEvent(BundleEvent.INSTALLED, testBundle);
+
+		Bundle bundle = model.getBundle(testBundle.getSymbolicName(), null);
+		assertNotNull(bundle);
+		assertEquals(testBundle.getBundleId(), bundle.getId());
+
+		mockFramework.createBundleEvent(BundleEvent.UNINSTALLED, testBundle);
+
+		assertNull(model.getBundle(testBundle.getSymbolicName(), null));
+	}
+
+	@Test
+	public void testServiceLookupByClasses() {
+		mockFramework.createServiceEvent(ServiceEvent.REGISTERED, testServiceReference);
+
+		ServiceRegistration[] services = model.getServices(new String[] {getClass().getName()});
+		assertEquals(1, services.length);
+		assertNotNull(services[0].getProperty(Constants.OBJECTCLASS));
+
+		mockFramework.createServiceEvent(ServiceEvent.UNREGISTERING, testServiceReference);
+
+		assertEquals(0, model.getServices(new String[] {getClass().getName()}).length);
+	}
+
+	@Test
+	public void testExtensionPointExtensions() {
+		mockFramework.createRegistryAddedEvent(new IExtensionPoint[] {testExtPoint});
+
+		ExtensionPoint extensionPoint = model.getExtensionPoint(TEST_EXT_POINT);
+		assertNotNull(extensionPoint);
+		assertEquals(testExtPoint.getExtensions().length, extensionPoint.getExtensions().size());
+		Extension extension = extensionPoint.getExtensions().get(0);
+		assertEquals(testExtPoint.getExtensions()[0].getConfigurationElements().length, extension.getConfigurationElements().length);
+	}
+
+	/**
+	 * Verifies that listing the extensions of a bundle, as expanding it in the
+	 * registry browser does, only loads the extension points it extends
+	 */
+	@Test
+	public void testBundleExtensionsLoadOnlyExtendedPoints() {
+		model.initialize(new NullProgressMonitor());
+
+		Bundle bundle = model.getBundle(TEST_EXT_POINT_BUNDLE, null);
+		assertNotNull(bundle);
+		Extension[] extensions = bundle.getExtensions();
+		assertTrue(extensions.length > 0);
+
+		Set<String> extended = new HashSet<>();
+		for (Extension extension : extensions) {
+			assertEquals(bundle.getId(), extension.getContributorId().longValue());
+			extended.add(extension.getExtensionPointUniqueIdentifier());
+		}
+		for (ExtensionPoint extensionPoint : model.getExtensionPoints()) {
+			if (!extended.contains(extensionPoint.getUniqueIdentifier())) {
+				assertFalse(extensionPoint.getUniqueIdentifier() + " should not be loaded",
+						extensionPoint.isExtensionsLoaded());
+			}
+		}
+	}
 }
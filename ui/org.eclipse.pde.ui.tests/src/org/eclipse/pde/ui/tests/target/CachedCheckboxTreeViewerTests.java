@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.target;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.pde.internal.ui.shared.CachedCheckboxTreeViewer;
+import org.eclipse.pde.internal.ui.shared.FilteredCheckboxTree;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the check state set on a {@link CachedCheckboxTreeViewer} reaches
+ * elements in nested groups and under collapsed parents, and that the parents
+ * are checked or grayed from their children
+ */
+public class CachedCheckboxTreeViewerTests {
+
+	/**
+	 * a: a1, a2 <br>
+	 * b: b1, c <br>
+	 * c: c1, c2
+	 */
+	private static final Map<String, List<String>> CHILDREN = Map.of( //
+			"a", List.of("a1", "a2"), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			"b", List.of("b1", "c"), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			"c", List.of("c1", "c2")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	private static class GroupContentProvider implements ITreeContentProvider {
+
+		@Override
+		public Object[] getElements(Object inputElement) {
+			return new Object[] { "a", "b" }; //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
+		@Override
+		public Object[] getChildren(Object parentElement) {
+			return CHILDREN.getOrDefault(parentElement, List.of()).toArray();
+		}
+
+		@Override
+		public Object getParent(Object element) {
+			for (Map.Entry<String, List<String>> entry : CHILDREN.entrySet()) {
+				if (entry.getValue().contains(element)) {
+					return entry.getKey();
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public boolean hasChildren(Object element) {
+			return CHILDREN.containsKey(element);
+		}
+	}
+
+	private Shell shell;
+	private CachedCheckboxTreeViewer viewer;
+
+	@Before
+	public void setUp() {
+		shell = new Shell(Display.getDefault());
+		FilteredCheckboxTree tree = new FilteredCheckboxTree(shell, null);
+		viewer = tree.getCheckboxTreeViewer();
+		viewer.setContentProvider(new GroupContentProvider());
+		viewer.setInput(CHILDREN);
+		viewer.collapseAll();
+	}
+
+	@After
+	public void tearDown() {
+		shell.dispose();
+	}
+
+	private void assertChecked(String element) {
+		assertTrue(element + " is not checked", viewer.getChecked(element)); //$NON-NLS-1$
+		assertFalse(element + " is grayed", viewer.getGrayed(element)); //$NON-NLS-1$
+	}
+
+	private void assertGrayed(String element) {
+		assertTrue(element + " is not checked", viewer.getChecked(element)); //$NON-NLS-1$
+		assertTrue(element + " is not grayed", viewer.getGrayed(element)); //$NON-NLS-1$
+	}
+
+	private void assertUnchecked(String element) {
+		assertFalse(element + " is checked", viewer.getChecked(element)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testSetCheckedElementsUnderCollapsedParents() {
+		viewer.setCheckedElements(new Object[] { "a1", "c1" }); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertChecked("a1"); //$NON-NLS-1$
+		assertUnchecked("a2"); //$NON-NLS-1$
+		assertGrayed("a"); //$NON-NLS-1$
+		assertChecked("c1"); //$NON-NLS-1$
+		assertUnchecked("c2"); //$NON-NLS-1$
+		assertGrayed("c"); //$NON-NLS-1$
+		assertGrayed("b"); //$NON-NLS-1$
+		assertEquals(2, viewer.getCheckedLeafCount());
+	}
+
+	@Test
+	public void testSetCheckedElementsNestedGroup() {
+		viewer.expandAll();
+		viewer.setCheckedElements(new Object[] { "b" }); //$NON-NLS-1$
+
+		assertChecked("b"); //$NON-NLS-1$
+		assertChecked("b1"); //$NON-NLS-1$
+		assertChecked("c"); //$NON-NLS-1$
+		assertChecked("c1"); //$NON-NLS-1$
+		assertChecked("c2"); //$NON-NLS-1$
+		assertUnchecked("a"); //$NON-NLS-1$
+		assertUnchecked("a1"); //$NON-NLS-1$
+
+		viewer.setCheckedElements(new Object[] { "c", "a2" }); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertGrayed("b"); //$NON-NLS-1$
+		assertUnchecked("b1"); //$NON-NLS-1$
+		assertChecked("c"); //$NON-NLS-1$
+		assertChecked("c1"); //$NON-NLS-1$
+		assertGrayed("a"); //$NON-NLS-1$
+		assertChecked("a2"); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testSetElementsCheckedUnderCollapsedParents() {
+		viewer.setElementsChecked(new Object[] { "a1", "c1" }, true); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertChecked("a1"); //$NON-NLS-1$
+		assertGrayed("a"); //$NON-NLS-1$
+		assertChecked("c1"); //$NON-NLS-1$
+		assertGrayed("c"); //$NON-NLS-1$
+		assertGrayed("b"); //$NON-NLS-1$
+
+		viewer.setElementsChecked(new Object[] { "a2", "c2" }, true); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertChecked("a"); //$NON-NLS-1$
+		assertChecked("c"); //$NON-NLS-1$
+		assertGrayed("b"); //$NON-NLS-1$
+		assertEquals(4, viewer.getCheckedLeafCount());
+
+		viewer.setElementsChecked(new Object[] { "c" }, false); //$NON-NLS-1$
+
+		assertUnchecked("c"); //$NON-NLS-1$
+		assertUnchecked("c1"); //$NON-NLS-1$
+		assertUnchecked("c2"); //$NON-NLS-1$
+		assertUnchecked("b"); //$NON-NLS-1$
+		assertChecked("a"); //$NON-NLS-1$
+		assertEquals(2, viewer.getCheckedLeafCount());
+	}
+
+	@Test
+	public void testSetElementsCheckedNestedGroup() {
+		viewer.expandAll();
+		viewer.setElementsChecked(new Object[] { "b" }, true); //$NON-NLS-1$
+
+		assertChecked("b"); //$NON-NLS-1$
+		assertChecked("b1"); //$NON-NLS-1$
+		assertChecked("c"); //$NON-NLS-1$
+		assertChecked("c1"); //$NON-NLS-1$
+		assertChecked("c2"); //$NON-NLS-1$
+		assertUnchecked("a"); //$NON-NLS-1$
+		assertEquals(3, viewer.getCheckedLeafCount());
+
+		viewer.setElementsChecked(new Object[] { "c1" }, false); //$NON-NLS-1$
+
+		assertUnchecked("c1"); //$NON-NLS-1$
+		assertGrayed("c"); //$NON-NLS-1$
+		assertGrayed("b"); //$NON-NLS-1$
+		assertEquals(2, viewer.getCheckedLeafCount());
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2022 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -49,6 +49,7 @@ import org.eclipse.pde.internal.core.ifeature.IFeatureChild;
 import org.eclipse.pde.internal.core.ifeature.IFeatureImport;
 import org.eclipse.pde.internal.core.ifeature.IFeatureModelFactory;
 import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
+import org.eclipse.pde.internal.ui.PDEUIMessages;
 import org.eclipse.pde.internal.ui.wizards.IProjectProvider;
 import org.eclipse.pde.internal.ui.wizards.feature.AbstractCreateFeatureOperation;
 import org.eclipse.pde.internal.ui.wizards.feature.FeatureData;
@@ -132,6 +133,30 @@ public class ProjectUtils {
 	 * @return a new plugin project
 	 */
 	public static IJavaProject createPluginProject(String projectName, IExecutionEnvironment env) throws Exception {
+		PluginFieldData data = createFieldData(projectName);
+		if (env != null) {
+			data.setExecutionEnvironment(env.getId());
+		}
+		data.setDoGenerateClass(true);
+		data.setClassname(projectName + ".Activator");
+		return createProject(projectName, data);
+	}
+
+	/**
+	 * Create a plugin project with the given name whose manifest is generated
+	 * by bnd from its <code>pde.bnd</code> instructions.
+	 *
+	 * @return a new bnd plugin project
+	 */
+	public static IJavaProject createBndProject(String projectName) throws Exception {
+		PluginFieldData data = createFieldData(projectName);
+		data.setOSGiFramework(PDEUIMessages.NewProjectCreationPage_standard);
+		data.setAutomaticMetadataGeneration(true);
+		data.setDoGenerateClass(false);
+		return createProject(projectName, data);
+	}
+
+	private static PluginFieldData createFieldData(String projectName) {
 		PluginFieldData data = new PluginFieldData();
 		data.setName(projectName);
 		data.setId(projectName);
@@ -144,14 +169,13 @@ public class ProjectUtils {
 		data.setTargetVersion("3.5");
 		data.setOutputFolderName(BIN_FOLDER);
 		data.setSourceFolderName(SRC_FOLDER);
-		if (env != null) {
-			data.setExecutionEnvironment(env.getId());
-		}
-		data.setDoGenerateClass(true);
-		data.setClassname(projectName + ".Activator");
 		data.setEnableAPITooling(false);
 		data.setRCPApplicationPlugin(false);
 		data.setUIPlugin(false);
+		return data;
+	}
+
+	private static IJavaProject createProject(String projectName, PluginFieldData data) throws Exception {
 		IProjectProvider provider = new TestProjectProvider(projectName);
 		IBundleContentWizard wizard = new TestBundleWizard();
 		NewProjectCreationOperation operation = new NewProjectCreationOperation(data, provider, wizard);
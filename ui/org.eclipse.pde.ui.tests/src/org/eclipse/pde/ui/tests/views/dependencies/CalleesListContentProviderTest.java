@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.views.dependencies;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.stream.Stream;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.ui.views.dependencies.CalleesListContentProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the cached dependencies shown by the callees list of the Plug-in
+ * Dependencies view match a walk of the dependencies
+ */
+public class CalleesListContentProviderTest {
+
+	private CalleesListContentProvider provider;
+
+	@Before
+	public void setUp() {
+		provider = new CalleesListContentProvider(null);
+	}
+
+	@After
+	public void tearDown() {
+		provider.dispose();
+	}
+
+	private void assertCachedMatchesWalk(IPluginModelBase model) {
+		for (boolean showOptional : new boolean[] { false, true }) {
+			provider.setShowOptional(showOptional);
+			Object[] computed = provider.getElements(model);
+			Object[] cached = provider.getElements(model);
+			assertArrayEquals(model.getPluginBase().getId(), computed, cached);
+			assertArrayEquals(model.getPluginBase().getId(), provider.findAllCallees(model), cached);
+		}
+	}
+
+	@Test
+	public void testCachedCalleesMatchWalk() {
+		IPluginModelBase model = PluginRegistry.findModel("org.eclipse.pde.ui"); //$NON-NLS-1$
+		assertNotNull(model);
+		assertTrue(provider.getElements(model).length > 0);
+		assertCachedMatchesWalk(model);
+	}
+
+	@Test
+	public void testCachedCalleesOfFragmentAndHostMatchWalk() {
+		IPluginModelBase fragment = Stream.of(PluginRegistry.getActiveModels()).filter(IPluginModelBase::isFragmentModel)
+				.filter(m -> m.getBundleDescription() != null && m.getBundleDescription().getHost() != null
+						&& m.getBundleDescription().getHost().getSupplier() instanceof BundleDescription)
+				.findFirst().orElse(null);
+		assertNotNull("the target should contain a resolved fragment", fragment); //$NON-NLS-1$
+		BundleDescription hostDesc = (BundleDescription) fragment.getBundleDescription().getHost().getSupplier();
+		IPluginModelBase host = PluginRegistry.findModel(hostDesc);
+		assertNotNull(host);
+
+		// fill the cache for the host, then use the provider for the fragment
+		// so the host is listed from the cache after a fragment was walked
+		assertCachedMatchesWalk(host);
+		assertCachedMatchesWalk(fragment);
+		assertCachedMatchesWalk(host);
+	}
+}
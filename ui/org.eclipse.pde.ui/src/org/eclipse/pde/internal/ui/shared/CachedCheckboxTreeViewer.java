@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2015 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,14 +13,20 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.ui.shared;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.jface.viewers.CheckboxTreeViewer;
 import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.swt.widgets.Widget;
 import org.eclipse.ui.dialogs.ContainerCheckedTreeViewer;
 
 /**
@@ -32,6 +38,11 @@ import org.eclipse.ui.dialogs.ContainerCheckedTreeViewer;
  * state from the cache.  This viewer updates the check state of
  * parent items the same way as {@link CachedCheckboxTreeViewer}
  * <p>
+ * Unlike {@link ContainerCheckedTreeViewer}, setting the check state of many
+ * elements at once updates each parent item only once rather than once per
+ * checked child, so large groups can be checked quickly.
+ * </p>
+ * <p>
  * Note: If duplicate items are added to the tree the cache will treat them
  * as a single entry.
  * </p>
@@ -90,16 +101,13 @@ public class CachedCheckboxTreeViewer extends ContainerCheckedTreeViewer {
 			return;
 
 		getTree().setRedraw(false);
-		// Call the super class so we don't mess up the cache
-		super.setCheckedElements(NO_ELEMENTS);
-		setGrayedElements(NO_ELEMENTS);
 		// The elements must be expanded to modify their check state
 		if (!checkState.isEmpty()) {
 			expandAll();
 		}
 		// Now we are only going to set the check state of the leaf nodes
-		// and rely on our container checked code to update the parents properly.
-		super.setCheckedElements(checkState.toArray());
+		// and let the parents be updated from their children, without touching the cache.
+		applyCheckState(checkState);
 		getTree().setRedraw(true);
 	}
 
@@ -159,6 +167,42 @@ public class CachedCheckboxTreeViewer extends ContainerCheckedTreeViewer {
 		return super.setChecked(element, state);
 	}
 
+	/**
+	 * Sets the check state of the given elements and updates the check state of
+	 * their parents once, rather than once per element as
+	 * {@link #setChecked(Object, boolean)} would.
+	 *
+	 * @param elements elements to check or uncheck
+	 * @param state <code>true</code> to check the elements, <code>false</code> to uncheck them
+	 */
+	public void setElementsChecked(Object[] elements, boolean state) {
+		Set<TreeItem> parents = new LinkedHashSet<>();
+		getTree().setRedraw(false);
+		try {
+			for (Object element : elements) {
+				updateCheckState(element, state);
+				Widget widget = internalExpand(element, false);
+				if (widget instanceof TreeItem item) {
+					item.setChecked(state);
+					item.setGrayed(false);
+					updateChildItems(item, state);
+					TreeItem parent = item.getParentItem();
+					while (parent != null && parents.add(parent)) {
+						parent = parent.getParentItem();
+					}
+				}
+			}
+			// Update the deepest parents first so their own parents see their new state
+			List<TreeItem> sorted = new ArrayList<>(parents);
+			sorted.sort((item1, item2) -> Integer.compare(getDepth(item2), getDepth(item1)));
+			for (TreeItem parent : sorted) {
+				updateParentItem(parent);
+			}
+		} finally {
+			getTree().setRedraw(true);
+		}
+	}
+
 	@Override
 	public void setCheckedElements(Object[] elements) {
 
@@ -180,7 +224,83 @@ public class CachedCheckboxTreeViewer extends ContainerCheckedTreeViewer {
 				}
 			}
 		}
-		super.setCheckedElements(elements);
+		getTree().setRedraw(false);
+		try {
+			// Create the items of collapsed parents so the elements can be checked
+			for (Object element : elements) {
+				internalExpand(element, false);
+			}
+			applyCheckState(new HashSet<>(Arrays.asList(elements)));
+		} finally {
+			getTree().setRedraw(true);
+		}
+	}
+
+	/**
+	 * Checks the items of the given elements and their children, unchecks all
+	 * other items and updates the parent items from their children in a single
+	 * pass over the tree.
+	 *
+	 * @param elements the elements to check
+	 */
+	private void applyCheckState(Set<Object> elements) {
+		for (TreeItem item : getTree().getItems()) {
+			applyCheckState(item, elements, false);
+		}
+	}
+
+	private void applyCheckState(TreeItem item, Set<Object> elements, boolean parentChecked) {
+		Object data = item.getData();
+		boolean checked = parentChecked || (data != null && elements.contains(data));
+		boolean hasChildren = false;
+		boolean containsChecked = false;
+		boolean containsUnchecked = false;
+		for (TreeItem child : item.getItems()) {
+			if (child.getData() == null) {
+				// dummy item of a collapsed parent
+				continue;
+			}
+			hasChildren = true;
+			applyCheckState(child, elements, checked);
+			containsChecked |= child.getChecked();
+			containsUnchecked |= !child.getChecked() || child.getGrayed();
+		}
+		if (hasChildren) {
+			item.setChecked(containsChecked);
+			item.setGrayed(containsChecked && containsUnchecked);
+		} else {
+			item.setChecked(checked);
+			item.setGrayed(false);
+		}
+	}
+
+	private void updateChildItems(TreeItem parent, boolean state) {
+		for (TreeItem child : parent.getItems()) {
+			if (child.getData() != null && (child.getChecked() != state || child.getGrayed())) {
+				child.setChecked(state);
+				child.setGrayed(false);
+				updateChildItems(child, state);
+			}
+		}
+	}
+
+	private void updateParentItem(TreeItem parent) {
+		boolean containsChecked = false;
+		boolean containsUnchecked = false;
+		for (TreeItem child : parent.getItems()) {
+			containsChecked |= child.getChecked();
+			containsUnchecked |= !child.getChecked() || child.getGrayed();
+		}
+		parent.setChecked(containsChecked);
+		parent.setGrayed(containsChecked && containsUnchecked);
+	}
+
+	private static int getDepth(TreeItem item) {
+		int depth = 0;
+		for (TreeItem parent = item.getParentItem(); parent != null; parent = parent.getParentItem()) {
+			depth++;
+		}
+		return depth;
 	}
 
 	@Override
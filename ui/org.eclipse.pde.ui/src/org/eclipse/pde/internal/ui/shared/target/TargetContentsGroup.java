@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2022 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -49,6 +49,7 @@ import org.eclipse.jface.action.MenuManager;
 import org.eclipse.jface.dialogs.ProgressMonitorDialog;
 import org.eclipse.jface.operation.IRunnableWithProgress;
 import org.eclipse.jface.viewers.IBasicPropertyConstants;
+import org.eclipse.jface.viewers.ILabelProvider;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.jface.viewers.TreeViewer;
@@ -278,6 +279,27 @@ public class TargetContentsGroup {
 		});
 		fTree.addSelectionChangedListener(event -> updateButtons());
 		fTree.setComparator(new ViewerComparator() {
+			/**
+			 * Labels of the elements being sorted, computed once per element
+			 * rather than twice per comparison
+			 */
+			private Map<Object, String> fLabels;
+
+			@Override
+			public void sort(Viewer viewer, Object[] elements) {
+				ILabelProvider labelProvider = (ILabelProvider) fTree.getLabelProvider();
+				fLabels = new HashMap<>();
+				for (Object element : elements) {
+					String label = labelProvider.getText(element);
+					fLabels.put(element, label == null ? "" : label); //$NON-NLS-1$
+				}
+				try {
+					super.sort(viewer, elements);
+				} finally {
+					fLabels = null;
+				}
+			}
+
 			@Override
 			public int compare(Viewer viewer, Object e1, Object e2) {
 				if (fFeaureModeButton.getSelection()) {
@@ -304,6 +326,9 @@ public class TargetContentsGroup {
 						return 1;
 					}
 				}
+				if (fLabels != null) {
+					return getComparator().compare(fLabels.get(e1), fLabels.get(e2));
+				}
 				return super.compare(viewer, e1, e2);
 			}
 
@@ -467,20 +492,14 @@ public class TargetContentsGroup {
 
 		fSelectButton.addSelectionListener(widgetSelectedAdapter(e -> {
 			if (!fTree.getSelection().isEmpty()) {
-				Object[] selected = fTree.getStructuredSelection().toArray();
-				for (Object selectedObject : selected) {
-					fTree.setChecked(selectedObject, true);
-				}
+				fTree.setElementsChecked(fTree.getStructuredSelection().toArray(), true);
 				handleTreeStateChange();
 			}
 		}));
 
 		fDeselectButton.addSelectionListener(widgetSelectedAdapter(e -> {
 			if (!fTree.getSelection().isEmpty()) {
-				Object[] selected = fTree.getStructuredSelection().toArray();
-				for (Object selectedObject : selected) {
-					fTree.setChecked(selectedObject, false);
-				}
+				fTree.setElementsChecked(fTree.getStructuredSelection().toArray(), false);
 				handleTreeStateChange();
 			}
 		}));
@@ -503,9 +522,7 @@ public class TargetContentsGroup {
 			} else {
 				required.addAll(getRequiredPlugins(fAllBundles, allChecked));
 			}
-			for (Object requiredObject : required) {
-				fTree.setChecked(requiredObject, true);
-			}
+			fTree.setElementsChecked(required.toArray(), true);
 			handleTreeStateChange();
 		}));
 
@@ -1150,8 +1167,13 @@ public class TargetContentsGroup {
 			if (fGrouping == GROUP_BY_NONE || element instanceof TargetBundle) {
 				return false;
 			}
-			if (element instanceof ITargetLocation || element instanceof IPath) {
-				return getBundleChildren(element).length > 0;
+			if (fGrouping == GROUP_BY_CONTAINER && element instanceof ITargetLocation container) {
+				TargetBundle[] bundles = container.getBundles();
+				return bundles != null && bundles.length > 0;
+			}
+			if (fGrouping == GROUP_BY_FILE_LOC && element instanceof IPath) {
+				// the mapping only holds non-empty lists
+				return getFileBundleMapping().containsKey(element);
 			}
 			return false;
 		}
@@ -1191,10 +1213,8 @@ public class TargetContentsGroup {
 					result.addAll(Arrays.asList(fTargetDefinition.getTargetLocations()));
 				} else if (fGrouping == GROUP_BY_NONE) {
 					// Missing bundles are already handled by adding to fMissing, avoid adding twice
-					TargetBundle[] allBundles = fTargetDefinition.getAllBundles();
-					for (TargetBundle bundle : allBundles) {
+					for (TargetBundle bundle : fAllBundles) {
 						if (bundle.getStatus().isOK()) {
-							// Assume that if the bundle is OK, it has a symbolic name
 							result.add(bundle);
 						}
 					}
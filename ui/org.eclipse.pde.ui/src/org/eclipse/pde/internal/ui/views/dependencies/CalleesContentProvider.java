@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2017 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,6 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.ui.views.dependencies;
 
-import java.util.HashMap;
-import java.util.LinkedHashMap;
-
 import org.eclipse.osgi.service.resolver.BaseDescription;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.BundleSpecification;
@@ -23,7 +20,6 @@ import org.eclipse.osgi.service.resolver.ExportPackageDescription;
 import org.eclipse.osgi.service.resolver.HostSpecification;
 import org.eclipse.osgi.service.resolver.ImportPackageSpecification;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
-import org.osgi.framework.Constants;
 
 public class CalleesContentProvider extends DependenciesViewPageContentProvider {
 	private BundleDescription fFragmentDescription;
@@ -75,45 +71,7 @@ public class CalleesContentProvider extends DependenciesViewPageContentProvider
 	}
 
 	private Object[] getDependencies(BundleDescription desc) {
-		// use map to store dependencies so if Import-Package is supplied by same BundleDescription as supplier of Require-Bundle, it only shows up once
-		// Also, have to use BundleSpecficiation instead of BundleDescroption to show re-exported icon on re-exported Required-Bundles
-		// Have to use ImportPackageSpecification to determine if an import is optional and should be filtered.
-		HashMap<Object, Object> dependencies = new LinkedHashMap<>();
-		BundleSpecification[] requiredBundles = desc.getRequiredBundles();
-		for (BundleSpecification requiredBundle : requiredBundles) {
-			BaseDescription bd = requiredBundle.getSupplier();
-			if (bd != null)
-				dependencies.put(bd, requiredBundle);
-			else
-				dependencies.put(requiredBundle, requiredBundle);
-		}
-		ImportPackageSpecification[] importedPkgs = desc.getImportPackages();
-		for (int i = 0; i < importedPkgs.length; i++) {
-			BaseDescription bd = importedPkgs[i].getSupplier();
-			if (bd != null && bd instanceof ExportPackageDescription) {
-				BundleDescription exporter = ((ExportPackageDescription) bd).getExporter();
-				if (exporter == desc)
-					continue;
-				if (exporter != null) {
-					Object obj = dependencies.get(exporter);
-					if (obj == null) {
-						dependencies.put(exporter, importedPkgs[i]);
-					} else if (!Constants.RESOLUTION_OPTIONAL.equals(importedPkgs[i].getDirective(Constants.RESOLUTION_DIRECTIVE)) && obj instanceof ImportPackageSpecification && Constants.RESOLUTION_OPTIONAL.equals(((ImportPackageSpecification) obj).getDirective(Constants.RESOLUTION_DIRECTIVE))) {
-						// if we have a non-optional Import-Package dependency on a bundle which we already depend on, check to make sure our
-						// current dependency is not optional.  If it is, replace the optional dependency with the non-optional one
-						dependencies.put(exporter, importedPkgs[i]);
-					}
-				}
-			}
-			// ignore unresolved packages
-		}
-		// include fragments which are "linked" to this bundle
-		BundleDescription frags[] = desc.getFragments();
-		for (int i = 0; i < frags.length; i++) {
-			if (!frags[i].equals(fFragmentDescription))
-				dependencies.put(frags[i], frags[i]);
-		}
-		return dependencies.values().toArray();
+		return DependencyGraph.of(desc).getDependencies(desc, fFragmentDescription);
 	}
 
 }
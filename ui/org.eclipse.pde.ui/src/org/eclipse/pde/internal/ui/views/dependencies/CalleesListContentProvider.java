@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2015 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -51,46 +51,61 @@ public class CalleesListContentProvider extends CalleesContentProvider implement
 	 */
 	@Override
 	public Object[] getElements(Object inputElement) {
-		if (inputElement instanceof IPluginModelBase) {
-			Map<String, Object> elements = new LinkedHashMap<>();
-			Set<Object> candidates = new LinkedHashSet<>();
-			candidates.addAll(Arrays.asList(findCallees(((IPluginModelBase) inputElement))));
+		if (inputElement instanceof IPluginModelBase model) {
+			BundleDescription desc = model.getBundleDescription();
+			if (desc == null)
+				return new Object[0];
+			// findCallees(model) remembers whether the input is a fragment,
+			// but only for the walk below, which sets it again for every
+			// input. A cached result therefore needs no walk.
+			return DependencyGraph.of(desc).getAllDependencies(desc, fShowOptional, () -> findAllCallees(model));
+		}
+		return new Object[0];
+	}
 
-			while (!candidates.isEmpty()) {
-				Set<Object> newCandidates = new HashSet<>();
-				for (Iterator<Object> it = candidates.iterator(); it.hasNext();) {
-					Object candidate = it.next();
-					BundleDescription desc = null;
-					it.remove();
-					if (candidate instanceof BundleSpecification) {
-						if (!fShowOptional && ((BundleSpecification) candidate).isOptional())
-							continue;
-						desc = (BundleDescription) ((BundleSpecification) candidate).getSupplier();
-						// include unresolved require-bundles
-						if (desc == null)
-							elements.put(((BundleSpecification) candidate).getName(), candidate);
-					} else if (candidate instanceof BundleDescription) {
-						desc = (BundleDescription) candidate;
-					} else if (candidate instanceof ImportPackageSpecification) {
-						if (!fShowOptional && Constants.RESOLUTION_OPTIONAL.equals(((ImportPackageSpecification) candidate).getDirective(Constants.RESOLUTION_DIRECTIVE)))
-							continue;
-						desc = ((ExportPackageDescription) (((ImportPackageSpecification) candidate).getSupplier())).getExporter();
-					}
+	/**
+	 * Returns all dependencies of the given plug-in, directly or not, walking
+	 * the dependencies of each bundle instead of using the cached result of
+	 * {@link #getElements(Object)}
+	 */
+	public Object[] findAllCallees(IPluginModelBase model) {
+		Map<String, Object> elements = new LinkedHashMap<>();
+		Set<Object> candidates = new LinkedHashSet<>();
+		candidates.addAll(Arrays.asList(findCallees(model)));
+
+		while (!candidates.isEmpty()) {
+			Set<Object> newCandidates = new HashSet<>();
+			for (Iterator<Object> it = candidates.iterator(); it.hasNext();) {
+				Object candidate = it.next();
+				BundleDescription desc = null;
+				it.remove();
+				if (candidate instanceof BundleSpecification) {
+					if (!fShowOptional && ((BundleSpecification) candidate).isOptional())
+						continue;
+					desc = (BundleDescription) ((BundleSpecification) candidate).getSupplier();
+					// include unresolved require-bundles
 					if (desc == null)
+						elements.put(((BundleSpecification) candidate).getName(), candidate);
+				} else if (candidate instanceof BundleDescription) {
+					desc = (BundleDescription) candidate;
+				} else if (candidate instanceof ImportPackageSpecification) {
+					if (!fShowOptional && Constants.RESOLUTION_OPTIONAL.equals(((ImportPackageSpecification) candidate).getDirective(Constants.RESOLUTION_DIRECTIVE)))
 						continue;
-					IPluginModelBase callee = PluginRegistry.findModel(desc.getSymbolicName());
-					if (!elements.containsKey(desc.getSymbolicName())) {
-						elements.put(desc.getSymbolicName(), candidate);
-						if (callee != null) {
-							newCandidates.addAll(Arrays.asList(findCallees(desc)));
-						}
+					desc = ((ExportPackageDescription) (((ImportPackageSpecification) candidate).getSupplier())).getExporter();
+				}
+				if (desc == null)
+					continue;
+				IPluginModelBase callee = PluginRegistry.findModel(desc.getSymbolicName());
+				if (!elements.containsKey(desc.getSymbolicName())) {
+					elements.put(desc.getSymbolicName(), candidate);
+					if (callee != null) {
+						newCandidates.addAll(Arrays.asList(findCallees(desc)));
 					}
 				}
-				candidates = newCandidates;
-
 			}
-			return elements.values().toArray();
+			candidates = newCandidates;
+
 		}
-		return new Object[0];
+		return elements.values().toArray();
 	}
 }
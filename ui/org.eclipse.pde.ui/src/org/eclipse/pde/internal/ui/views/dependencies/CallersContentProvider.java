@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2017 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,6 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.ui.views.dependencies;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -26,13 +25,7 @@ public class CallersContentProvider extends DependenciesViewPageContentProvider
 
 	protected Collection<BundleDescription> findReferences(BundleDescription desc) {
 		if (desc != null) {
-			// don't return any callers for fragments (since no one can depend on a fragment
-			if (desc.getHost() == null) {
-				BundleDescription[] dependents = desc.getDependents();
-				return Arrays.asList(dependents);
-			}
-			// for fragment, need to get the host bundle
-			return Arrays.asList(desc.getHost().getHosts());
+			return DependencyGraph.of(desc).getReferences(desc);
 		}
 		return Collections.emptyList();
 	}
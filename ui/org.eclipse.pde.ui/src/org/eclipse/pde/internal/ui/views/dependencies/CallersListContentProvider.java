@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2015 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,6 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.ui.views.dependencies;
 
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Set;
-
 import org.eclipse.jface.viewers.IStructuredContentProvider;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
@@ -40,24 +36,7 @@ public class CallersListContentProvider extends CallersContentProvider implement
 			desc = (BundleDescription) inputElement;
 		}
 		if (desc != null) {
-			Set<BundleDescription> callers = new HashSet<>();
-			Set<BundleDescription> candidates = new HashSet<>();
-			candidates.addAll(findReferences(desc));
-			while (!candidates.isEmpty()) {
-				Set<BundleDescription> newCandidates = new HashSet<>();
-				for (Iterator<BundleDescription> it = candidates.iterator(); it.hasNext();) {
-					BundleDescription o = it.next();
-					it.remove();
-					if (!callers.contains(o)) {
-						callers.add(o);
-						newCandidates.addAll(findReferences(o));
-					}
-				}
-				candidates = newCandidates;
-
-			}
-
-			return callers.toArray();
+			return DependencyGraph.of(desc).getAllReferences(desc).toArray();
 		}
 		return new Object[0];
 	}
@@ -0,0 +1,191 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.ui.views.dependencies;
+
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.eclipse.osgi.service.resolver.BaseDescription;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.BundleSpecification;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.ImportPackageSpecification;
+import org.eclipse.osgi.service.resolver.State;
+import org.osgi.framework.Constants;
+
+/**
+ * The dependencies between the bundles of a {@link State}, computed on first
+ * use and kept until the state changes. The edges to the bundles a bundle
+ * depends on are its {@link BundleSpecification}s and
+ * {@link ImportPackageSpecification}s, which tell whether a dependency is
+ * optional or re-exported, and its fragments. The edges to the bundles that
+ * depend on a bundle are taken from the resolved state. The transitive
+ * closures shown by the list pages are remembered as well.
+ * <p>
+ * The graph only refers to its state weakly, and the graph of the last used
+ * state is held softly, so that a state replaced by a new target platform
+ * can be collected even while the Plug-in Dependencies view is not used.
+ * </p>
+ */
+final class DependencyGraph {
+
+	private static Reference<DependencyGraph> fgGraph = new SoftReference<>(null);
+
+	private final Reference<State> fState;
+	private final long fTimeStamp;
+	private final Map<BundleDescription, Map<Object, Object>> fDependencies = new HashMap<>();
+	private final Map<BundleDescription, Collection<BundleDescription>> fReferences = new HashMap<>();
+	private final Map<List<Object>, Object[]> fAllDependencies = new HashMap<>();
+	private final Map<BundleDescription, Set<BundleDescription>> fAllReferences = new HashMap<>();
+
+	private DependencyGraph(State state) {
+		fState = new WeakReference<>(state);
+		fTimeStamp = state == null ? -1 : state.getTimeStamp();
+	}
+
+	/**
+	 * Returns the graph of the state containing the given bundle. A bundle
+	 * that no longer belongs to a state gets a graph of its own.
+	 */
+	static synchronized DependencyGraph of(BundleDescription desc) {
+		State state = desc.getContainingState();
+		if (state == null) {
+			return new DependencyGraph(null);
+		}
+		DependencyGraph graph = fgGraph.get();
+		if (graph == null || graph.fState.get() != state || graph.fTimeStamp != state.getTimeStamp()) {
+			graph = new DependencyGraph(state);
+			fgGraph = new SoftReference<>(graph);
+		}
+		return graph;
+	}
+
+	/**
+	 * Returns the direct dependencies of the given bundle, as the
+	 * {@link BundleSpecification}, {@link ImportPackageSpecification} or
+	 * fragment {@link BundleDescription} causing them.
+	 *
+	 * @param desc the bundle to get the dependencies of
+	 * @param excludedFragment a fragment to leave out, or <code>null</code>
+	 */
+	Object[] getDependencies(BundleDescription desc, BundleDescription excludedFragment) {
+		Map<Object, Object> dependencies = fDependencies.computeIfAbsent(desc, DependencyGraph::computeDependencies);
+		Map<Object, Object> result = new LinkedHashMap<>(dependencies);
+		// include fragments which are "linked" to this bundle
+		for (BundleDescription fragment : desc.getFragments()) {
+			if (!fragment.equals(excludedFragment)) {
+				result.put(fragment, fragment);
+			}
+		}
+		return result.values().toArray();
+	}
+
+	/**
+	 * Returns the bundles directly depending on the given bundle, or the hosts
+	 * of a fragment
+	 */
+	Collection<BundleDescription> getReferences(BundleDescription desc) {
+		return fReferences.computeIfAbsent(desc, d -> {
+			// don't return any callers for fragments (since no one can depend on a fragment
+			if (d.getHost() == null) {
+				return Arrays.asList(d.getDependents());
+			}
+			// for fragment, need to get the host bundle
+			return Arrays.asList(d.getHost().getHosts());
+		});
+	}
+
+	/**
+	 * Returns all bundles depending on the given bundle, directly or not
+	 */
+	Set<BundleDescription> getAllReferences(BundleDescription desc) {
+		Set<BundleDescription> callers = fAllReferences.get(desc);
+		if (callers == null) {
+			callers = new HashSet<>();
+			Set<BundleDescription> candidates = new HashSet<>(getReferences(desc));
+			while (!candidates.isEmpty()) {
+				Set<BundleDescription> newCandidates = new HashSet<>();
+				for (Iterator<BundleDescription> it = candidates.iterator(); it.hasNext();) {
+					BundleDescription o = it.next();
+					it.remove();
+					if (callers.add(o)) {
+						newCandidates.addAll(getReferences(o));
+					}
+				}
+				candidates = newCandidates;
+			}
+			callers = Collections.unmodifiableSet(callers);
+			fAllReferences.put(desc, callers);
+		}
+		return callers;
+	}
+
+	/**
+	 * Returns the dependencies of the given bundle collected by the given
+	 * supplier, computing them only once per state
+	 *
+	 * @param desc the bundle to get the dependencies of
+	 * @param showOptional whether optional dependencies are included
+	 * @param closure computes all dependencies of the bundle
+	 */
+	Object[] getAllDependencies(BundleDescription desc, boolean showOptional, Supplier<Object[]> closure) {
+		return fAllDependencies.computeIfAbsent(List.of(desc, Boolean.valueOf(showOptional)), k -> closure.get()).clone();
+	}
+
+	private static Map<Object, Object> computeDependencies(BundleDescription desc) {
+		// use map to store dependencies so if Import-Package is supplied by same BundleDescription as supplier of Require-Bundle, it only shows up once
+		// Also, have to use BundleSpecficiation instead of BundleDescroption to show re-exported icon on re-exported Required-Bundles
+		// Have to use ImportPackageSpecification to determine if an import is optional and should be filtered.
+		Map<Object, Object> dependencies = new LinkedHashMap<>();
+		for (BundleSpecification requiredBundle : desc.getRequiredBundles()) {
+			BaseDescription bd = requiredBundle.getSupplier();
+			if (bd != null)
+				dependencies.put(bd, requiredBundle);
+			else
+				dependencies.put(requiredBundle, requiredBundle);
+		}
+		for (ImportPackageSpecification importedPkg : desc.getImportPackages()) {
+			BaseDescription bd = importedPkg.getSupplier();
+			if (bd instanceof ExportPackageDescription) {
+				BundleDescription exporter = ((ExportPackageDescription) bd).getExporter();
+				if (exporter == desc)
+					continue;
+				if (exporter != null) {
+					Object obj = dependencies.get(exporter);
+					if (obj == null) {
+						dependencies.put(exporter, importedPkg);
+					} else if (!Constants.RESOLUTION_OPTIONAL.equals(importedPkg.getDirective(Constants.RESOLUTION_DIRECTIVE)) && obj instanceof ImportPackageSpecification && Constants.RESOLUTION_OPTIONAL.equals(((ImportPackageSpecification) obj).getDirective(Constants.RESOLUTION_DIRECTIVE))) {
+						// if we have a non-optional Import-Package dependency on a bundle which we already depend on, check to make sure our
+						// current dependency is not optional.  If it is, replace the optional dependency with the non-optional one
+						dependencies.put(exporter, importedPkg);
+					}
+				}
+			}
+			// ignore unresolved packages
+		}
+		return dependencies;
+	}
+}
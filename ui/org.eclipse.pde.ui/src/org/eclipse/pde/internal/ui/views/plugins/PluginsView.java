@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,8 +21,11 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -95,6 +98,7 @@ import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
 import org.eclipse.ui.IActionBars;
 import org.eclipse.ui.IEditorInput;
 import org.eclipse.ui.IPageLayout;
@@ -866,27 +870,79 @@ public class PluginsView extends ViewPart implements IPluginModelListener {
 			return;
 
 		fTreeViewer.getTree().getDisplay().asyncExec(() -> {
-			int kind = delta.getKind();
 			if (fTreeViewer.getTree().isDisposed())
 				return;
-			if ((kind & PluginModelDelta.CHANGED) != 0 || (kind & PluginModelDelta.REMOVED) != 0) {
-				// Don't know exactly what change -
-				// the safest way out is to refresh
-				fTreeViewer.refresh();
-			} else if ((kind & PluginModelDelta.ADDED) != 0) {
-				ModelEntry[] added = delta.getAddedEntries();
-				for (ModelEntry element : added) {
-					IPluginModelBase[] models = getModels(element);
-					for (IPluginModelBase model : models) {
-						if (isVisible(model))
-							fTreeViewer.add(fRoot, model);
-					}
-				}
+			Tree tree = fTreeViewer.getTree();
+			tree.setRedraw(false);
+			try {
+				applyDelta(delta);
+			} finally {
+				tree.setRedraw(true);
 			}
 			updateContentDescription();
 		});
 	}
 
+	/**
+	 * Adds, removes and refreshes only the plug-ins of the entries in the
+	 * given delta, so the other rows keep their items and labels
+	 */
+	private void applyDelta(PluginModelDelta delta) {
+		Map<String, ModelEntry> entries = new HashMap<>();
+		for (ModelEntry entry : delta.getRemovedEntries()) {
+			entries.put(entry.getId(), null);
+		}
+		for (ModelEntry entry : delta.getAddedEntries()) {
+			entries.put(entry.getId(), entry);
+		}
+		for (ModelEntry entry : delta.getChangedEntries()) {
+			entries.put(entry.getId(), entry);
+		}
+		if (entries.isEmpty())
+			return;
+
+		if (fTreeViewer.getInput() != fRoot) {
+			// drilled into a plug-in, refresh what is shown
+			fTreeViewer.refresh();
+			return;
+		}
+		// Plug-ins currently shown for the entries of the delta
+		Set<IPluginModelBase> shown = new LinkedHashSet<>();
+		for (TreeItem item : fTreeViewer.getTree().getItems()) {
+			if (!(item.getData() instanceof IPluginModelBase model)) {
+				// still loading, the safest way out is to refresh
+				fTreeViewer.refresh();
+				return;
+			}
+			if (entries.containsKey(model.getPluginBase().getId()))
+				shown.add(model);
+		}
+
+		List<IPluginModelBase> added = new ArrayList<>();
+		List<IPluginModelBase> changed = new ArrayList<>();
+		for (ModelEntry entry : entries.values()) {
+			if (entry == null)
+				continue;
+			for (IPluginModelBase model : getModels(entry)) {
+				if (!isVisible(model))
+					continue;
+				if (shown.remove(model)) {
+					changed.add(model);
+				} else {
+					added.add(model);
+				}
+			}
+		}
+		// whatever is left is no longer shown
+		if (!shown.isEmpty())
+			fTreeViewer.remove(shown.toArray());
+		if (!added.isEmpty())
+			fTreeViewer.add(fRoot, added.toArray());
+		for (IPluginModelBase model : changed) {
+			fTreeViewer.refresh(model, true);
+		}
+	}
+
 	private IPluginModelBase[] getModels(ModelEntry entry) {
 		return (entry.hasWorkspaceModels()) ? entry.getWorkspaceModels() : entry.getExternalModels();
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -27,6 +28,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.zip.ZipException;
 import java.util.zip.ZipFile;
 
@@ -138,6 +144,29 @@ public class PluginImportOperation extends WorkspaceJob {
 
 	private boolean fPluginsAreInUse = false;
 
+	/**
+	 * Maps the plug-ins being imported to their source lookup, see
+	 * {@link #lookUpSources()}
+	 */
+	private final Map<IPluginModelBase, SourceLookup> fSourceLookups = new ConcurrentHashMap<>();
+
+	/**
+	 * Where the source of a plug-in can be found
+	 *
+	 * @param manager the most relevant source manager for the plug-in or
+	 *            <code>null</code>
+	 * @param canFindSource whether source was found in a source location or in
+	 *            the plug-in itself
+	 * @param sourcePaths maps library names to their source archive
+	 * @param sourcePlugin the source bundle or folder or <code>null</code>
+	 * @param bundleManifestLocation whether the source is an individual source
+	 *            bundle
+	 * @param sourceRoots the source roots of the individual source bundle
+	 */
+	private record SourceLookup(SourceLocationManager manager, boolean canFindSource, Map<String, IPath> sourcePaths,
+			File sourcePlugin, boolean bundleManifestLocation, Set<String> sourceRoots) {
+	}
+
 	/**
 	 * Constructor
 	 * @param models models of plug-ins to import
@@ -277,6 +306,7 @@ public class PluginImportOperation extends WorkspaceJob {
 				}
 			}
 		} else {
+			lookUpSources();
 			for (IPluginModelBase model : fModels) {
 				subMonitor.setTaskName(NLS.bind(PDEUIMessages.PluginImportOperation_Importing_plugin,
 						model.getPluginBase().getId()));
@@ -504,7 +534,7 @@ public class PluginImportOperation extends WorkspaceJob {
 
 		// Perform the import
 		Map<String, IPath> sourceMap = null;
-		if (importType == IMPORT_BINARY || (importType == IMPORT_WITH_SOURCE && !canFindSource(model))) {
+		if (importType == IMPORT_BINARY || (importType == IMPORT_WITH_SOURCE && !getSourceLookup(model).canFindSource())) {
 			sourceMap = importAsBinary(project, model, subMonitor.split(4));
 		} else if (importType == IMPORT_BINARY_WITH_LINKS) {
 			sourceMap = importAsBinaryWithLinks(project, model, subMonitor.split(4));
@@ -779,17 +809,81 @@ public class PluginImportOperation extends WorkspaceJob {
 	}
 
 	/**
-	 * Checks if we have a source location for the given model
-	 * @param model model to lookup source for
-	 * @return true if source was found for at least one library, false otherwise
+	 * Looks up the source of all plug-ins to import in parallel when they are
+	 * imported with their source or with copies of their source archives.
+	 * Searching the source locations and the plug-in archives does not touch
+	 * the workspace, so it is done before the plug-ins are imported one after
+	 * the other. The lookups block on I/O, so they run on a pool of their own.
 	 */
-	private boolean canFindSource(IPluginModelBase model) {
-		// Check the manager(s) for source
-		if (getSourceManager(model) != null) {
-			return true;
+	private void lookUpSources() {
+		if ((fImportType != IMPORT_WITH_SOURCE && fImportType != IMPORT_BINARY) || fModels.length < 2) {
+			return;
+		}
+		// initialize the source locations before the managers are shared
+		// between threads
+		initializeSourceLocations(PDECore.getDefault().getSourceLocationManager());
+		if (fAlternateSource != null) {
+			initializeSourceLocations(fAlternateSource);
+		}
+		int threads = Math.min(Runtime.getRuntime().availableProcessors(), fModels.length);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<SourceLookup>> lookups = new ArrayList<>(fModels.length);
+			for (IPluginModelBase model : fModels) {
+				lookups.add(executor.submit(() -> getSourceLookup(model)));
+			}
+			for (Future<SourceLookup> lookup : lookups) {
+				lookup.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			// looked up again when the plug-in is imported
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void initializeSourceLocations(SourceLocationManager manager) {
+		manager.getExtensionLocations();
+		manager.getBundleManifestLocations();
+	}
+
+	/**
+	 * Returns where the source of the given plug-in can be found, looking it
+	 * up if that was not done before
+	 */
+	private SourceLookup getSourceLookup(IPluginModelBase model) {
+		return fSourceLookups.computeIfAbsent(model, this::lookUpSource);
+	}
+
+	private SourceLookup lookUpSource(IPluginModelBase model) {
+		SourceLocationManager manager = getSourceManager(model);
+		if (manager == null) {
+			boolean canFindSource = fImportType == IMPORT_WITH_SOURCE && hasInternalSource(model);
+			return new SourceLookup(null, canFindSource, Collections.emptyMap(), null, false, Collections.emptySet());
+		}
+		IPluginBase pluginBase = model.getPluginBase();
+		Map<String, IPath> sourcePaths = new HashMap<>();
+		for (String library : getLibraryNames(model)) {
+			String zipName = ClasspathUtilCore.getSourceZipName(library);
+			IPath srcPath = manager.findSourcePath(pluginBase, IPath.fromOSString(zipName));
+			if (srcPath != null) {
+				sourcePaths.put(library, srcPath);
+			}
 		}
+		boolean bundleManifestLocation = manager.hasBundleManifestLocation(pluginBase);
+		Set<String> sourceRoots = bundleManifestLocation ? manager.findSourceRoots(pluginBase) : Collections.emptySet();
+		return new SourceLookup(manager, true, sourcePaths, manager.findSourcePlugin(pluginBase),
+				bundleManifestLocation, sourceRoots);
+	}
 
-		// Check for source inside the binary plug-in
+	/**
+	 * Checks if the given model has source inside the binary plug-in
+	 * @param model model to lookup source for
+	 * @return true if the plug-in contains a source folder, false otherwise
+	 */
+	private boolean hasInternalSource(IPluginModelBase model) {
 		if (isJARd(model)) {
 			try (ZipFile zip = new ZipFile(new File(model.getInstallLocation()))) {
 				IImportStructureProvider provider = new ZipFileStructureProvider(zip);
@@ -902,16 +996,14 @@ public class PluginImportOperation extends WorkspaceJob {
 				libraries.length);
 
 		Map<String, IPath> sourceMap = new HashMap<>(libraries.length);
-		SourceLocationManager manager = getSourceManager(model);
-		if (manager != null) {
+		SourceLookup lookup = getSourceLookup(model);
+		if (lookup.manager() != null) {
 			for (int i = 0; i < libraries.length; i++) {
 				subMonitor.setWorkRemaining(libraries.length - i);
-				String zipName = ClasspathUtilCore.getSourceZipName(libraries[i]);
-				IPluginBase pluginBase = model.getPluginBase();
 				// check default locations
-				IPath srcPath = manager.findSourcePath(pluginBase, IPath.fromOSString(zipName));
+				IPath srcPath = lookup.sourcePaths().get(libraries[i]);
 				if (srcPath != null) {
-					zipName = srcPath.lastSegment();
+					String zipName = srcPath.lastSegment();
 					IPath dstPath = IPath.fromOSString(zipName);
 					sourceMap.put(libraries[i], dstPath);
 					if (project.findMember(dstPath) == null) {
@@ -946,13 +1038,13 @@ public class PluginImportOperation extends WorkspaceJob {
 		SubMonitor subMonitor = SubMonitor.convert(monitor, PDEUIMessages.ImportWizard_operation_importingSource,
 				libraries.length);
 
-		SourceLocationManager manager = getSourceManager(model);
-		if (manager != null) {
+		SourceLookup lookup = getSourceLookup(model);
+		if (lookup.manager() != null) {
 
 			// Check if we have new style individual source bundles
-			if (manager.hasBundleManifestLocation(model.getPluginBase())) {
-				File srcFile = manager.findSourcePlugin(model.getPluginBase());
-				Set<String> sourceRoots = manager.findSourceRoots(model.getPluginBase());
+			if (lookup.bundleManifestLocation()) {
+				File srcFile = lookup.sourcePlugin();
+				Set<String> sourceRoots = lookup.sourceRoots();
 				for (String library : libraries) {
 					if (library.equals(DEFAULT_LIBRARY_NAME)) {
 						// Need to pull out any java source that is not in
@@ -990,8 +1082,7 @@ public class PluginImportOperation extends WorkspaceJob {
 			// name/location and extract it to the project
 			boolean sourceFound = false;
 			for (String library : libraries) {
-				String zipName = ClasspathUtilCore.getSourceZipName(library);
-				IPath srcPath = manager.findSourcePath(model.getPluginBase(), IPath.fromOSString(zipName));
+				IPath srcPath = lookup.sourcePaths().get(library);
 				if (srcPath != null) {
 					sourceFound = true;
 					IPath dstPath = IPath.fromOSString(getSourceDirName(library));
@@ -1084,9 +1175,9 @@ public class PluginImportOperation extends WorkspaceJob {
 	 */
 	private void importAdditionalSourceFiles(IProject project, IPluginModelBase model, IProgressMonitor monitor)
 			throws CoreException {
-		SourceLocationManager manager = getSourceManager(model);
-		if (manager != null) {
-			File sourceLocation = manager.findSourcePlugin(model.getPluginBase());
+		SourceLookup lookup = getSourceLookup(model);
+		if (lookup.manager() != null) {
+			File sourceLocation = lookup.sourcePlugin();
 			if (sourceLocation != null) {
 				if (sourceLocation.isFile()) {
 					try (ZipFile zip = new ZipFile(sourceLocation)) {